@@ -0,0 +1,130 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * VolatileImage(VRAM)에 올려 두고 그리는 스프라이트
+ * - 자주 그려지는 스프라이트(몬스터 프레임, 총알, 배경)용
+ * - 표면이 사라지면(content loss) 관리 이미지로부터 자동 복구
+ * - 가속을 쓸 수 없는 환경이면 관리 이미지(BufferedImage)로 그대로 그림
+ * - 화면이 아닌 대상(BufferedImage 레이어/캐시, 헤드리스)에 그릴 때는 그 그리기만 관리 이미지 사용
+ */
+public class AcceleratedSprite extends Sprite {
+    /** 복구 원본이자 가속 불가 시 사용하는 관리 이미지 */
+    private final BufferedImage managed;
+    /** VRAM 에 올라간 사본 (없으면 null) */
+    private VolatileImage volatileImage;
+    /** 가속 생성이 실패한 화면 구성 — 같은 구성에는 다시 시도하지 않음 (다른 화면/구성은 다시 시도) */
+    private GraphicsConfiguration failedConfig;
+
+    public AcceleratedSprite(BufferedImage managed, String ref) {
+        super(managed, ref);
+        this.managed = managed;
+    }
+
+    @Override
+    public void draw(Graphics g, int x, int y) {
+        VolatileImage v = validate(g);
+        if (v == null) {
+            super.draw(g, x, y);
+            return;
+        }
+        g.drawImage(v, x, y, null);
+        if (v.contentsLost()) {
+            // 그리는 도중 표면을 잃었으면 이번 프레임은 관리 이미지로 다시 그림
+            super.draw(g, x, y);
+        }
+    }
+
+    @Override
+    public void drawScaled(Graphics g, int x, int y, int w, int h) {
+        VolatileImage v = validate(g);
+        if (v == null) {
+            super.drawScaled(g, x, y, w, h);
+            return;
+        }
+        g.drawImage(v, x, y, w, h, null);
+        if (v.contentsLost()) {
+            super.drawScaled(g, x, y, w, h);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (volatileImage != null) {
+            volatileImage.flush();
+            volatileImage = null;
+        }
+        super.flush();
+    }
+
+    /**
+     * 대상 그래픽 장치에 맞게 VolatileImage 를 검증/복구한다.
+     *
+     * @param g 그릴 대상
+     * @return 그려도 되는 VolatileImage, 가속을 쓸 수 없으면 null
+     */
+    private VolatileImage validate(Graphics g) {
+        if (!SpriteStore.get().isAccelerationEnabled() || !(g instanceof Graphics2D)) {
+            return null;
+        }
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        if (gc == null || gc == failedConfig) return null;
+        if (gc.getDevice().getType() != GraphicsDevice.TYPE_RASTER_SCREEN) {
+            // 이미지/프린터 대상은 VRAM 사본 이득이 없음 → 이번 그리기만 관리 이미지 (화면용 사본은 그대로 둠)
+            return null;
+        }
+
+        try {
+            if (volatileImage == null) {
+                return create(gc);
+            }
+            int status = volatileImage.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatileImage.flush();
+                return create(gc);
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                restore();
+            }
+            return volatileImage;
+        } catch (RuntimeException e) {
+            // 일부 파이프라인은 VolatileImage 생성 자체를 지원하지 않음 → 관리 이미지로 전환
+            System.err.println("⚠️ 가속 스프라이트 사용 불가 (" + getRef() + "): " + e.getMessage());
+            failedConfig = gc;
+            volatileImage = null;
+            return null;
+        }
+    }
+
+    private VolatileImage create(GraphicsConfiguration gc) {
+        volatileImage = gc.createCompatibleVolatileImage(managed.getWidth(), managed.getHeight(), Transparency.TRANSLUCENT);
+        if (volatileImage == null || !volatileImage.getCapabilities().isAccelerated()) {
+            // 소프트웨어 VolatileImage 는 이득이 없으므로 관리 이미지 사용
+            if (volatileImage != null) volatileImage.flush();
+            volatileImage = null;
+            failedConfig = gc;
+            return null;
+        }
+        restore();
+        return volatileImage;
+    }
+
+    /** 관리 이미지의 픽셀(알파 포함)을 VRAM 사본에 다시 복사 */
+    private void restore() {
+        Graphics2D vg = volatileImage.createGraphics();
+        try {
+            vg.setComposite(AlphaComposite.Src);
+            vg.drawImage(managed, 0, 0, null);
+        } finally {
+            vg.dispose();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+/**
+ * 공유 아틀라스 시트의 일부 영역을 그리는 스프라이트
+ * - 같은 시트를 쓰는 스프라이트끼리는 원본 이미지가 하나라서
+ *   파이프라인 상태 전환이 줄고 캐시 지역성이 좋아짐
+ * - getImage() 는 시트의 해당 영역(서브 이미지)을 돌려주므로
+ *   기존 호출부(getScaledInstance 등)도 그대로 동작
+ */
+public class AtlasSprite extends Sprite {
+    private final BufferedImage sheet;
+    private final int sx;
+    private final int sy;
+    private final int width;
+    private final int height;
+
+    public AtlasSprite(BufferedImage sheet, int sx, int sy, int width, int height, String ref) {
+        super(sheet.getSubimage(sx, sy, width, height), ref);
+        this.sheet = sheet;
+        this.sx = sx;
+        this.sy = sy;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public int getWidth() { return width; }
+
+    @Override
+    public int getHeight() { return height; }
+
+    /** 이 스프라이트가 올라가 있는 시트 */
+    public BufferedImage getSheet() { return sheet; }
+
+    @Override
+    public void draw(Graphics g, int x, int y) {
+        g.drawImage(sheet, x, y, x + width, y + height, sx, sy, sx + width, sy + height, null);
+    }
+
+    @Override
+    public void drawScaled(Graphics g, int x, int y, int w, int h) {
+        g.drawImage(sheet, x, y, x + w, y + h, sx, sy, sx + width, sy + height, null);
+    }
+
+    @Override
+    public void flush() {
+        // 시트는 같은 그룹의 다른 스프라이트와 공유하므로 개별 해제하지 않음
+    }
+}
@@ -0,0 +1,55 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 🎞 FramePacer — 프레임 사이를 얼마나 쉴지 결정 (GameSettings 의 목표 FPS / 무제한 / 대기 화면 FPS)
+ * - 프레임 마감 시각을 목표 간격만큼 앞으로 밀어 가며 그 시각까지 기다림
+ *   → 프레임 작업 시간과 상관없이 간격이 일정 (작업이 길어지면 그만큼 덜 쉼)
+ * - 마감 직전 SPIN_NANOS 까지는 park 로 쉬고, 남은 시간은 바쁜 대기로 채움
+ *   (park 는 OS 스케줄러 때문에 늦게 깨어날 수 있어 마지막 구간은 직접 확인)
+ * - 한 프레임 넘게 늦어지면 마감 시각을 현재로 다시 맞춤 → 밀린 프레임을 몰아서 그리지 않음
+ * - 대기 화면은 바쁜 대기 없이 idle 간격만큼만 park, 키 입력(unpark) 시 바로 깨어남
+ */
+final class FramePacer {
+    /** 마감 전 이 시간부터는 park 하지 않고 바쁜 대기 */
+    private static final long SPIN_NANOS = 1_000_000L;
+
+    /** 다음 프레임 마감 시각 (SystemTimer 나노초), 0 = 일정 없음 */
+    private long deadline = 0;
+
+    /**
+     * 다음 프레임을 시작할 때까지 기다림 — 게임 루프에서 프레임 끝에 한 번 호출
+     *
+     * @param blocker park 중인 스레드의 blocker (스레드 덤프에 표시)
+     * @param idle 입력 대기 화면/일시정지처럼 움직이는 것이 없는 프레임인지
+     * @param uncapped true면 쉬지 않음 (빨리 감기 등)
+     */
+    void sync(Object blocker, boolean idle, boolean uncapped) {
+        if (idle) {
+            deadline = 0;
+            LockSupport.parkNanos(blocker, 1_000_000_000L / GameSettings.getIdleFps());
+            return;
+        }
+        if (uncapped || GameSettings.isUncappedFps()) {
+            deadline = 0;
+            return;
+        }
+
+        long period = 1_000_000_000L / GameSettings.getTargetFps();
+        long now = SystemTimer.getNanos();
+        deadline = deadline == 0 ? now + period : deadline + period;
+        if (now - deadline > period) {
+            deadline = now;
+            return;
+        }
+
+        long remaining;
+        while ((remaining = deadline - SystemTimer.getNanos()) > SPIN_NANOS) {
+            LockSupport.parkNanos(blocker, remaining - SPIN_NANOS);
+        }
+        while (deadline - SystemTimer.getNanos() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -4,10 +4,12 @@ import java.awt.Canvas;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
@@ -17,26 +19,38 @@ import org.newdawn.spaceinvaders.entity.UserEntity2; // 🔥[ADDED] 2P 캐릭터
 import org.newdawn.spaceinvaders.entity.FortressEntity;
 import org.newdawn.spaceinvaders.entity.ShotEntity;
 import org.newdawn.spaceinvaders.entity.MonsterEntity;
-import org.newdawn.spaceinvaders.entity.ShieldEntity;
 
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
 
 import org.newdawn.spaceinvaders.shop.Shop;
+import org.newdawn.spaceinvaders.collision.CollisionEngine;
 
+import org.newdawn.spaceinvaders.manager.CollisionManager;
 import org.newdawn.spaceinvaders.manager.EntityManager;
 import org.newdawn.spaceinvaders.manager.BackgroundManager;
 import org.newdawn.spaceinvaders.manager.StageManager;
 import org.newdawn.spaceinvaders.manager.StateManager;
 import org.newdawn.spaceinvaders.manager.InputManager;
 import org.newdawn.spaceinvaders.manager.UIManager;
+import org.newdawn.spaceinvaders.pool.ObjectPool;
+import org.newdawn.spaceinvaders.profile.FrameProfiler;
+import org.newdawn.spaceinvaders.profile.FrameProfiler.Phase;
+import org.newdawn.spaceinvaders.render.HudState;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderQueue;
+import org.newdawn.spaceinvaders.render.RenderSnapshot;
+import org.newdawn.spaceinvaders.render.TripleBuffer;
 import org.newdawn.spaceinvaders.sound.SoundManager;
 
 // 🔥[ADDED] 네트워크(소켓) 협동 플레이용 import
 import network.GameClient;
 import network.Packet;
+import java.io.File;
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.imageio.ImageIO;
 
 /**
  * 🎮 Game — 메인 루프 & 게임 상태 관리자
@@ -52,10 +66,37 @@ public class Game extends Canvas {
     // ========= 기본 디스플레이/루프 =========
     private BufferStrategy strategy;
     private JFrame container;
-    private boolean gameRunning = true;
+    private volatile boolean gameRunning = true;
+    private volatile Thread loopThread; // 대기 중 park 된 루프를 입력 시 깨우기 위해 보관
+    private final ConcurrentLinkedQueue<Runnable> loopActions = new ConcurrentLinkedQueue<>(); // ⌨ 키 입력(EDT)에서 넘어온 월드 변경 — 프레임 시작 시 게임 루프에서 실행
+    private final GameClock clock = new GameClock(); // ⏱ 게임 시각 — 틱마다 한 번 진행, 엔티티는 game.getClock().now()
+    private final FramePacer pacer = new FramePacer(); // 🎞 프레임 간격 (GameSettings 목표 FPS)
+    private final TimerWheel timers = new TimerWheel(clock); // ⏲ 예약 콜백 (쿨다운/지속시간 만료) — 틱마다 진행
+    private final FrameProfiler profiler = new FrameProfiler(); // 📊 단계별 소요 시간 (F3 오버레이, F4 덤프)
 
     private String windowTitle = "🎃 Halloween Space Invaders";
 
+    // 레이어 순서대로 엔티티를 모아 그리는 큐 (게임 루프 스레드 전용, 프레임마다 재사용)
+    private final RenderQueue renderQueue = new RenderQueue();
+    // 단일 스레드 모드에서 HUD/토스트 값을 기록해 두는 곳 (렌더 스레드 모드는 스냅샷마다 하나씩)
+    private final HudState hud = new HudState();
+
+    // ========= 렌더 스레드 (선택) =========
+    // 시뮬레이션은 스냅샷만 채워 publish 하고, 렌더 스레드가 최신 스냅샷을 그려 show() 함
+    private final TripleBuffer<RenderSnapshot> snapshots =
+            new TripleBuffer<>(new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot());
+    private Thread renderThread;
+
+    // ========= 헤드리스 모드 (창 없이 오프스크린 렌더링, CI 측정용) =========
+    private final boolean headless;
+    private BufferedImage frameBuffer;     // strategy 대신 그려지는 오프스크린 버퍼
+    private File frameDumpDir;             // null 이면 프레임 저장 안 함
+    private int frameDumpEvery = 1;        // N 프레임마다 한 장 저장
+    private long maxFrames = 0;            // 0 이면 무제한
+    private long frameCount = 0;
+    private long renderNanos = 0;          // 직전 FPS 집계 이후 렌더링에 쓴 시간
+    private long totalRenderNanos = 0;
+
     // ========= 엔티티 =========
     private final List<Entity> entities = new ArrayList<>();
     private final List<Entity> removeList = new ArrayList<>();
@@ -112,13 +153,26 @@ public class Game extends Canvas {
 
     // ========= 생성자 =========
     public Game() {
-        initWindow();
+        this(false);
+    }
+
+    /**
+     * @param headless true면 JFrame/BufferStrategy 없이 오프스크린 이미지에 그림.
+     *                 루프는 sleep 없이 최대 속도로 돌고, 네트워크는 연결하지 않음
+     */
+    public Game(boolean headless) {
+        this.headless = headless;
+        if (headless) {
+            initOffscreen();
+        } else {
+            initWindow();
+        }
         initManagers();
         initEntities();
-        stageStartTime = System.currentTimeMillis();
+        stageStartTime = clock.now();
 
         // 🔥[ADDED] 소켓 초기화 (GameServer가 켜져 있으면 자동 연결)
-        initSocket();
+        if (!headless) initSocket();
     }
 
     // ========= 초기화 =========
@@ -150,6 +204,11 @@ public class Game extends Canvas {
         requestFocus();
     }
 
+    private void initOffscreen() {
+        setBounds(0, 0, 800, 600);
+        frameBuffer = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+    }
+
     private void initManagers() {
         entityManager = new EntityManager(this, entities, removeList);
         backgroundManager = new BackgroundManager();
@@ -157,7 +216,7 @@ public class Game extends Canvas {
         stateManager = new StateManager(this, uiManager);
         stageManager = new StageManager(this, entityManager);
         inputManager = new InputManager(this);
-        rewardManager = new org.newdawn.spaceinvaders.manager.RewardManager();
+        rewardManager = new org.newdawn.spaceinvaders.manager.RewardManager(clock);
         addKeyListener(inputManager);
 
         bg = SpriteStore.get().getSprite("bg/level1_background.jpg");
@@ -181,13 +240,13 @@ public class Game extends Canvas {
     }
 
     private void initEntities() {
-        entities.clear();
+        entityManager.clear();
 
         ship = new UserEntity(this, "sprites/userr.png", 370, 520);
-        entities.add(ship);
+        entityManager.addEntity(ship);
 
         fortress = new FortressEntity(this, "sprites/candybucket.png", 320, 460);
-        entities.add(fortress);
+        entityManager.addEntity(fortress);
 
         // 🔥[ADDED] 2P 엔티티(상대)는 네트워크 연결 시에만 생성
         // initSocket()이 호출된 후 networkConnected 상태를 확인하여 생성
@@ -209,7 +268,7 @@ public class Game extends Canvas {
             // 네트워크 연결 성공 시에만 2P 엔티티 생성
             try {
                 ship2 = new UserEntity2(this, "sprites/user2r.png", 420, 520);
-                entities.add(ship2);
+                entityManager.addEntity(ship2);
             } catch (Exception ignore) {
                 // 만약 리소스가 아직 없다면 생략해도 게임은 동작
             }
@@ -232,86 +291,63 @@ public class Game extends Canvas {
 
     // ========= 실시간 몬스터 수 집계 =========
     public void countMonsters() {
-        int count = 0;
-        for (Entity e : entities) {
-            if (e instanceof MonsterEntity || e.getClass().getSimpleName().equals("BombMonsterEntity")) {
-                count++;
-            }
-        }
-        alienCount = count;
+        alienCount = entityManager.getMonsterCount();
         System.out.println("📊 현재 몬스터 수: " + alienCount);
     }
 
     // ========= 메인 루프 =========
+    /**
+     * 고정 틱 루프
+     * - 흐른 시간(SystemTimer 나노초)을 GameClock 에 넘기고, 돌려받은 틱 수만큼 시뮬레이션을 진행
+     *   → 그리기가 느려져도 이동/충돌/발사 간격은 같은 속도로 진행
+     * - 틱마다 clock.tick() 으로 게임 시각을 TICK_MS 만큼 올림 (일시정지/배속/빨리 감기는 GameClock 이 결정)
+     * - 그리기는 남은 누산 시간 비율만큼 직전 틱 위치와 현재 위치 사이로 보간
+     * - 단계별 소요 시간은 FrameProfiler 에 기록 (프레임 전체 = 쉬는 시간 제외)
+     */
     public void gameLoop() {
-        long lastLoopTime = System.currentTimeMillis();
+        long lastLoopTime = SystemTimer.getNanos();
+        loopThread = Thread.currentThread();
+        if (GameSettings.isRenderThreadEnabled()) {
+            startRenderThread();
+        }
 
         while (gameRunning) {
             try {
-                long now = System.currentTimeMillis();
-                long delta = now - lastLoopTime;
+                long frameStart = profiler.start();
+                runLoopActions();
+                long now = SystemTimer.getNanos();
+                long frameNanos = now - lastLoopTime;
                 lastLoopTime = now;
 
-                lastFpsTime += delta;
-                fps++;
-                if (lastFpsTime >= 1000) {
-                    container.setTitle(windowTitle + " (FPS: " + fps + ")");
-                    lastFpsTime = 0;
-                    fps = 0;
+                if (renderThread == null) {
+                    countFrame(frameNanos / 1_000_000L);
                 }
 
-                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
-
-                // 배경 (시작 화면이 아닐 때만 게임 배경 그리기)
-                if (!waitingForKeyPress || shopOpen || (message != null && !message.isEmpty())) {
-                    backgroundManager.draw(g, bg, 0);
+                // 대기 화면에서는 틱이 쌓이지 않음 → 빠져나온 직후 몰아서 움직이지 않음
+                int ticks = clock.beginFrame(frameNanos, !waitingForKeyPress);
+                for (int i = 0; i < ticks && !waitingForKeyPress; i++) {
+                    clock.tick();
+                    simulateTick();
                 }
 
-                if (!waitingForKeyPress) {
-                    stageManager.spawnWave(currentStage, stageStartTime);
-                    entityManager.moveEntities(delta);
-                    entityManager.checkCollisions();
-                    entityManager.cleanupEntities();
+                renderQueue.setInterpolation(waitingForKeyPress ? 1.0 : clock.interpolation());
+                if (renderThread != null) {
+                    publishSnapshot();
+                } else {
+                    renderFrame();
                 }
 
-                // 엔티티 그리기 (방어막은 마지막에 그려서 다른 엔티티가 위에 오도록)
-                // 복사본으로 순회하여 ConcurrentModification 예외 방지
-                List<Entity> entitiesCopy = new ArrayList<>(entities);
-                for (Entity e : entitiesCopy) {
-                    if (e instanceof ShieldEntity) {
-                        // 방어막은 나중에 그리기 위해 스킵
-                        continue;
-                    }
-                    e.draw(g);
-                }
-                // 방어막은 마지막에 그리기 (다른 엔티티 위에 표시되지만 투명도 조절)
-                for (Entity e : entitiesCopy) {
-                    if (e instanceof ShieldEntity) {
-                        e.draw(g);
-                    }
-                }
-
-                // UI
-                uiManager.drawFullUI(g, this, ship, fortress, entities, message, shopOpen, waitingForKeyPress);
-
-                // 보상 메시지 렌더링 (우상단 토스트)
-                if (rewardManager != null) {
-                    rewardManager.drawRewardMessages(g);
-                }
-
-                g.dispose();
-                strategy.show();
-
                 handleMovement();
                 handleFiring();
 
                 // 🔥 수정됨 — 연결이 끊긴 후 무한 출력 방지
                 if (networkConnected && client != null && ship != null) {
+                    long t = profiler.start();
                     try {
                         client.send(new Packet(
                                 playerId,
-                                (int) ship.getX(),
-                                (int) ship.getY(),
+                                ship.getX(),
+                                ship.getY(),
                                 firePressed,
                                 ship.getHp(),
                                 ship.getScore()
@@ -323,9 +359,16 @@ public class Game extends Canvas {
                         }
                         networkConnected = false;
                     }
+                    profiler.lap(Phase.NETWORK, t);
                 }
+                long frameEnd = profiler.lap(Phase.FRAME, frameStart);
 
-                Thread.sleep(10);
+                // 입력 대기 화면/일시정지는 움직이는 것이 없으므로 낮은 프레임으로 쉬다가 키 입력 시 바로 깨어남
+                // 게임 중에는 목표 FPS 마감 시각까지 쉼 (헤드리스는 쉬지 않음)
+                if (!headless) {
+                    pacer.sync(this, waitingForKeyPress || clock.isPaused(), clock.getFastForwardTicks() > 0);
+                    profiler.lap(Phase.PACING, frameEnd);
+                }
             } catch (Exception ex) {
                 System.err.println("⚠️ 게임 루프 오류: " + ex.getMessage());
                 ex.printStackTrace();
@@ -334,6 +377,203 @@ public class Game extends Canvas {
         }
     }
 
+    /** 시뮬레이션 한 틱 (항상 GameClock.TICK_MS 만큼 진행) */
+    private void simulateTick() {
+        long t = profiler.start();
+        stageManager.spawnWave(currentStage, stageStartTime);
+        t = profiler.lap(Phase.SPAWN, t);
+        timers.advance();
+        t = profiler.lap(Phase.TIMERS, t);
+        entityManager.moveEntities(GameClock.TICK_MS);
+        t = profiler.lap(Phase.MOVE, t);
+        entityManager.checkCollisions();
+        t = profiler.lap(Phase.COLLIDE, t);
+        entityManager.cleanupEntities();
+        profiler.lap(Phase.CLEANUP, t);
+    }
+
+    /** FPS 집계 (1초마다 창 제목 갱신) — 화면을 그리는 스레드에서 호출 */
+    private void countFrame(long delta) {
+        lastFpsTime += delta;
+        fps++;
+        if (lastFpsTime >= 1000) {
+            if (headless) {
+                System.out.printf("🖥 [headless] FPS: %d, 평균 렌더링 %.3f ms%n", fps, renderNanos / 1e6 / Math.max(1, fps));
+            } else {
+                container.setTitle(windowTitle + " (FPS: " + fps + ")");
+            }
+            lastFpsTime = 0;
+            fps = 0;
+            renderNanos = 0;
+        }
+    }
+
+    /** 그릴 대상 Graphics — 헤드리스면 오프스크린 버퍼, 아니면 BufferStrategy */
+    private Graphics2D beginFrame() {
+        if (headless) return frameBuffer.createGraphics();
+        return (Graphics2D) strategy.getDrawGraphics();
+    }
+
+    /** 프레임 마무리 — 화면에 show() 하거나 (헤드리스) 필요하면 파일로 저장 */
+    private void endFrame(Graphics2D g, long startNanos) {
+        profiler.drawOverlay(g, 10, 60);
+        long t = profiler.start();
+        g.dispose();
+        if (headless) {
+            dumpFrame();
+        } else {
+            strategy.show();
+        }
+        profiler.lap(Phase.PRESENT, t);
+
+        long spent = System.nanoTime() - startNanos;
+        renderNanos += spent;
+        totalRenderNanos += spent;
+        frameCount++;
+        if (maxFrames > 0 && frameCount >= maxFrames) {
+            gameRunning = false;
+        }
+    }
+
+    private void dumpFrame() {
+        if (frameDumpDir == null || frameCount % frameDumpEvery != 0) return;
+        File out = new File(frameDumpDir, String.format("frame_%06d.png", frameCount));
+        try {
+            ImageIO.write(frameBuffer, "png", out);
+        } catch (IOException e) {
+            System.err.println("⚠️ 프레임 저장 실패: " + out + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /** 배경 그리기 여부 (시작 화면이 아닐 때만 게임 배경) */
+    private boolean shouldDrawBackground() {
+        return !waitingForKeyPress || shopOpen || (message != null && !message.isEmpty());
+    }
+
+    /** 단일 스레드 모드: 게임 루프에서 바로 그리고 show() */
+    private void renderFrame() {
+        long start = System.nanoTime();
+        Graphics2D g = beginFrame();
+
+        if (shouldDrawBackground()) {
+            backgroundManager.draw(g, bg, 0);
+        }
+
+        // 엔티티 그리기 — 레이어 순서 (장애물 → 몬스터 → 총알 → 플레이어 → 방어막 → 연출)
+        renderQueue.clear();
+        renderQueue.submitAll(entities);
+        renderQueue.submitBatch(RenderLayer.PROJECTILES, entityManager.getProjectiles());
+        renderQueue.draw(g);
+        long t = profiler.lap(Phase.WORLD, start);
+
+        // UI
+        recordHud(hud);
+        uiManager.drawFullUI(g, this, hud, message, shopOpen, waitingForKeyPress);
+        t = profiler.lap(Phase.UI, t);
+
+        // 보상 메시지 렌더링 (우상단 토스트)
+        if (rewardManager != null) {
+            rewardManager.drawRewardMessages(g, hud);
+        }
+        profiler.lap(Phase.REWARDS, t);
+
+        endFrame(g, start);
+    }
+
+    /** 렌더 스레드 모드: 현재 월드를 back 스냅샷에 기록하고 내보냄 */
+    private void publishSnapshot() {
+        long start = profiler.start();
+        RenderSnapshot snap = snapshots.back();
+        snap.reset();
+
+        renderQueue.clear();
+        renderQueue.submitAll(entities);
+        renderQueue.submitBatch(RenderLayer.PROJECTILES, entityManager.getProjectiles());
+        renderQueue.snapshot(snap);
+
+        snap.setFrameState(bg, shouldDrawBackground(), message, shopOpen, waitingForKeyPress);
+        recordHud(snap.getHud());
+        snapshots.publish();
+        profiler.lap(Phase.SNAPSHOT, start);
+        LockSupport.unpark(renderThread);
+    }
+
+    /** HUD/토스트에 표시할 값을 기록 (게임 루프 스레드 — 그리기는 기록된 값만 읽음) */
+    private void recordHud(HudState out) {
+        uiManager.recordHud(out, this, ship, fortress);
+        if (rewardManager != null) {
+            rewardManager.recordRewardMessages(out);
+        }
+    }
+
+    private void startRenderThread() {
+        renderThread = new Thread(this::renderLoop, "render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+        System.out.println("🖼 렌더 스레드 시작");
+    }
+
+    /** 렌더 스레드: 새 스냅샷이 올 때마다 그리고 show() — 시뮬레이션은 이를 기다리지 않음 */
+    private void renderLoop() {
+        long lastFrameTime = System.currentTimeMillis();
+
+        while (gameRunning) {
+            if (!snapshots.acquire()) {
+                LockSupport.parkNanos(2_000_000L);
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                RenderSnapshot snap = snapshots.front();
+                Graphics2D g = beginFrame();
+
+                if (snap.isDrawBackground()) {
+                    backgroundManager.draw(g, snap.getBackground(), 0);
+                }
+                snap.render(g);
+                long t = profiler.lap(Phase.WORLD, start);
+
+                uiManager.drawFullUI(g, this, snap.getHud(), snap.getMessage(), snap.isShopOpen(), snap.isWaiting());
+                t = profiler.lap(Phase.UI, t);
+                if (rewardManager != null) {
+                    rewardManager.drawRewardMessages(g, snap.getHud());
+                }
+                profiler.lap(Phase.REWARDS, t);
+
+                endFrame(g, start);
+
+                long now = System.currentTimeMillis();
+                countFrame(now - lastFrameTime);
+                lastFrameTime = now;
+            } catch (Exception ex) {
+                System.err.println("⚠️ 렌더 스레드 오류: " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 엔티티 목록/스테이지를 바꾸는 입력 처리를 게임 루프 스레드로 넘김
+     * - 폭탄/얼음/방어막 사용, 상점 구매, 게임 시작/재시작은 entities 와 종류별 목록을 바꾸므로
+     *   키 입력(EDT)에서 바로 실행하지 않고 다음 프레임 시작(틱 전)에 게임 루프에서 실행
+     */
+    public void runOnLoop(Runnable action) {
+        loopActions.add(action);
+        wakeLoop();
+    }
+
+    private void runLoopActions() {
+        Runnable action;
+        while ((action = loopActions.poll()) != null) {
+            action.run();
+        }
+    }
+
+    /** 대기 화면에서 쉬고 있는 게임 루프를 즉시 깨움 (입력 처리 후 호출) */
+    public void wakeLoop() {
+        Thread t = loopThread;
+        if (t != null) LockSupport.unpark(t);
+    }
+
     // ========= 입력 처리 =========
     private void handleMovement() {
         if (ship == null) return;
@@ -349,10 +589,16 @@ public class Game extends Canvas {
 
     // ========= 공격 =========
     public void tryToFire() {
-        if (System.currentTimeMillis() - lastFire < ship.getFiringInterval()) return;
-        lastFire = System.currentTimeMillis();
-        ShotEntity shot = new ShotEntity(this, "sprites/shot.png", ship.getX() + 10, ship.getY() - 30);
-        entities.add(shot);
+        long now = clock.now();
+        if (now - lastFire < ship.getFiringInterval()) return;
+        lastFire = now;
+        if (GameSettings.isProjectileSystemEnabled()) {
+            entityManager.getProjectiles().spawnPlayerShot("sprites/shot.png", ship.getX() + 10, ship.getY() - 30,
+                    ShotEntity.MOVE_SPEED, ship, ship.getAttackPower());
+            return;
+        }
+        ShotEntity shot = ShotEntity.obtain(this, "sprites/shot.png", ship.getX() + 10, ship.getY() - 30);
+        entityManager.addEntity(shot);
     }
 
     // ========= 스테이지 제어 =========
@@ -361,11 +607,11 @@ public class Game extends Canvas {
         if (stageToRestart <= 0) currentStage = 1;
         else currentStage = stageToRestart;
 
-        stageStartTime = System.currentTimeMillis();
+        stageStartTime = clock.now();
         // 기존 플레이어 상태 보존을 위해 기존 ship 참조 보관
         UserEntity oldShip = this.ship;
 
-        entities.clear();
+        entityManager.clear();
 
         UserEntity newShip = new UserEntity(this, "sprites/userr.png", 370, 520);
         // 다음 시작에서 이전 상태를 보존하도록 표시된 경우에만 복사
@@ -376,16 +622,16 @@ public class Game extends Canvas {
         retainPlayerOnNextStart = false;
 
         ship = newShip;
-        entities.add(ship);
+        entityManager.addEntity(ship);
 
         fortress = new FortressEntity(this, "sprites/candybucket.png", 320, 460);
-        entities.add(fortress);
+        entityManager.addEntity(fortress);
 
         // 🔥[ADDED] 재시작 시에도 네트워크 연결되어 있으면 2P 엔티티 추가
         if (networkConnected) {
             try {
                 ship2 = new UserEntity2(this, "sprites/user2r.png", 420, 520);
-                entities.add(ship2);
+                entityManager.addEntity(ship2);
             } catch (Exception ignore) {}
         }
 
@@ -512,7 +758,7 @@ public class Game extends Canvas {
                 this.retainPlayerOnNextStart = true;
                 waitingForKeyPress = false;
                 shopOpen = false;
-                stageStartTime = System.currentTimeMillis();
+                stageStartTime = clock.now();
                 System.out.println("🚀 다음 스테이지로 이동: Stage " + currentStage);
                 startGameOrNextStage(currentStage);
             }
@@ -651,35 +897,31 @@ public class Game extends Canvas {
     public UserEntity getShip() { return ship; }
     public FortressEntity getFortress() { return fortress; }
     public List<Entity> getEntities() { return entities; }
+    public EntityManager getEntityManager() { return entityManager; }
 
     public void addEntity(Entity e) {
-        entities.add(e);
+        entityManager.addEntity(e);
         // Debug: 로그를 찍어 어떤 엔티티가 추가되는지 확인
         System.out.println("➕ 엔티티 추가: " + e.getClass().getSimpleName() + " 위치(" + e.getX() + "," + e.getY() + ")");
-        if (e instanceof MonsterEntity || e.getClass().getSimpleName().equals("BombMonsterEntity")) {
+        if (e instanceof MonsterEntity) {
             alienCount++;
             System.out.println("👾 몬스터 추가됨: 총 " + alienCount + "마리");
         }
     }
 
     public void removeEntity(Entity e) {
-        if (!removeList.contains(e)) removeList.add(e);
+        entityManager.removeEntity(e);
     }
     
     /** 활성화된 방어막이 있는지 확인 */
     public boolean hasActiveShield() {
-        for (Entity e : entities) {
-            if (e instanceof ShieldEntity) {
-                ShieldEntity shield = (ShieldEntity) e;
-                if (shield.isActive()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return entityManager.hasActiveShield();
     }
 
     public long getStageStartTime() { return stageStartTime; }
+    public GameClock getClock() { return clock; }
+    public TimerWheel getTimers() { return timers; }
+    public FrameProfiler getProfiler() { return profiler; }
     public int getCurrentStage() { return currentStage; }
     public int getAlienCount() { return alienCount; }
     public void setAlienCount(int count) { alienCount = count; }
@@ -706,18 +948,8 @@ public class Game extends Canvas {
     
     // 보스가 없으면 배경 복원
     private void restoreBackgroundIfNoBoss() {
-        // entities에 보스가 있는지 확인 (클래스 이름으로 체크)
-        boolean hasBoss = false;
-        for (Entity e : entities) {
-            String className = e.getClass().getSimpleName();
-            if (className.startsWith("Boss") && 
-                (className.equals("Boss1") || className.equals("Boss2") || 
-                 className.equals("Boss3") || className.equals("Boss4") || 
-                 className.equals("Boss5"))) {
-                hasBoss = true;
-                break;
-            }
-        }
+        // 보스(Boss1 ~ Boss5)가 남아 있는지 확인
+        boolean hasBoss = entityManager.hasBoss();
         
         // 보스가 없고 원래 배경이 저장되어 있으면 복원
         if (!hasBoss && originalBg != null) {
@@ -727,9 +959,72 @@ public class Game extends Canvas {
         }
     }
 
-    // ✅ 메인 실행 진입점 추가
+    // ========= 헤드리스 설정 =========
+    /** 헤드리스 모드에서 렌더링된 프레임을 dir 에 PNG 로 저장 (every 프레임마다 한 장) */
+    public void setFrameDump(File dir, int every) {
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            System.err.println("⚠️ 프레임 저장 폴더 생성 실패: " + dir);
+            dir = null;
+        }
+        this.frameDumpDir = dir;
+        this.frameDumpEvery = Math.max(1, every);
+    }
+
+    /** n 프레임을 그린 뒤 루프 종료 (0 = 무제한) */
+    public void setMaxFrames(long n) { this.maxFrames = Math.max(0, n); }
+    public boolean isHeadless() { return headless; }
+    public long getFrameCount() { return frameCount; }
+    public long getTotalRenderNanos() { return totalRenderNanos; }
+
+    /**
+     * ✅ 메인 실행 진입점
+     * 옵션: --headless  --frames=N  --dump=폴더  --dump-every=N  --render-thread
+     *       --stage=N  --collision=brute|hash|sap
+     *       --fast-forward=N (프레임마다 N 틱, 실제 시간 무시)  --time-scale=배속
+     */
     public static void main(String[] args) {
-        Game game = new Game();
+        boolean headless = false;
+        long frames = 0;
+        File dumpDir = null;
+        int dumpEvery = 1;
+        int stage = 1;
+        int fastForward = 0;
+        double timeScale = 1.0;
+        for (String arg : args) {
+            if (arg.equals("--headless")) headless = true;
+            else if (arg.equals("--render-thread")) GameSettings.setRenderThreadEnabled(true);
+            else if (arg.startsWith("--frames=")) frames = Long.parseLong(arg.substring(9));
+            else if (arg.startsWith("--dump=")) dumpDir = new File(arg.substring(7));
+            else if (arg.startsWith("--dump-every=")) dumpEvery = Integer.parseInt(arg.substring(13));
+            else if (arg.startsWith("--stage=")) stage = Integer.parseInt(arg.substring(8));
+            else if (arg.startsWith("--collision=")) GameSettings.setCollisionEngine(CollisionEngine.parse(arg.substring(12)));
+            else if (arg.startsWith("--fast-forward=")) fastForward = Integer.parseInt(arg.substring(15));
+            else if (arg.startsWith("--time-scale=")) timeScale = Double.parseDouble(arg.substring(13));
+        }
+
+        Game game = new Game(headless);
+        game.getClock().setFastForwardTicks(fastForward);
+        game.getClock().setTimeScale(timeScale);
+        if (headless) {
+            game.setMaxFrames(frames);
+            game.setFrameDump(dumpDir, dumpEvery);
+            // 시작 화면 대기 없이 바로 지정한 스테이지 진행
+            game.setWaitingForKeyPress(false);
+            game.startGameOrNextStage(stage);
+        }
         game.gameLoop();
+
+        if (headless) {
+            long n = Math.max(1, game.getFrameCount());
+            System.out.printf("🖥 [headless] %d 프레임, 평균 렌더링 %.3f ms/프레임%n",
+                    game.getFrameCount(), game.getTotalRenderNanos() / 1e6 / n);
+            CollisionManager collisions = game.entityManager.getCollisionManager();
+            System.out.printf("🖥 [headless] 충돌 검사(%s) 평균 %.4f ms/틱%n", collisions.getActiveEngine(),
+                    collisions.getTotalNanos() / 1e6 / Math.max(1, collisions.getTotalTicks()));
+            ObjectPool.printStats();
+            System.out.println("🖥 [headless] 단계별 소요 시간");
+            game.getProfiler().dump(System.out, false);
+            System.exit(0);
+        }
     }
 }
\ No newline at end of file
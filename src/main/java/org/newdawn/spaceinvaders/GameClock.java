@@ -0,0 +1,121 @@
+package org.newdawn.spaceinvaders;
+
+/**
+ * ⏱ GameClock — 게임 안의 모든 시간(쿨다운, 애니메이션, 얼림/방어막 지속, 스테이지 타이머)의 기준
+ * - now() 는 게임 시각(ms)으로, 시뮬레이션 틱마다 TICK_MS 씩 정확히 증가
+ *   (대기 화면처럼 틱이 돌지 않는 동안에는 실제 흐른 시간만큼 증가)
+ * - 게임 루프가 프레임마다 beginFrame() 으로 한 번만 실제 시간을 넣고, 나머지는 값만 읽음
+ *   → 엔티티마다 System.currentTimeMillis() 를 부르지 않음
+ * - 일시정지: 시간이 멈추고 틱도 돌지 않음, step() 으로 한 틱씩 진행
+ * - 배속: 실제 시간에 timeScale 을 곱해 누산 (2.0 이면 같은 시간에 틱이 두 배)
+ * - 빨리 감기: 실제 시간과 상관없이 프레임마다 정해진 틱 수를 진행 (헤드리스 시뮬레이션용)
+ * - beginFrame/tick 은 게임 루프 스레드, now() 는 렌더 스레드, 일시정지/배속 설정은 키 입력(EDT)에서도 바뀜
+ */
+public final class GameClock {
+    /** 시뮬레이션 고정 틱 (100Hz) */
+    public static final long TICK_MS = 10;
+    private static final long TICK_NANOS = TICK_MS * 1_000_000L;
+    /** 따라잡기 상한 — 넘는 만큼은 버림 (느려져도 멈춘 듯 밀리지 않도록) */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    /** 게임 시각 (ms) — 시작 값은 벽시계에 맞춰 둠 (0 으로 초기화된 쿨다운이 전처럼 바로 풀리도록) */
+    private volatile long now = System.currentTimeMillis();
+    /** 틱이 돌지 않는 동안 1ms 에 못 미쳐 남은 실제 시간 */
+    private long idleNanos = 0;
+    /** 아직 틱으로 꺼내지 않은 시간 (ns) */
+    private long accumulator = 0;
+
+    private volatile boolean paused = false;
+    private volatile int pendingSteps = 0;
+    private volatile double timeScale = 1.0;
+    private volatile int fastForwardTicks = 0;
+
+    /** 현재 게임 시각 (ms) */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * 프레임 시작 — 실제로 흐른 시간을 넣고 이번 프레임에 돌릴 틱 수를 받음
+     *
+     * @param realNanos 지난 프레임부터 실제로 흐른 시간 (ns)
+     * @param simulating 시뮬레이션 중인지 (false 면 틱 없이 시각만 흐름: 대기 화면)
+     * @return 이번 프레임에 tick() + 시뮬레이션을 반복할 횟수
+     */
+    public int beginFrame(long realNanos, boolean simulating) {
+        if (paused) {
+            accumulator = 0;
+            int steps = simulating ? pendingSteps : 0;
+            pendingSteps = 0;
+            return steps;
+        }
+
+        long scaled = (long) (realNanos * timeScale);
+        if (!simulating) {
+            accumulator = 0;
+            idleNanos += scaled;
+            now += idleNanos / 1_000_000L;
+            idleNanos %= 1_000_000L;
+            return 0;
+        }
+
+        if (fastForwardTicks > 0) {
+            accumulator = 0;
+            return fastForwardTicks;
+        }
+
+        accumulator = Math.min(accumulator + scaled, TICK_NANOS * MAX_TICKS_PER_FRAME);
+        int ticks = (int) (accumulator / TICK_NANOS);
+        accumulator -= ticks * TICK_NANOS;
+        return ticks;
+    }
+
+    /** 시뮬레이션 한 틱 직전에 호출 — 게임 시각을 TICK_MS 만큼 진행 */
+    public void tick() {
+        now += TICK_MS;
+    }
+
+    /** 그리기 보간 비율 (0 = 직전 틱 시작 위치, 1 = 현재 위치) */
+    public double interpolation() {
+        if (paused || fastForwardTicks > 0) return 1.0;
+        return accumulator / (double) TICK_NANOS;
+    }
+
+    // ========= 일시정지 / 한 틱 진행 =========
+
+    public boolean isPaused() { return paused; }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        this.pendingSteps = 0;
+    }
+
+    public void togglePaused() {
+        setPaused(!paused);
+    }
+
+    /** 일시정지 중 다음 프레임에 한 틱만 진행 */
+    public void step() {
+        if (paused) pendingSteps++;
+    }
+
+    // ========= 배속 / 빨리 감기 =========
+
+    public double getTimeScale() { return timeScale; }
+
+    /**
+     * @param scale 실제 시간 대비 게임 속도 (0.1 ~ 8.0, 1.0 = 보통)
+     */
+    public void setTimeScale(double scale) {
+        this.timeScale = Math.max(0.1, Math.min(8.0, scale));
+    }
+
+    public int getFastForwardTicks() { return fastForwardTicks; }
+
+    /**
+     * @param ticksPerFrame 프레임마다 진행할 틱 수 (0 = 끔, 실제 시간 기준으로 진행)
+     */
+    public void setFastForwardTicks(int ticksPerFrame) {
+        this.fastForwardTicks = Math.max(0, ticksPerFrame);
+    }
+}
@@ -1,5 +1,6 @@
 package org.newdawn.spaceinvaders;
 
+import org.newdawn.spaceinvaders.collision.CollisionEngine;
 import org.newdawn.spaceinvaders.sound.SoundManager;
 
 /**
@@ -7,13 +8,23 @@ import org.newdawn.spaceinvaders.sound.SoundManager;
  * - 로비 BGM on/off
  * - 화면 밝기 (0~100)
  * - 효과음 볼륨 (0.0~1.0)
+ * - 프레임 간격 (목표 FPS / 무제한 / 대기 화면 FPS)
  */
 public class GameSettings {
     
+    public static final int DEFAULT_TARGET_FPS = 100; // 시뮬레이션 틱(100Hz)과 같은 간격
+    public static final int DEFAULT_IDLE_FPS = 10;
+
     // 전역 설정값 (메모리 저장)
     private static boolean bgmEnabled = true;
     private static int brightness = 100; // 0~100 (100 = 원본)
     private static float soundVolume = 1.0f; // 0.0~1.0 (1.0 = 최대)
+    private static boolean renderThreadEnabled = false; // 렌더링을 별도 스레드에서 수행
+    private static CollisionEngine collisionEngine = null; // 충돌 검사 엔진 강제 지정 (null = 스테이지 기본값)
+    private static boolean projectileSystemEnabled = true; // 일반 총알을 병렬 배열(ProjectileManager)로 처리
+    private static int targetFps = DEFAULT_TARGET_FPS; // 게임 중 목표 프레임 수
+    private static boolean uncappedFps = false; // true면 프레임 사이에 쉬지 않음
+    private static int idleFps = DEFAULT_IDLE_FPS; // 입력 대기 화면/일시정지 중 프레임 수 (전력 절약)
     
     // 외부에서 인스턴스화 방지
     private GameSettings() {}
@@ -87,6 +98,110 @@ public class GameSettings {
         soundVolume = Math.max(0.0f, Math.min(1.0f, volume));
     }
     
+    // === 렌더 스레드 ===
+
+    /**
+     * 렌더 스레드 사용 여부 조회
+     * @return true면 게임 루프는 스냅샷만 만들고, 그리기는 렌더 스레드가 담당
+     */
+    public static boolean isRenderThreadEnabled() {
+        return renderThreadEnabled;
+    }
+
+    /**
+     * 렌더 스레드 사용 여부 설정 (다음 게임 시작 시 반영)
+     * @param enabled true면 렌더 스레드 사용
+     */
+    public static void setRenderThreadEnabled(boolean enabled) {
+        renderThreadEnabled = enabled;
+    }
+
+    // === 충돌 검사 ===
+
+    /**
+     * 강제 지정된 충돌 검사 엔진 조회
+     * @return 지정된 엔진, null이면 각 스테이지의 기본 엔진 사용
+     */
+    public static CollisionEngine getCollisionEngine() {
+        return collisionEngine;
+    }
+
+    /**
+     * 충돌 검사 엔진 강제 지정 (엔진별 결과/성능 비교용, 즉시 반영)
+     * @param engine 사용할 엔진, null이면 스테이지 기본값으로 되돌림
+     */
+    public static void setCollisionEngine(CollisionEngine engine) {
+        collisionEngine = engine;
+    }
+
+    // === 총알 처리 ===
+
+    /**
+     * 일반 총알(플레이어/적)을 ProjectileManager 로 처리하는지 조회
+     * @return true면 병렬 배열, false면 기존 ShotEntity / EnemyShotEntity
+     */
+    public static boolean isProjectileSystemEnabled() {
+        return projectileSystemEnabled;
+    }
+
+    /**
+     * 일반 총알 처리 방식 설정 (이후 발사되는 총알부터 반영)
+     * @param enabled true면 병렬 배열 사용
+     */
+    public static void setProjectileSystemEnabled(boolean enabled) {
+        projectileSystemEnabled = enabled;
+    }
+
+    // === 프레임 간격 ===
+
+    /**
+     * 게임 중 목표 FPS 조회
+     * @return 초당 프레임 수
+     */
+    public static int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * 게임 중 목표 FPS 설정 (다음 프레임부터 반영)
+     * @param fps 30~360
+     */
+    public static void setTargetFps(int fps) {
+        targetFps = Math.max(30, Math.min(360, fps));
+    }
+
+    /**
+     * 프레임 제한 해제 여부 조회
+     * @return true면 목표 FPS 와 상관없이 쉬지 않고 그림
+     */
+    public static boolean isUncappedFps() {
+        return uncappedFps;
+    }
+
+    /**
+     * 프레임 제한 해제 설정
+     * @param uncapped true면 쉬지 않고 그림 (CPU 한 코어를 계속 사용)
+     */
+    public static void setUncappedFps(boolean uncapped) {
+        uncappedFps = uncapped;
+    }
+
+    /**
+     * 입력 대기 화면/일시정지 중 FPS 조회
+     * @return 초당 프레임 수
+     */
+    public static int getIdleFps() {
+        return idleFps;
+    }
+
+    /**
+     * 입력 대기 화면/일시정지 중 FPS 설정 (낮을수록 전력 절약, 키 입력 시에는 바로 다시 그림)
+     * @param fps 1~60
+     */
+    public static void setIdleFps(int fps) {
+        idleFps = Math.max(1, Math.min(60, fps));
+    }
+
     /**
      * 모든 설정 초기화
      */
@@ -94,6 +209,12 @@ public class GameSettings {
         bgmEnabled = true;
         brightness = 100;
         soundVolume = 1.0f;
+        renderThreadEnabled = false;
+        collisionEngine = null;
+        projectileSystemEnabled = true;
+        targetFps = DEFAULT_TARGET_FPS;
+        uncappedFps = false;
+        idleFps = DEFAULT_IDLE_FPS;
     }
 }
 
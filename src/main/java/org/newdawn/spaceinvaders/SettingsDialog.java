@@ -9,13 +9,19 @@ import org.newdawn.spaceinvaders.sound.SoundManager;
  * - StartScreen에서만 호출
  * - 로비 BGM on/off
  * - 밝기 조절
+ * - 프레임 제한
  */
 public class SettingsDialog extends JDialog {
     
     private JCheckBox bgmCheckBox;
     private JSlider brightnessSlider;
     private JLabel brightnessLabel;
+    private JComboBox<String> fpsComboBox;
     private StartScreen parentScreen;
+
+    // 프레임 제한 선택지 (0 = 무제한)
+    private static final int[] FPS_OPTIONS = {60, GameSettings.DEFAULT_TARGET_FPS, 144, 0};
+    private static final String[] FPS_LABELS = {"60 FPS", "100 FPS", "144 FPS", "무제한"};
     
     /**
      * 설정 다이얼로그 생성
@@ -25,7 +31,7 @@ public class SettingsDialog extends JDialog {
         super(parent, "⚙️ 환경설정", true); // 모달 다이얼로그
         this.parentScreen = parent;
         
-        setSize(400, 300);
+        setSize(400, 350);
         setLocationRelativeTo(parent);
         setResizable(false);
         setLayout(null);
@@ -70,9 +76,22 @@ public class SettingsDialog extends JDialog {
         brightnessLabel.setBounds(30, 170, 200, 30);
         add(brightnessLabel);
         
-        // === 3. 확인 버튼 ===
+        // === 3. 프레임 제한 ===
+        JLabel fpsLabel = new JLabel("🎞 프레임 제한:");
+        fpsLabel.setFont(new Font("맑은 고딕", Font.BOLD, 16));
+        fpsLabel.setBounds(30, 215, 150, 30);
+        add(fpsLabel);
+
+        fpsComboBox = new JComboBox<>(FPS_LABELS);
+        fpsComboBox.setSelectedIndex(currentFpsIndex());
+        fpsComboBox.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        fpsComboBox.setBounds(180, 215, 150, 30);
+        fpsComboBox.addActionListener(e -> updateFrameLimit());
+        add(fpsComboBox);
+
+        // === 4. 확인 버튼 ===
         JButton okButton = new JButton("✅ 확인");
-        okButton.setBounds(150, 220, 100, 35);
+        okButton.setBounds(150, 265, 100, 35);
         okButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         okButton.addActionListener(e -> {
             SoundManager.playClick();
@@ -102,9 +121,25 @@ public class SettingsDialog extends JDialog {
             parentScreen.applyBrightness(brightness);
         }
     }
-}
-
-
-
 
+    /**
+     * 현재 설정에 해당하는 프레임 제한 선택지 (목록에 없으면 기본값)
+     */
+    private static int currentFpsIndex() {
+        if (GameSettings.isUncappedFps()) return FPS_OPTIONS.length - 1;
+        for (int i = 0; i < FPS_OPTIONS.length; i++) {
+            if (FPS_OPTIONS[i] == GameSettings.getTargetFps()) return i;
+        }
+        return 1;
+    }
 
+    /**
+     * 프레임 제한 변경 (다음 프레임부터 반영)
+     */
+    private void updateFrameLimit() {
+        SoundManager.playClick();
+        int fps = FPS_OPTIONS[fpsComboBox.getSelectedIndex()];
+        GameSettings.setUncappedFps(fps == 0);
+        if (fps > 0) GameSettings.setTargetFps(fps);
+    }
+}
@@ -2,15 +2,43 @@ package org.newdawn.spaceinvaders;
 
 import java.awt.Graphics;
 import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import org.newdawn.spaceinvaders.collision.CollisionMask;
 
 public class Sprite {
     private Image image;
-    public Sprite(Image image) { this.image = image; }
+    /** SpriteStore 캐시 키 (리소스 경로, 스케일 캐시 조회용) */
+    private final String ref;
+    /** 알파 채널 충돌 마스크 (처음 충돌 검사에 쓰일 때 만듦, 없으면 null) */
+    private CollisionMask collisionMask;
+    /** SpriteStore 가 리소스에서 읽은 원본 스프라이트만 마스크를 만들 수 있음 (스케일 사본/직접 만든 것은 제외) */
+    private boolean maskable;
+    public Sprite(Image image) { this(image, null); }
+    public Sprite(Image image, String ref) {
+        this.image = image;
+        this.ref = ref;
+    }
     public int getWidth() { return image.getWidth(null); }
     public int getHeight() { return image.getHeight(null); }
     public Image getImage() { return image; }
+    public String getRef() { return ref; }
+    /**
+     * 픽셀 단위 충돌 마스크 (스케일 사본이나 SpriteStore 를 거치지 않고 만든 스프라이트는 null)
+     * - 충돌하는 스프라이트만 만들도록 첫 호출 때 만듦 (배경처럼 그리기만 하는 그림은 만들지 않음)
+     * - 충돌 검사는 게임 루프 스레드에서만 하므로 잠금 없음
+     */
+    public CollisionMask getCollisionMask() {
+        if (collisionMask == null && maskable && image instanceof BufferedImage) {
+            collisionMask = CollisionMask.fromImage((BufferedImage) image);
+        }
+        return collisionMask;
+    }
+    void enableCollisionMask() { this.maskable = true; }
     public void draw(Graphics g, int x, int y) { g.drawImage(image, x, y, null); }
     public void drawScaled(Graphics g, int x, int y, int w, int h) {
         g.drawImage(image, x, y, w, h, null);
     }
+    /** 이미지가 잡고 있는 네이티브/가속 자원 해제 (캐시에서 버릴 때) */
+    public void flush() { image.flush(); }
 }
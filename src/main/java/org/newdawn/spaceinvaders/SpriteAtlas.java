@@ -0,0 +1,114 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧩 SpriteAtlas — 작은 스프라이트 여러 장을 큰 시트 몇 장으로 묶는 패커
+ * - 높이 순으로 정렬한 뒤 선반(shelf) 방식으로 한 줄씩 채움
+ * - 시트 크기가 MAX_SHEET_SIZE 를 넘으면 새 시트를 시작
+ * - 결과는 ref → AtlasSprite 맵
+ */
+public final class SpriteAtlas {
+    /** 시트 한 장의 최대 크기 (px) */
+    private static final int MAX_SHEET_SIZE = 2048;
+    /** 스프라이트 사이 여백 (스케일 시 이웃 픽셀 번짐 방지) */
+    private static final int PADDING = 1;
+
+    private SpriteAtlas() { }
+
+    /** 패킹 중 위치가 정해진 스프라이트 한 장 */
+    private static class Placement {
+        final String ref;
+        final BufferedImage image;
+        int sheet;
+        int x;
+        int y;
+
+        Placement(String ref, BufferedImage image) {
+            this.ref = ref;
+            this.image = image;
+        }
+    }
+
+    /**
+     * 주어진 이미지들을 시트에 묶는다.
+     *
+     * @param refs 각 이미지의 리소스 경로
+     * @param images 디코딩된 원본 이미지 (refs 와 같은 순서)
+     * @param gc 시트를 만들 그래픽 설정
+     * @return ref → 시트 영역을 가리키는 스프라이트
+     */
+    public static Map<String, Sprite> pack(List<String> refs, List<BufferedImage> images, GraphicsConfiguration gc) {
+        List<Placement> placements = new ArrayList<>();
+        long area = 0;
+        int widest = 0;
+        for (int i = 0; i < refs.size(); i++) {
+            BufferedImage img = images.get(i);
+            placements.add(new Placement(refs.get(i), img));
+            area += (long) (img.getWidth() + PADDING) * (img.getHeight() + PADDING);
+            widest = Math.max(widest, img.getWidth() + PADDING);
+        }
+        placements.sort((a, b) -> b.image.getHeight() - a.image.getHeight());
+
+        int sheetWidth = Math.min(MAX_SHEET_SIZE, Math.max(widest, nextPowerOfTwo((int) Math.ceil(Math.sqrt(area)))));
+
+        // 선반 배치
+        List<Integer> sheetHeights = new ArrayList<>();
+        int sheet = 0, cursorX = 0, shelfY = 0, shelfHeight = 0;
+        for (Placement p : placements) {
+            int w = p.image.getWidth() + PADDING;
+            int h = p.image.getHeight() + PADDING;
+            if (cursorX + w > sheetWidth) {
+                shelfY += shelfHeight;
+                cursorX = 0;
+                shelfHeight = 0;
+            }
+            if (shelfY + h > MAX_SHEET_SIZE) {
+                sheetHeights.add(shelfY);
+                sheet++;
+                cursorX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+            p.sheet = sheet;
+            p.x = cursorX;
+            p.y = shelfY;
+            cursorX += w;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+        sheetHeights.add(shelfY + shelfHeight);
+
+        // 시트 생성 및 복사
+        BufferedImage[] sheets = new BufferedImage[sheetHeights.size()];
+        for (int i = 0; i < sheets.length; i++) {
+            sheets[i] = gc.createCompatibleImage(sheetWidth, Math.max(1, sheetHeights.get(i)), Transparency.BITMASK);
+        }
+        Graphics2D[] graphics = new Graphics2D[sheets.length];
+        for (int i = 0; i < sheets.length; i++) {
+            graphics[i] = sheets[i].createGraphics();
+        }
+
+        Map<String, Sprite> result = new HashMap<>();
+        for (Placement p : placements) {
+            graphics[p.sheet].drawImage(p.image, p.x, p.y, null);
+            result.put(p.ref, new AtlasSprite(sheets[p.sheet], p.x, p.y, p.image.getWidth(), p.image.getHeight(), p.ref));
+        }
+        for (Graphics2D g : graphics) {
+            g.dispose();
+        }
+        return result;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int p = 1;
+        while (p < value) p <<= 1;
+        return p;
+    }
+}
@@ -1,5 +1,6 @@
 package org.newdawn.spaceinvaders;
 
+import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
@@ -7,10 +8,14 @@ import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.imageio.ImageIO;
 
+
 /**
  * A resource manager for sprites in the game. Its often quite important
  * how and where you get your game resources from. In most cases
@@ -22,6 +27,40 @@ import javax.imageio.ImageIO;
  * @author Kevin Glass
  */
 public class SpriteStore {
+	/**
+	 * VolatileImage 로 올려 둘 "자주 그리는" 스프라이트 경로 접두사
+	 * (몬스터 프레임, 총알, 배경)
+	 */
+	private static final String[] HOT_PREFIXES = {
+		"sprites/monster",
+		"sprites/shot",
+		"sprites/blueshot",
+		"sprites/bombshot",
+		"sprites/iceshot",
+		"bg/"
+	};
+	
+	/**
+	 * 한 장의 시트로 묶을 스프라이트 그룹
+	 * 그룹 중 하나가 처음 요청될 때 그룹 전체를 로드해서 패킹한다.
+	 * <p>
+	 * 원본 크기 그대로 그리는 스프라이트만 넣는다. 몬스터 프레임, 총알, 보스
+	 * 오버레이는 getScaledSprite() 로 따로 스케일한 사본을 그리므로 시트를
+	 * 샘플링할 일이 없고, 시트에 넣으면 HOT_PREFIXES 의 가속 계층(createSprite)도
+	 * 거치지 않게 되어 그룹에서 뺐다.
+	 */
+	private static final String[][] ATLAS_GROUPS = {
+		// candywall 장애물 프레임 (a/b/c 그룹)
+		{
+			"sprites/candywall/a/a_1.png", "sprites/candywall/a/a_2.png",
+			"sprites/candywall/a/a_3.png", "sprites/candywall/a/a_4.png",
+			"sprites/candywall/b/b_1.png", "sprites/candywall/b/b_2.png",
+			"sprites/candywall/b/b_3.png", "sprites/candywall/b/b_4.png",
+			"sprites/candywall/c/c_1.png", "sprites/candywall/c/c_2.png",
+			"sprites/candywall/c/c_3.png", "sprites/candywall/c/c_4.png"
+		}
+	};
+	
 	/** The single instance of this class */
 	private static SpriteStore single = new SpriteStore();
 	
@@ -37,21 +76,89 @@ public class SpriteStore {
 	/** The cached sprite map, from reference to sprite instance */
 	private HashMap<String, Sprite> sprites = new HashMap<>();
 	
+	/** 이미 시트로 묶은 그룹 표시 */
+	private final boolean[] atlasBuilt = new boolean[ATLAS_GROUPS.length];
+	
+	/** 아틀라스 사용 여부 */
+	private boolean atlasEnabled = true;
+	
+	/** 가속 스프라이트 계층 사용 여부 */
+	private boolean accelerationEnabled = true;
+	
+	/** 이미지 생성에 쓰는 구성 (처음 사용할 때 결정) */
+	private GraphicsConfiguration gc;
+	
+	/** 스케일 캐시 메모리 예산 (픽셀 수, ARGB 기준 약 32MB) */
+	private static final long SCALED_BUDGET_PIXELS = 8L * 1024 * 1024;
+	
+	/** 미리 축소해 둔 스프라이트 캐시 (ref → 크기별 항목) */
+	private final Map<String, List<ScaledEntry>> scaledSprites = new HashMap<>();
+	/** 스케일 캐시가 현재 사용 중인 픽셀 수 */
+	private long scaledPixels = 0;
+	/** LRU 판단용 접근 카운터 */
+	private long scaledAccessClock = 0;
+	
+	/**
+	 * 스케일 캐시 항목 — (ref, width, height) 하나당 한 장
+	 */
+	private static class ScaledEntry {
+		final int width;
+		final int height;
+		final Sprite sprite;
+		long lastUse;
+		
+		ScaledEntry(int width, int height, Sprite sprite) {
+			this.width = width;
+			this.height = height;
+			this.sprite = sprite;
+		}
+	}
+	
 	/**
 	 * Retrieve a sprite from the store
 	 * 
 	 * @param ref The reference to the image to use for the sprite
 	 * @return A sprite instance containing an accelerate image of the request reference
 	 */
-	public Sprite getSprite(String ref) {
+	public synchronized Sprite getSprite(String ref) {
 		// if we've already got the sprite in the cache
 		// then just return the existing version
 		if (sprites.get(ref) != null) {
 			return sprites.get(ref);
 		}
 		
+		// 아틀라스 그룹에 속한 경로면 그룹 전체를 시트로 묶어서 등록
+		if (atlasEnabled && buildAtlasFor(ref)) {
+			return sprites.get(ref);
+		}
+		
 		// otherwise, go away and grab the sprite from the resource
 		// loader
+		BufferedImage sourceImage = readImage(ref, true);
+		
+		// create an accelerated image of the right size to store our sprite in
+		GraphicsConfiguration gc = graphicsConfiguration();
+		BufferedImage image = gc.createCompatibleImage(sourceImage.getWidth(),sourceImage.getHeight(),Transparency.BITMASK);
+		
+		// draw our source image into the accelerated image
+		image.getGraphics().drawImage(sourceImage,0,0,null);
+		
+		// create a sprite, add it the cache then return it
+		Sprite sprite = createSprite(image, ref);
+		sprite.enableCollisionMask();
+		sprites.put(ref,sprite);
+		
+		return sprite;
+	}
+	
+	/**
+	 * 리소스에서 이미지를 읽는다.
+	 * 
+	 * @param ref 리소스 경로
+	 * @param required true 면 실패 시 게임 종료, false 면 null 반환
+	 * @return 디코딩된 이미지
+	 */
+	private BufferedImage readImage(String ref, boolean required) {
 		BufferedImage sourceImage = null;
 		
 		try {
@@ -62,6 +169,7 @@ public class SpriteStore {
 			URL url = this.getClass().getClassLoader().getResource(ref);
 			
 			if (url == null) {
+				if (!required) return null;
 				fail("Can't find ref: "+ref);
 			}
 			
@@ -69,25 +177,243 @@ public class SpriteStore {
 			sourceImage = ImageIO.read(url);
 			
 			// verify the image was loaded successfully
-			if (sourceImage == null) {
+			if (sourceImage == null && required) {
 				fail("Failed to read image: "+ref);
 			}
 		} catch (IOException e) {
+			if (!required) return null;
 			fail("Failed to load: "+ref);
 		}
 		
-		// create an accelerated image of the right size to store our sprite in
-		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
-		Image image = gc.createCompatibleImage(sourceImage.getWidth(),sourceImage.getHeight(),Transparency.BITMASK);
+		return sourceImage;
+	}
+	
+	/**
+	 * ref 가 속한 아틀라스 그룹을 한 번에 로드해서 시트로 묶는다.
+	 * 
+	 * @param ref 요청된 리소스 경로
+	 * @return ref 가 아틀라스 스프라이트로 등록되었으면 true
+	 */
+	private boolean buildAtlasFor(String ref) {
+		for (int group = 0; group < ATLAS_GROUPS.length; group++) {
+			if (atlasBuilt[group] || !contains(ATLAS_GROUPS[group], ref)) {
+				continue;
+			}
+			atlasBuilt[group] = true;
+			
+			List<String> refs = new ArrayList<>();
+			List<BufferedImage> images = new ArrayList<>();
+			for (String member : ATLAS_GROUPS[group]) {
+				if (sprites.containsKey(member)) continue;
+				BufferedImage img = readImage(member, false);
+				if (img != null) {
+					refs.add(member);
+					images.add(img);
+				}
+			}
+			if (refs.isEmpty()) {
+				return false;
+			}
+			
+			GraphicsConfiguration gc = graphicsConfiguration();
+			Map<String, Sprite> packed = SpriteAtlas.pack(refs, images, gc);
+			for (int i = 0; i < refs.size(); i++) {
+				Sprite sprite = packed.get(refs.get(i));
+				if (sprite != null) sprite.enableCollisionMask();
+			}
+			sprites.putAll(packed);
+			return sprites.containsKey(ref);
+		}
+		return false;
+	}
+	
+	private static boolean contains(String[] refs, String ref) {
+		for (String r : refs) {
+			if (r.equals(ref)) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * 아틀라스 시트 사용 여부를 설정한다 (이미 만든 시트에는 영향 없음)
+	 * 
+	 * @param enabled false 면 모든 스프라이트를 개별 이미지로 로드
+	 */
+	public void setAtlasEnabled(boolean enabled) {
+		this.atlasEnabled = enabled;
+	}
+	
+	/**
+	 * 원본 스프라이트를 배율만큼 축소/확대한 스프라이트를 반환한다.
+	 * 크기 계산은 기존 draw 코드와 같이 (int)(원본 * scale) 로 한다.
+	 * 
+	 * @param source 원본 스프라이트 (SpriteStore 에서 받은 것)
+	 * @param scale 배율
+	 * @return 미리 스케일된 스프라이트
+	 */
+	public synchronized Sprite getScaledSprite(Sprite source, double scale) {
+		int width = (int) (source.getWidth() * scale);
+		int height = (int) (source.getHeight() * scale);
+		if (source.getRef() == null) {
+			// 캐시 키가 없는 스프라이트는 캐시하지 않고 그대로 스케일
+			return createScaledSprite(source, null, width, height);
+		}
+		return getScaledSprite(source.getRef(), width, height);
+	}
+	
+	/**
+	 * (ref, width, height) 조합으로 미리 스케일된 스프라이트를 반환한다.
+	 * 처음 요청될 때 한 번만 SCALE_SMOOTH 로 만들고 이후에는 캐시를 사용한다.
+	 * 캐시가 예산을 넘으면 가장 오래 쓰지 않은 항목부터 버린다.
+	 * 
+	 * @param ref 원본 이미지 경로
+	 * @param width 원하는 너비
+	 * @param height 원하는 높이
+	 * @return 화면 호환 이미지로 미리 스케일된 스프라이트
+	 */
+	public synchronized Sprite getScaledSprite(String ref, int width, int height) {
+		width = Math.max(1, width);
+		height = Math.max(1, height);
 		
-		// draw our source image into the accelerated image
-		image.getGraphics().drawImage(sourceImage,0,0,null);
+		List<ScaledEntry> entries = scaledSprites.get(ref);
+		if (entries != null) {
+			for (int i = 0; i < entries.size(); i++) {
+				ScaledEntry entry = entries.get(i);
+				if (entry.width == width && entry.height == height) {
+					entry.lastUse = ++scaledAccessClock;
+					return entry.sprite;
+				}
+			}
+		} else {
+			entries = new ArrayList<>(2);
+			scaledSprites.put(ref, entries);
+		}
 		
-		// create a sprite, add it the cache then return it
-		Sprite sprite = new Sprite(image);
-		sprites.put(ref,sprite);
+		Sprite source = getSprite(ref);
+		if (source.getWidth() == width && source.getHeight() == height) {
+			// 같은 크기면 원본 자체가 이미 가속 이미지이므로 그대로 사용
+			return source;
+		}
 		
-		return sprite;
+		ScaledEntry entry = new ScaledEntry(width, height, createScaledSprite(source, ref, width, height));
+		entry.lastUse = ++scaledAccessClock;
+		entries.add(entry);
+		scaledPixels += (long) width * height;
+		evictScaledIfOverBudget(entry);
+		return entry.sprite;
+	}
+	
+	/**
+	 * 원본을 SCALE_SMOOTH 로 한 번 스케일한 뒤 화면 호환 이미지에 옮겨 담는다.
+	 */
+	private Sprite createScaledSprite(Sprite source, String ref, int width, int height) {
+		width = Math.max(1, width);
+		height = Math.max(1, height);
+		Image smooth = source.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
+		
+		GraphicsConfiguration gc = graphicsConfiguration();
+		BufferedImage image = gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		
+		Graphics2D g = image.createGraphics();
+		g.drawImage(smooth, 0, 0, null);
+		g.dispose();
+		smooth.flush();
+		
+		return createSprite(image, ref);
+	}
+	
+	/**
+	 * 자주 그리는 스프라이트는 VolatileImage 계층으로, 나머지는 관리 이미지로 감싼다.
+	 */
+	private Sprite createSprite(BufferedImage image, String ref) {
+		if (ref != null && isHot(ref)) {
+			return new AcceleratedSprite(image, ref);
+		}
+		return new Sprite(image, ref);
+	}
+	
+	private boolean isHot(String ref) {
+		for (String prefix : HOT_PREFIXES) {
+			if (ref.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 화면과 같은 형식의 빈 이미지를 만든다 (런타임에 합성하는 레이어/프레임용).
+	 * 
+	 * @param width 너비
+	 * @param height 높이
+	 * @param transparency Transparency.OPAQUE / BITMASK / TRANSLUCENT
+	 * @return 호환 이미지
+	 */
+	public BufferedImage createCompatibleImage(int width, int height, int transparency) {
+		return graphicsConfiguration().createCompatibleImage(width, height, transparency);
+	}
+	
+	/**
+	 * 스프라이트 이미지를 만들 GraphicsConfiguration.
+	 * 헤드리스 환경에는 화면 장치가 없으므로 BufferedImage 의 구성을 대신 사용한다.
+	 * 
+	 * @return 호환 이미지를 만들 수 있는 구성
+	 */
+	private GraphicsConfiguration graphicsConfiguration() {
+		if (gc == null) {
+			if (GraphicsEnvironment.isHeadless()) {
+				Graphics2D g = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+				gc = g.getDeviceConfiguration();
+				g.dispose();
+			} else {
+				gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+			}
+		}
+		return gc;
+	}
+	
+	/**
+	 * 가속 스프라이트 계층 사용 여부
+	 * 
+	 * @return true 면 자주 그리는 스프라이트를 VolatileImage 로 그림
+	 */
+	public boolean isAccelerationEnabled() {
+		return accelerationEnabled && !GraphicsEnvironment.isHeadless();
+	}
+	
+	/**
+	 * 가속 스프라이트 계층을 켜거나 끈다 (끄면 관리 이미지로 그림)
+	 * 
+	 * @param enabled 사용 여부
+	 */
+	public void setAccelerationEnabled(boolean enabled) {
+		this.accelerationEnabled = enabled;
+	}
+	
+	/**
+	 * 예산을 넘는 동안 가장 오래 사용하지 않은 스케일 항목을 버린다.
+	 * 
+	 * @param keep 방금 만든 항목 (버리지 않음)
+	 */
+	private void evictScaledIfOverBudget(ScaledEntry keep) {
+		while (scaledPixels > SCALED_BUDGET_PIXELS) {
+			List<ScaledEntry> oldestList = null;
+			ScaledEntry oldest = null;
+			for (List<ScaledEntry> list : scaledSprites.values()) {
+				for (ScaledEntry entry : list) {
+					if (entry != keep && (oldest == null || entry.lastUse < oldest.lastUse)) {
+						oldest = entry;
+						oldestList = list;
+					}
+				}
+			}
+			if (oldest == null) {
+				return;
+			}
+			oldestList.remove(oldest);
+			scaledPixels -= (long) oldest.width * oldest.height;
+			oldest.sprite.flush();
+		}
 	}
 	
 	/**
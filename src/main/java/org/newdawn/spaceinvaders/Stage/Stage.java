@@ -1,5 +1,7 @@
 package org.newdawn.spaceinvaders.Stage;
 
+import org.newdawn.spaceinvaders.collision.CollisionEngine;
+
 /** 🧩 Stage 인터페이스 */
 public interface Stage {
     void init();     // 진입 1회
@@ -8,4 +10,10 @@ public interface Stage {
 
     /** ✅ 각 스테이지 리셋 시 내부 상태 초기화 */
     default void resetStageFlags() {}
+
+    /**
+     * ⚔️ 이 스테이지의 충돌 검사 엔진 (GameSettings 로 덮어쓸 수 있음)
+     * - 지금 스테이지들은 틱당 비용 차이가 측정 오차 안이라 모두 기본값(격자)을 씀
+     */
+    default CollisionEngine collisionEngine() { return CollisionEngine.SPATIAL_HASH; }
 }
\ No newline at end of file
@@ -12,7 +12,7 @@ public class Stage1 implements Stage {
 
     public Stage1(Game game) {
         this.game = game;
-        this.startMillis = System.currentTimeMillis();
+        this.startMillis = game.getClock().now();
     }
 
     @Override
@@ -25,14 +25,14 @@ public class Stage1 implements Stage {
             alien.setShotType("normal");
             game.addEntity(alien);
         }
-        startMillis = System.currentTimeMillis();
+        startMillis = game.getClock().now();
         System.out.println("👻 Stage 1 initialized with 6 basic monsters.");
     }
 
     @Override
     public void update() {
-        long elapsedSec = (System.currentTimeMillis() - startMillis) / 1000;
-        long now = System.currentTimeMillis();
+        long elapsedSec = (game.getClock().now() - startMillis) / 1000;
+        long now = game.getClock().now();
 
         if (elapsedSec < 60 && now - lastAlienShotTime > 5000) {
             for (int i = 0; i < 6; i++) {
@@ -78,7 +78,7 @@ public class Stage1 implements Stage {
     public void resetStageFlags() {
         bossSpawned = false;
         lastAlienShotTime = 0;
-        startMillis = System.currentTimeMillis(); // ✅ 재시작 시 타이머 리셋
+        startMillis = game.getClock().now(); // ✅ 재시작 시 타이머 리셋
         System.out.println("🔄 [Stage1] 보스 및 타이머 리셋 완료 (다시 10초 뒤 등장 예정)");
     }
 }
\ No newline at end of file
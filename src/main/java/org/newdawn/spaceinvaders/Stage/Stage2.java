@@ -12,7 +12,7 @@ public class Stage2 implements Stage {
 
     public Stage2(Game game) {
         this.game = game;
-        this.startMillis = System.currentTimeMillis();
+        this.startMillis = game.getClock().now();
     }
 
     @Override
@@ -27,14 +27,14 @@ public class Stage2 implements Stage {
             alien.setShotType("normal");
             game.addEntity(alien);
         }
-        startMillis = System.currentTimeMillis();
+        startMillis = game.getClock().now();
         System.out.println("🎃 [Stage2] 초기 몬스터 6마리 생성 완료");
     }
 
     @Override
     public void update() {
-        long elapsedSec = (System.currentTimeMillis() - startMillis) / 1000;
-        long now = System.currentTimeMillis();
+        long elapsedSec = (game.getClock().now() - startMillis) / 1000;
+        long now = game.getClock().now();
 
         // 80% 감소된 몬스터 생성 주기
         int normalGap = (int)(5000 * 0.8);
@@ -89,7 +89,7 @@ public class Stage2 implements Stage {
     public void resetStageFlags() {
         bossSpawned = false;
         lastAlienShotTime = 0;
-        startMillis = System.currentTimeMillis(); // 리셋 시 타이머 갱신
+        startMillis = game.getClock().now(); // 리셋 시 타이머 갱신
         System.out.println("✨ [Stage2] 보스 및 타이머 리셋 완료 (다시 10초 뒤 등장 예정)");
     }
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ public class Stage4 implements Stage {
 
     public Stage4(Game game) {
         this.game = game;
-        this.startMillis = System.currentTimeMillis();
+        this.startMillis = game.getClock().now();
     }
 
     @Override
@@ -32,14 +32,14 @@ public class Stage4 implements Stage {
         for (int x = 0; x < count; x++) {
             game.addEntity(new ObstacleEntity(game, x * w, 380));
         }
-        startMillis = System.currentTimeMillis();
+        startMillis = game.getClock().now();
         System.out.println("🧱 [Stage4] 장애물 1줄 생성 완료");
     }
 
     @Override
     public void update() {
-        long elapsedSec = (System.currentTimeMillis() - startMillis) / 1000;
-        long now = System.currentTimeMillis();
+        long elapsedSec = (game.getClock().now() - startMillis) / 1000;
+        long now = game.getClock().now();
 
         if (elapsedSec < 60 && now - lastAlienShotTime > 5000) {
             for (int i = 0; i < 6; i++) {
@@ -93,7 +93,7 @@ public class Stage4 implements Stage {
     public void resetStageFlags() {
         bossSpawned = false;
         lastAlienShotTime = 0;
-        startMillis = System.currentTimeMillis();
+        startMillis = game.getClock().now();
         System.out.println("🔄 [Stage4] 보스 및 타이머 리셋 완료 (다시 10초 뒤 등장 예정)");
     }
 }
\ No newline at end of file
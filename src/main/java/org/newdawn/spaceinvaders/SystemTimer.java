@@ -16,6 +16,13 @@ public final class SystemTimer {
 		return (System.nanoTime() - START_NANOS) / 1_000_000L;
 	}
 
+	/**
+	 * 프로그램이 시작된 이후의 경과 시간을 나노초 단위로 반환 (고정 틱 누산용)
+	 */
+	public static long getNanos() {
+		return System.nanoTime() - START_NANOS;
+	}
+
 	/**
 	 * 지정한 시간(ms) 동안 잠시 멈춤
 	 */
@@ -0,0 +1,177 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ⏲ TimerWheel — 게임 시각 기준으로 예약한 콜백을 때가 된 틱에만 실행하는 계층형 타이머 휠
+ * - 시간 단위는 시뮬레이션 틱(GameClock.TICK_MS), 게임 루프가 틱마다 advance() 호출
+ * - 단계 LEVELS 개 × 칸 SLOTS 개: 0단계 한 칸 = 1틱, 위 단계로 갈수록 한 칸이 SLOTS 배
+ *   (0단계 0.64초, 1단계 41초, 2단계 44분, 3단계 46시간, 그 뒤는 far 목록)
+ * - 위 단계 칸은 현재 틱이 그 구간에 들어설 때 한꺼번에 아래 단계로 내려 보냄(cascade)
+ *   → 틱마다 하는 일은 "현재 칸 하나 + 가끔 cascade" 로, 기다리는 타이머 수와 상관없음
+ * - 예약/취소는 칸별 이중 연결 리스트라 O(1), Timer 객체는 재사용 (예약마다 할당 없음)
+ * - 게임 루프 스레드 전용. 다른 스레드(키 입력 등)에서 예약/취소하면 큐에 넣었다가 다음 advance() 에서 반영
+ */
+public final class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int FAR = LEVELS; // 어느 단계에도 안 들어가는 먼 타이머
+
+    /** 예약한 작업 하나 — 엔티티가 필드로 들고 반복해서 다시 예약 */
+    public static final class Timer {
+        private final Runnable task;
+        private volatile TimerWheel wheel; // 예약 중(또는 다른 스레드에서 예약 요청 중)일 때만
+        private long expiry;      // 실행할 틱
+        private int level = -1;   // -1 = 예약 안 됨
+        private int slot;
+        private Timer prev, next;
+
+        public Timer(Runnable task) {
+            this.task = task;
+        }
+
+        /** 예약되어 아직 실행 전인지 */
+        public boolean isPending() {
+            return level >= 0;
+        }
+
+        /** 예약 취소 (예약 안 된 상태면 아무것도 안 함) */
+        public void cancel() {
+            TimerWheel w = wheel;
+            if (w != null) w.cancel(this);
+        }
+    }
+
+    private final GameClock clock;
+    private final Timer[][] slots = new Timer[LEVELS + 1][SLOTS];
+    private final ConcurrentLinkedQueue<Runnable> foreign = new ConcurrentLinkedQueue<>();
+    private volatile Thread owner;
+    private long current;
+    private int size;
+
+    public TimerWheel(GameClock clock) {
+        this.clock = clock;
+        this.current = clock.now() / GameClock.TICK_MS;
+    }
+
+    /**
+     * delayMs 뒤에 실행하도록 예약 (이미 예약 중이면 새 시각으로 옮김)
+     *
+     * @param timer 예약할 타이머
+     * @param delayMs 게임 시각 기준 지연 (0 이하면 다음 틱)
+     */
+    public void schedule(Timer timer, long delayMs) {
+        if (!onOwnerThread()) {
+            timer.wheel = this; // 반영 전에 cancel() 해도 순서대로 처리되도록
+            foreign.add(() -> schedule(timer, delayMs));
+            return;
+        }
+        if (timer.level >= 0) unlink(timer);
+
+        // 지금부터 delayMs 만큼 틱이 지난 뒤 (올림, 최소 다음 틱)
+        long ticks = (Math.max(0, delayMs) + GameClock.TICK_MS - 1) / GameClock.TICK_MS;
+        timer.expiry = Math.max(clock.now() / GameClock.TICK_MS, current) + Math.max(1, ticks);
+        timer.wheel = this;
+        place(timer);
+    }
+
+    /** 예약 취소 */
+    public void cancel(Timer timer) {
+        if (!onOwnerThread()) {
+            foreign.add(() -> cancel(timer));
+            return;
+        }
+        if (timer.level >= 0) unlink(timer);
+    }
+
+    /** 게임 시각(clock.now())까지 틱을 진행하며 때가 된 타이머 실행 — 틱마다 게임 루프에서 호출 */
+    public void advance() {
+        owner = Thread.currentThread();
+        Runnable op;
+        while ((op = foreign.poll()) != null) op.run();
+
+        long target = clock.now() / GameClock.TICK_MS;
+        if (size == 0) {
+            // 기다리는 타이머가 없으면 (대기 화면에서 오래 머문 뒤에도) 바로 건너뜀
+            current = Math.max(current, target);
+            return;
+        }
+        while (current < target) {
+            current++;
+            cascade();
+            Timer t;
+            while ((t = slots[0][(int) (current & SLOT_MASK)]) != null) {
+                unlink(t);
+                t.task.run();
+            }
+        }
+    }
+
+    /** 기다리는 타이머 수 */
+    public int size() {
+        return size;
+    }
+
+    // ========= 내부 =========
+
+    private boolean onOwnerThread() {
+        Thread o = owner;
+        return o == null || o == Thread.currentThread();
+    }
+
+    /**
+     * 현재 틱이 새 구간에 들어섰으면 위 단계 칸을 아래로 내려 보냄 (높은 단계부터)
+     * - k 단계 칸은 현재 틱의 아래 k * SLOT_BITS 비트가 모두 0 일 때 열림
+     */
+    private void cascade() {
+        int open = 0;
+        while (open < LEVELS && (current & ((1L << (SLOT_BITS * (open + 1))) - 1)) == 0) open++;
+        if (open == LEVELS) redistribute(FAR, 0);
+        for (int level = Math.min(open, LEVELS - 1); level >= 1; level--) {
+            redistribute(level, (int) ((current >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+    }
+
+    private void redistribute(int level, int slot) {
+        Timer t = slots[level][slot];
+        slots[level][slot] = null;
+        while (t != null) {
+            Timer next = t.next;
+            size--;
+            place(t);
+            t = next;
+        }
+    }
+
+    /**
+     * 만료 틱과 현재 틱이 같은 구간에 있는 가장 낮은 단계에 넣음
+     * (k 단계: 아래 (k + 1) * SLOT_BITS 비트를 뺀 나머지가 같음)
+     */
+    private void place(Timer t) {
+        int level = 0;
+        while (level < LEVELS && (t.expiry >>> (SLOT_BITS * (level + 1))) != (current >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = level == FAR ? 0 : (int) ((t.expiry >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        t.level = level;
+        t.slot = slot;
+        t.prev = null;
+        t.next = slots[level][slot];
+        if (t.next != null) t.next.prev = t;
+        slots[level][slot] = t;
+        size++;
+    }
+
+    private void unlink(Timer t) {
+        if (t.prev != null) t.prev.next = t.next;
+        else slots[t.level][t.slot] = t.next;
+        if (t.next != null) t.next.prev = t.prev;
+        t.prev = t.next = null;
+        t.level = -1;
+        t.wheel = null;
+        size--;
+    }
+}
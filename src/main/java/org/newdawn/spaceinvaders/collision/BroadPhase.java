@@ -0,0 +1,23 @@
+package org.newdawn.spaceinvaders.collision;
+
+/**
+ * 🔍 BroadPhase — 충돌할 "가능성이 있는" 엔티티 쌍만 추려 내는 단계
+ * - 정밀 검사(collidesWith)는 호출하는 쪽에서 함
+ * - 쌍은 (i, j) 인덱스로, i 오름차순 → 같은 i 안에서 j 오름차순, 항상 i < j 로 보고
+ *   (전수 검사와 같은 순서이므로 collidedWith 호출 순서가 바뀌지 않음)
+ * - 두 엔티티의 스프라이트 영역이 겹치지 않는 쌍은 빠져도 됨
+ * - 위치/크기/분류는 이번 틱에 한 번 계산한 CollisionBounds 에서 읽음 (엔티티 메서드를 부르지 않음)
+ */
+public interface BroadPhase {
+
+    /** 후보 쌍을 받는 콜백 */
+    interface PairVisitor {
+        void visit(int i, int j);
+    }
+
+    /**
+     * @param bounds 이번 틱 충돌 영역 (인덱스는 엔티티 목록과 같음, 검사 중 추가된 엔티티는 없음)
+     * @param visitor 후보 쌍마다 호출
+     */
+    void findPairs(CollisionBounds bounds, PairVisitor visitor);
+}
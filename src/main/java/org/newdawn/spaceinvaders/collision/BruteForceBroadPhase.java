@@ -0,0 +1,23 @@
+package org.newdawn.spaceinvaders.collision;
+
+/**
+ * 🐢 BruteForceBroadPhase — 모든 쌍을 후보로 보고 (O(n²))
+ * - 기존 동작 그대로이며, 다른 broad phase 결과와 비교할 때 기준으로 사용
+ * - 충돌 분류가 서로 반응하지 않는 쌍만 제외
+ */
+public class BruteForceBroadPhase implements BroadPhase {
+
+    @Override
+    public void findPairs(CollisionBounds bounds, PairVisitor visitor) {
+        int size = bounds.size();
+        for (int i = 0; i < size; i++) {
+            int mask = CollisionCategory.maskOf(bounds.category(i));
+            if (mask == CollisionCategory.NONE) continue;
+            for (int j = i + 1; j < size; j++) {
+                if ((mask & bounds.category(j)) != 0) {
+                    visitor.visit(i, j);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.newdawn.spaceinvaders.collision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 📦 CollisionBounds — 틱마다 한 번 계산한 엔티티별 충돌 영역 캐시
+ * - 엔티티 하나당 정수 STRIDE 개를 한 배열(data)에 연속으로 기록
+ *   (스프라이트 영역, 여백을 뺀 히트박스, 충돌 분류, 플래그)
+ * - broad phase 와 정밀 검사는 이 배열만 읽음 → 쌍마다 getWidth()/Image.getWidth(null) 같은
+ *   가상 호출과 Rectangle 할당이 없음
+ * - 검사 중 위치가 바뀐 엔티티(경로 검사로 되돌린 투사체)는 refresh() 로 한 칸만 다시 계산
+ * - 경로 검사 후보를 찾을 때는 expandToPath() 로 스프라이트 영역을 이번 틱 이동 경로 전체로 넓혀
+ *   broad phase 에 넣고, 끝나면 refresh() 로 되돌림
+ * - 자기만의 판정(Entity.hasCustomCollision)이 있는 엔티티는 CUSTOM 플래그만 세우고,
+ *   그 쌍은 호출하는 쪽이 collidesWith 로 검사
+ */
+public final class CollisionBounds {
+    // 한 엔티티의 칸 배치 (left/top 포함, right/bottom 제외)
+    private static final int LEFT = 0;
+    private static final int TOP = 1;
+    private static final int RIGHT = 2;
+    private static final int BOTTOM = 3;
+    private static final int HIT_LEFT = 4;
+    private static final int HIT_TOP = 5;
+    private static final int HIT_RIGHT = 6;
+    private static final int HIT_BOTTOM = 7;
+    private static final int CATEGORY = 8;
+    private static final int FLAGS = 9;
+    private static final int STRIDE = 10;
+
+    /** 여백을 빼면 크기가 0 이하 → 사각형 판정으로는 아무것과도 겹치지 않음 */
+    private static final int EMPTY_HITBOX = 1;
+    /** 자체 collidesWith 사용 */
+    private static final int CUSTOM = 2;
+    /** 경로 검사가 필요한 빠른 투사체 (expandToPath 부터 refresh 전까지) */
+    private static final int SWEPT = 4;
+
+    private int size;
+    private int[] data = new int[64 * STRIDE];
+    private Entity[] entities = new Entity[64];
+    private CollisionMask[] masks = new CollisionMask[64];
+
+    /**
+     * 목록 앞에서부터 count 개의 충돌 영역을 다시 계산
+     *
+     * @param list 엔티티 목록
+     * @param count 계산할 개수
+     */
+    public void rebuild(List<Entity> list, int count) {
+        if (entities.length < count) {
+            int n = Math.max(count, entities.length * 2);
+            data = new int[n * STRIDE];
+            entities = new Entity[n];
+            masks = new CollisionMask[n];
+        } else if (size > count) {
+            // 지난 틱 참조는 풀/GC 를 위해 비움
+            Arrays.fill(entities, count, size, null);
+            Arrays.fill(masks, count, size, null);
+        }
+        size = count;
+        for (int i = 0; i < count; i++) {
+            entities[i] = list.get(i);
+            refresh(i);
+        }
+    }
+
+    /** i 번 엔티티의 현재 상태로 다시 계산 */
+    public void refresh(int i) {
+        Entity e = entities[i];
+        int o = i * STRIDE;
+        int category = e.getCollisionCategory();
+        int w = category == CollisionCategory.NONE ? 0 : e.getCollisionWidth();
+        int h = category == CollisionCategory.NONE ? 0 : e.getCollisionHeight();
+        int x = e.getX();
+        int y = e.getY();
+        int m = Entity.COLLISION_MARGIN;
+
+        data[o + LEFT] = x;
+        data[o + TOP] = y;
+        data[o + RIGHT] = x + w;
+        data[o + BOTTOM] = y + h;
+        data[o + HIT_LEFT] = x + m;
+        data[o + HIT_TOP] = y + m;
+        data[o + HIT_RIGHT] = x + w - m;
+        data[o + HIT_BOTTOM] = y + h - m;
+        data[o + CATEGORY] = category;
+        int flags = 0;
+        if (w - m * 2 <= 0 || h - m * 2 <= 0) flags |= EMPTY_HITBOX;
+        if (e.hasCustomCollision()) flags |= CUSTOM;
+        data[o + FLAGS] = flags;
+        masks[i] = w > 0 && h > 0 ? e.getCollisionMask() : null;
+    }
+
+    /**
+     * i 번 스프라이트 영역을 틱 시작 위치의 영역까지 넓힘 (이동 경로를 덮는 박스)
+     * - 히트박스/마스크 기준점(left/top)이 바뀌므로 정밀 검사 전에 refresh() 로 되돌려야 함
+     *
+     * @param swept 경로 검사를 할 엔티티인지 (isSwept 로 확인)
+     */
+    public void expandToPath(int i, boolean swept) {
+        int o = i * STRIDE;
+        if (swept) data[o + FLAGS] |= SWEPT;
+        if (data[o + RIGHT] <= data[o + LEFT] || data[o + BOTTOM] <= data[o + TOP]) return;
+        Entity e = entities[i];
+        int dx = e.getPreviousX() - e.getX();
+        int dy = e.getPreviousY() - e.getY();
+        if (dx < 0) data[o + LEFT] += dx; else data[o + RIGHT] += dx;
+        if (dy < 0) data[o + TOP] += dy; else data[o + BOTTOM] += dy;
+    }
+
+    /** i 가 expandToPath 에서 경로 검사 대상으로 표시됐는지 */
+    public boolean isSwept(int i) {
+        return (data[i * STRIDE + FLAGS] & SWEPT) != 0;
+    }
+
+    public int size() { return size; }
+
+    public Entity entity(int i) { return entities[i]; }
+
+    public int left(int i) { return data[i * STRIDE + LEFT]; }
+
+    public int top(int i) { return data[i * STRIDE + TOP]; }
+
+    public int right(int i) { return data[i * STRIDE + RIGHT]; }
+
+    public int bottom(int i) { return data[i * STRIDE + BOTTOM]; }
+
+    public int category(int i) { return data[i * STRIDE + CATEGORY]; }
+
+    /** 스프라이트 영역 크기가 0 보다 큰지 (broad phase 에 넣을지) */
+    public boolean hasArea(int i) {
+        int o = i * STRIDE;
+        return data[o + RIGHT] > data[o + LEFT] && data[o + BOTTOM] > data[o + TOP];
+    }
+
+    /** i 나 j 가 자기만의 판정을 쓰는지 (그 쌍은 collidesWith 로 검사) */
+    public boolean isCustom(int i, int j) {
+        return ((data[i * STRIDE + FLAGS] | data[j * STRIDE + FLAGS]) & CUSTOM) != 0;
+    }
+
+    /**
+     * 정밀 검사 — Entity.collidesWith 기본 규칙과 같음
+     * (둘 다 알파 마스크가 있으면 불투명 픽셀끼리, 아니면 여백을 뺀 히트박스끼리)
+     */
+    public boolean overlaps(int i, int j) {
+        int a = i * STRIDE, b = j * STRIDE;
+        CollisionMask ma = masks[i], mb = masks[j];
+        if (ma != null && mb != null) {
+            return ma.overlaps(data[a + LEFT], data[a + TOP], mb, data[b + LEFT], data[b + TOP]);
+        }
+        if (((data[a + FLAGS] | data[b + FLAGS]) & EMPTY_HITBOX) != 0) return false;
+        return data[a + HIT_LEFT] < data[b + HIT_RIGHT] && data[b + HIT_LEFT] < data[a + HIT_RIGHT]
+            && data[a + HIT_TOP] < data[b + HIT_BOTTOM] && data[b + HIT_TOP] < data[a + HIT_BOTTOM];
+    }
+}
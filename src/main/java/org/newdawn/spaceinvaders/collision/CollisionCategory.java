@@ -0,0 +1,65 @@
+package org.newdawn.spaceinvaders.collision;
+
+/**
+ * 🏷 CollisionCategory — 엔티티 충돌 분류와 "서로 반응하는 분류" 표
+ * - 엔티티마다 분류 비트 하나를 가짐 (Entity.getCollisionCategory)
+ * - 표에 없는 쌍은 양쪽 collidedWith 모두 아무 일도 하지 않으므로
+ *   broad phase 가 바운딩 박스 계산 전에 버림
+ * - 분류를 선언하지 않은 엔티티는 OTHER 로, 모든 분류와 검사함 (기존 동작)
+ */
+public final class CollisionCategory {
+    public static final int NONE        = 0;
+    public static final int PLAYER      = 1;
+    public static final int MONSTER     = 1 << 1;
+    public static final int PLAYER_SHOT = 1 << 2;
+    public static final int ENEMY_SHOT  = 1 << 3;
+    public static final int SHIELD      = 1 << 4;
+    public static final int FORTRESS    = 1 << 5;
+    public static final int OBSTACLE    = 1 << 6;
+    public static final int HAZARD      = 1 << 7;
+    public static final int OTHER       = 1 << 8;
+
+    public static final int ALL = ~0;
+
+    /** 분류 비트 번호 → 함께 검사할 분류들 (대칭) */
+    private static final int[] MASKS = new int[9];
+
+    static {
+        allow(PLAYER, MONSTER);          // 몬스터 몸통 박치기 / 플레이어 사망
+        allow(PLAYER, ENEMY_SHOT);       // 적 총알 피해
+        allow(PLAYER, HAZARD);           // 모래 폭풍 등 환경 위험물
+        allow(PLAYER_SHOT, MONSTER);     // 총알/얼음/폭탄 명중
+        allow(PLAYER_SHOT, OBSTACLE);    // 장애물 파괴
+        allow(MONSTER, SHIELD);          // 방어막이 몬스터를 막음, 보스는 피해
+        allow(ENEMY_SHOT, SHIELD);       // 방어막이 총알을 막음
+        allow(ENEMY_SHOT, FORTRESS);     // 요새 피해
+        MASKS[index(OTHER)] = ALL;
+        for (int i = 0; i < MASKS.length; i++) {
+            MASKS[i] |= OTHER;
+        }
+    }
+
+    private CollisionCategory() {}
+
+    private static void allow(int a, int b) {
+        MASKS[index(a)] |= b;
+        MASKS[index(b)] |= a;
+    }
+
+    private static int index(int category) {
+        return Integer.numberOfTrailingZeros(category);
+    }
+
+    /**
+     * @param category 분류 비트 하나 (NONE 이면 아무것과도 검사하지 않음)
+     * @return 이 분류와 검사할 분류들의 비트 합
+     */
+    public static int maskOf(int category) {
+        return category == NONE ? NONE : MASKS[index(category)];
+    }
+
+    /** 두 분류가 서로 반응할 수 있는지 */
+    public static boolean interacts(int a, int b) {
+        return (maskOf(a) & b) != 0;
+    }
+}
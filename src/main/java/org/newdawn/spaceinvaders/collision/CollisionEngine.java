@@ -0,0 +1,37 @@
+package org.newdawn.spaceinvaders.collision;
+
+/**
+ * ⚙️ CollisionEngine — CollisionManager 가 쓸 broad phase 종류
+ * - 스테이지마다 기본값을 정하고 (Stage.collisionEngine), GameSettings 로 전체를 덮어쓸 수 있음
+ */
+public enum CollisionEngine {
+    /** 모든 쌍 검사 (기존 동작, 비교 기준) */
+    BRUTE_FORCE,
+    /** 균일 격자 — 화면 전체에 흩어진 엔티티에 유리 */
+    SPATIAL_HASH,
+    /** x 축 끝점 정렬 — 가로 띠로 모여 조금씩 움직이는 웨이브에 유리 */
+    SWEEP_AND_PRUNE;
+
+    public BroadPhase create() {
+        switch (this) {
+            case BRUTE_FORCE:     return new BruteForceBroadPhase();
+            case SWEEP_AND_PRUNE: return new SweepAndPruneBroadPhase();
+            default:              return new SpatialHashBroadPhase();
+        }
+    }
+
+    /** 명령행/설정 문자열 → 엔진 (brute, hash, sap 또는 enum 이름, 모르면 null) */
+    public static CollisionEngine parse(String name) {
+        if (name == null) return null;
+        switch (name.trim().toLowerCase()) {
+            case "brute": case "brute_force":
+                return BRUTE_FORCE;
+            case "hash": case "grid": case "spatial_hash":
+                return SPATIAL_HASH;
+            case "sap": case "sweep_and_prune":
+                return SWEEP_AND_PRUNE;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.newdawn.spaceinvaders.collision;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 🎭 CollisionMask — 스프라이트 알파 채널에서 뽑은 1비트 충돌 마스크
+ * - 한 줄을 64비트 워드 여러 개로 묶어 저장 (비트 1 = 불투명 픽셀)
+ * - 스프라이트를 만들 때 한 번만 생성 (SpriteStore)
+ * - 두 마스크 비교는 겹치는 줄만, 64픽셀씩 AND 하므로 바운딩 박스가 겹친 쌍에만 써도 충분히 쌈
+ * - 모든 픽셀이 불투명하면 비트를 저장하지 않고 solid 로 표시 (박스 검사와 같음)
+ */
+public final class CollisionMask {
+    /** 이 값 이상이면 불투명으로 봄 (스케일 시 가장자리 반투명 픽셀 절반 기준) */
+    private static final int ALPHA_THRESHOLD = 128;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    /** 줄 단위 비트 (열 c 는 words[row * wordsPerRow + c / 64] 의 (c % 64) 번째 비트), solid 면 null */
+    private final long[] words;
+
+    private CollisionMask(int width, int height, long[] words) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = words;
+    }
+
+    /**
+     * 이미지 알파 채널로 마스크를 만든다.
+     *
+     * @param image 스프라이트 이미지 (알파 없는 형식이면 solid)
+     * @return 마스크
+     */
+    public static CollisionMask fromImage(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        if (!image.getColorModel().hasAlpha()) {
+            return new CollisionMask(w, h, null);
+        }
+
+        int wordsPerRow = (w + 63) >>> 6;
+        long[] words = new long[wordsPerRow * h];
+        int[] row = new int[w];
+        boolean solid = true;
+        for (int y = 0; y < h; y++) {
+            image.getRGB(0, y, w, 1, row, 0, w);
+            int base = y * wordsPerRow;
+            for (int x = 0; x < w; x++) {
+                if ((row[x] >>> 24) >= ALPHA_THRESHOLD) {
+                    words[base + (x >>> 6)] |= 1L << (x & 63);
+                } else {
+                    solid = false;
+                }
+            }
+        }
+        return new CollisionMask(w, h, solid ? null : words);
+    }
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+
+    /** 모든 픽셀이 불투명한지 */
+    public boolean isSolid() { return words == null; }
+
+    /**
+     * 두 마스크를 각자의 위치에 놓았을 때 불투명 픽셀이 하나라도 겹치는지.
+     *
+     * @param ax 이 마스크의 왼쪽
+     * @param ay 이 마스크의 위쪽
+     * @param other 다른 마스크
+     * @param bx 다른 마스크의 왼쪽
+     * @param by 다른 마스크의 위쪽
+     * @return 겹치는 불투명 픽셀이 있으면 true
+     */
+    public boolean overlaps(int ax, int ay, CollisionMask other, int bx, int by) {
+        int x0 = Math.max(ax, bx);
+        int x1 = Math.min(ax + width, bx + other.width);
+        int y0 = Math.max(ay, by);
+        int y1 = Math.min(ay + height, by + other.height);
+        if (x0 >= x1 || y0 >= y1) return false;
+        if (isSolid() && other.isSolid()) return true;
+
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x += 64) {
+                int n = Math.min(64, x1 - x);
+                long keep = n == 64 ? -1L : (1L << n) - 1;
+                if ((bits(y - ay, x - ax) & other.bits(y - by, x - bx) & keep) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** row 줄의 col 열부터 64픽셀 (범위 밖은 0) */
+    private long bits(int row, int col) {
+        if (words == null) {
+            int n = width - col;
+            return n >= 64 ? -1L : (1L << n) - 1;
+        }
+        int base = row * wordsPerRow;
+        int word = col >>> 6;
+        int shift = col & 63;
+        long lo = words[base + word] >>> shift;
+        if (shift == 0 || word + 1 >= wordsPerRow) return lo;
+        return lo | (words[base + word + 1] << (64 - shift));
+    }
+}
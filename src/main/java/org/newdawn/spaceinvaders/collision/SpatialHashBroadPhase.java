@@ -0,0 +1,146 @@
+package org.newdawn.spaceinvaders.collision;
+
+import java.util.Arrays;
+
+/**
+ * 🧱 SpatialHashBroadPhase — 균일 격자(공간 해시)로 같은 칸을 공유하는 쌍만 후보로 보고
+ * - 매 틱 격자를 다시 만든다 (엔티티 수에 비례, 배열은 재사용)
+ * - 칸 좌표는 해시 버킷으로 접히므로 서로 다른 칸이 같은 버킷에 들어갈 수 있지만,
+ *   그런 쌍은 바운딩 박스 검사에서 걸러짐
+ * - 한 쌍이 여러 칸을 공유해도 스탬프 배열로 한 번만 보고
+ * - 충돌 분류(CollisionCategory)가 서로 반응하지 않는 쌍은 박스 계산 전에 버림
+ */
+public class SpatialHashBroadPhase implements BroadPhase {
+    private static final int DEFAULT_CELL_SIZE = 64;
+
+    private final int cellShift;
+
+    // 엔티티별 바운딩 박스 (x0, y0 포함 / x1, y1 제외) — 격자 순회용으로 CollisionBounds 에서 복사
+    private int[] minX = new int[64];
+    private int[] minY = new int[64];
+    private int[] maxX = new int[64];
+    private int[] maxY = new int[64];
+    private int[] category = new int[64];
+    /** 중복 보고 방지: stamp[j] == i + 1 이면 이번 i 에서 이미 후보에 넣음 */
+    private int[] stamp = new int[64];
+
+    // 버킷별 단일 연결 리스트 (head → entryNext → ...)
+    private int[] bucketHead = new int[256];
+    private int[] entryEntity = new int[256];
+    private int[] entryNext = new int[256];
+    private int entryCount;
+
+    /** 한 엔티티의 후보 목록 (정렬 후 보고) */
+    private int[] candidates = new int[64];
+
+    public SpatialHashBroadPhase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize 격자 칸 크기 (2의 거듭제곱으로 올림)
+     */
+    public SpatialHashBroadPhase(int cellSize) {
+        int shift = 0;
+        while ((1 << shift) < cellSize) shift++;
+        this.cellShift = shift;
+    }
+
+    @Override
+    public void findPairs(CollisionBounds bounds, PairVisitor visitor) {
+        int size = bounds.size();
+        ensureEntityCapacity(size);
+        int cells = 0;
+        for (int i = 0; i < size; i++) {
+            category[i] = bounds.category(i);
+            minX[i] = bounds.left(i);
+            minY[i] = bounds.top(i);
+            maxX[i] = bounds.right(i);
+            maxY[i] = bounds.bottom(i);
+            stamp[i] = 0;
+            if (bounds.hasArea(i)) {
+                cells += ((maxX[i] - 1 >> cellShift) - (minX[i] >> cellShift) + 1)
+                       * ((maxY[i] - 1 >> cellShift) - (minY[i] >> cellShift) + 1);
+            }
+        }
+        build(size, cells);
+
+        int bucketMask = bucketHead.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (maxX[i] <= minX[i] || maxY[i] <= minY[i]) continue;
+
+            int mask = CollisionCategory.maskOf(category[i]);
+            int found = 0;
+            int cx0 = minX[i] >> cellShift, cx1 = maxX[i] - 1 >> cellShift;
+            int cy0 = minY[i] >> cellShift, cy1 = maxY[i] - 1 >> cellShift;
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    for (int k = bucketHead[hash(cx, cy) & bucketMask]; k >= 0; k = entryNext[k]) {
+                        int j = entryEntity[k];
+                        if (j <= i || stamp[j] == i + 1) continue;
+                        stamp[j] = i + 1;
+                        if ((mask & category[j]) == 0) continue;
+                        if (minX[j] >= maxX[i] || minX[i] >= maxX[j]
+                                || minY[j] >= maxY[i] || minY[i] >= maxY[j]) continue;
+                        if (found == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, found * 2);
+                        }
+                        candidates[found++] = j;
+                    }
+                }
+            }
+
+            // 전수 검사와 같은 순서로 보고
+            Arrays.sort(candidates, 0, found);
+            for (int c = 0; c < found; c++) {
+                visitor.visit(i, candidates[c]);
+            }
+        }
+    }
+
+    /** 엔티티가 덮는 모든 칸의 버킷에 엔티티 인덱스를 넣음 */
+    private void build(int size, int cells) {
+        int buckets = 256;
+        while (buckets < cells * 2) buckets <<= 1;
+        if (bucketHead.length != buckets) {
+            bucketHead = new int[buckets];
+        }
+        Arrays.fill(bucketHead, -1);
+        if (entryEntity.length < cells) {
+            entryEntity = new int[buckets];
+            entryNext = new int[buckets];
+        }
+        entryCount = 0;
+
+        int mask = buckets - 1;
+        for (int i = 0; i < size; i++) {
+            if (maxX[i] <= minX[i] || maxY[i] <= minY[i]) continue;
+            int cx0 = minX[i] >> cellShift, cx1 = maxX[i] - 1 >> cellShift;
+            int cy0 = minY[i] >> cellShift, cy1 = maxY[i] - 1 >> cellShift;
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    int b = hash(cx, cy) & mask;
+                    entryEntity[entryCount] = i;
+                    entryNext[entryCount] = bucketHead[b];
+                    bucketHead[b] = entryCount++;
+                }
+            }
+        }
+    }
+
+    private void ensureEntityCapacity(int size) {
+        if (minX.length >= size) return;
+        int n = Math.max(size, minX.length * 2);
+        minX = new int[n];
+        minY = new int[n];
+        maxX = new int[n];
+        maxY = new int[n];
+        category = new int[n];
+        stamp = new int[n];
+    }
+
+    private static int hash(int cx, int cy) {
+        int h = cx * 73856093 ^ cy * 19349663;
+        return h ^ (h >>> 16);
+    }
+}
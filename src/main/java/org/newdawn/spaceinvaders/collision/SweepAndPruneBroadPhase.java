@@ -0,0 +1,221 @@
+package org.newdawn.spaceinvaders.collision;
+
+import java.util.Arrays;
+
+/**
+ * ↔️ SweepAndPruneBroadPhase — x 축 끝점(min/max) 목록을 훑어 x 구간이 겹치는 쌍만 후보로 보고
+ * - 끝점 목록은 틱 사이에 유지하고, 매 틱 좌표만 갱신한 뒤 삽입 정렬로 다시 정렬
+ *   (몬스터는 좌우로 조금씩, 총알은 세로로만 움직이므로 대부분 이미 정렬된 상태 → 거의 O(n))
+ * - 사라진 엔티티의 끝점은 순서를 유지한 채 빼고, 새 엔티티의 끝점은 뒤에 붙여 정렬이 제자리로 보냄
+ * - 훑는 중 열린 구간(active) 끼리만 y 겹침과 충돌 분류를 확인
+ * - 찾은 쌍은 (i, j) 순으로 정렬해서 보고 (전수 검사와 같은 순서)
+ * - 끝점은 엔티티 id 로 기억하고, id → 이번 틱 인덱스는 int 배열 해시 표로 찾음 (틱마다 박싱/할당 없음)
+ */
+public class SweepAndPruneBroadPhase implements BroadPhase {
+
+    // 엔티티별 바운딩 박스 (x0, y0 포함 / x1, y1 제외, CollisionBounds 에서 복사) — 인덱스는 이번 틱 목록 기준
+    private int[] minX = new int[64];
+    private int[] minY = new int[64];
+    private int[] maxX = new int[64];
+    private int[] maxY = new int[64];
+    private int[] category = new int[64];
+    /** 이번 틱에 기존 끝점이 살아남았는지 (새로 붙일 엔티티 구분용) */
+    private boolean[] tracked = new boolean[64];
+    /** active 목록에서의 위치 (제거 시 맞바꾸기용) */
+    private int[] activeSlot = new int[64];
+
+    // 끝점 목록 — x 오름차순 (같은 x 에서는 max 가 먼저: 맞닿기만 한 구간은 겹치지 않음)
+    private int[] endId = new int[128];
+    private int[] endIndex = new int[128];
+    private int[] endValue = new int[128];
+    private boolean[] endIsMax = new boolean[128];
+    private int endCount;
+
+    // 엔티티 id → 이번 틱 인덱스 (열린 주소 해시, 키 0 = 빈 칸 — id 는 1 부터)
+    private int[] slotKey = new int[128];
+    private int[] slotIndex = new int[128];
+
+    private int[] active = new int[64];
+    private long[] pairs = new long[64];
+
+    @Override
+    public void findPairs(CollisionBounds bounds, PairVisitor visitor) {
+        int size = bounds.size();
+        ensureEntityCapacity(size);
+        clearSlots(size);
+        for (int i = 0; i < size; i++) {
+            category[i] = bounds.category(i);
+            minX[i] = bounds.left(i);
+            minY[i] = bounds.top(i);
+            maxX[i] = bounds.right(i);
+            maxY[i] = bounds.bottom(i);
+            tracked[i] = false;
+            putSlot(bounds.entity(i).getId(), i);
+        }
+
+        refreshEndpoints(bounds, size);
+        insertionSort();
+        int pairCount = sweep();
+
+        Arrays.sort(pairs, 0, pairCount);
+        for (int p = 0; p < pairCount; p++) {
+            visitor.visit((int) (pairs[p] >>> 32), (int) pairs[p]);
+        }
+    }
+
+    /**
+     * 기존 끝점은 순서를 유지한 채 좌표만 갱신하고, 사라졌거나 크기가 0 이 된 엔티티는 뺀다.
+     * 아직 목록에 없는 엔티티의 끝점은 뒤에 붙인다.
+     */
+    private void refreshEndpoints(CollisionBounds bounds, int size) {
+        int kept = 0;
+        for (int k = 0; k < endCount; k++) {
+            int i = slotOf(endId[k]);
+            if (i < 0 || !hasArea(i)) continue;
+            tracked[i] = true;
+            endId[kept] = endId[k];
+            endIndex[kept] = i;
+            endIsMax[kept] = endIsMax[k];
+            endValue[kept] = endIsMax[k] ? maxX[i] : minX[i];
+            kept++;
+        }
+        endCount = kept;
+
+        for (int i = 0; i < size; i++) {
+            if (tracked[i] || !hasArea(i)) continue;
+            ensureEndpointCapacity(endCount + 2);
+            int id = bounds.entity(i).getId();
+            appendEndpoint(id, i, false);
+            appendEndpoint(id, i, true);
+        }
+    }
+
+    private void appendEndpoint(int id, int i, boolean isMax) {
+        endId[endCount] = id;
+        endIndex[endCount] = i;
+        endIsMax[endCount] = isMax;
+        endValue[endCount] = isMax ? maxX[i] : minX[i];
+        endCount++;
+    }
+
+    /** 거의 정렬된 목록이므로 삽입 정렬 (움직인 거리만큼만 자리 이동) */
+    private void insertionSort() {
+        for (int k = 1; k < endCount; k++) {
+            int value = endValue[k];
+            boolean isMax = endIsMax[k];
+            if (!before(value, isMax, endValue[k - 1], endIsMax[k - 1])) continue;
+
+            int id = endId[k];
+            int index = endIndex[k];
+            int m = k - 1;
+            do {
+                endId[m + 1] = endId[m];
+                endIndex[m + 1] = endIndex[m];
+                endValue[m + 1] = endValue[m];
+                endIsMax[m + 1] = endIsMax[m];
+                m--;
+            } while (m >= 0 && before(value, isMax, endValue[m], endIsMax[m]));
+            endId[m + 1] = id;
+            endIndex[m + 1] = index;
+            endValue[m + 1] = value;
+            endIsMax[m + 1] = isMax;
+        }
+    }
+
+    private static boolean before(int value, boolean isMax, int otherValue, boolean otherIsMax) {
+        return value < otherValue || (value == otherValue && isMax && !otherIsMax);
+    }
+
+    /**
+     * 끝점을 왼쪽부터 훑으며 min 을 만나면 열린 구간들과 짝을 확인하고 열고, max 를 만나면 닫는다.
+     * @return 찾은 쌍 수 (pairs 앞부분)
+     */
+    private int sweep() {
+        int activeCount = 0;
+        int pairCount = 0;
+        for (int k = 0; k < endCount; k++) {
+            int i = endIndex[k];
+            if (endIsMax[k]) {
+                int slot = activeSlot[i];
+                int last = active[--activeCount];
+                active[slot] = last;
+                activeSlot[last] = slot;
+                continue;
+            }
+
+            int mask = CollisionCategory.maskOf(category[i]);
+            for (int a = 0; a < activeCount; a++) {
+                int j = active[a];
+                if ((mask & category[j]) == 0) continue;
+                if (minY[j] >= maxY[i] || minY[i] >= maxY[j]) continue;
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairCount * 2);
+                }
+                pairs[pairCount++] = i < j ? (long) i << 32 | j : (long) j << 32 | i;
+            }
+            active[activeCount] = i;
+            activeSlot[i] = activeCount++;
+        }
+        return pairCount;
+    }
+
+    /** 표를 비움 (엔티티 수의 두 배 이상인 2 의 거듭제곱 크기로 유지) */
+    private void clearSlots(int size) {
+        int capacity = slotKey.length;
+        while (capacity < size * 2) capacity <<= 1;
+        if (capacity != slotKey.length) {
+            slotKey = new int[capacity];
+            slotIndex = new int[capacity];
+        } else {
+            Arrays.fill(slotKey, 0);
+        }
+    }
+
+    private void putSlot(int id, int i) {
+        int mask = slotKey.length - 1;
+        int h = hash(id) & mask;
+        while (slotKey[h] != 0) h = (h + 1) & mask;
+        slotKey[h] = id;
+        slotIndex[h] = i;
+    }
+
+    /** @return id 의 이번 틱 인덱스, 목록에 없으면 -1 */
+    private int slotOf(int id) {
+        int mask = slotKey.length - 1;
+        for (int h = hash(id) & mask; slotKey[h] != 0; h = (h + 1) & mask) {
+            if (slotKey[h] == id) return slotIndex[h];
+        }
+        return -1;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private boolean hasArea(int i) {
+        return maxX[i] > minX[i] && maxY[i] > minY[i];
+    }
+
+    private void ensureEntityCapacity(int size) {
+        if (minX.length >= size) return;
+        int n = Math.max(size, minX.length * 2);
+        minX = new int[n];
+        minY = new int[n];
+        maxX = new int[n];
+        maxY = new int[n];
+        category = new int[n];
+        tracked = new boolean[n];
+        activeSlot = new int[n];
+        active = new int[n];
+    }
+
+    private void ensureEndpointCapacity(int count) {
+        if (endId.length >= count) return;
+        int n = Math.max(count, endId.length * 2);
+        endId = Arrays.copyOf(endId, n);
+        endIndex = Arrays.copyOf(endIndex, n);
+        endValue = Arrays.copyOf(endValue, n);
+        endIsMax = Arrays.copyOf(endIsMax, n);
+    }
+}
@@ -0,0 +1,130 @@
+package org.newdawn.spaceinvaders.collision;
+
+import java.util.Arrays;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 🎯 TargetGrid — 총알 대상(몬스터/장애물/방어막/요새/플레이어)을 틱마다 한 번 균일 격자에 넣고,
+ * 총알은 자기 박스가 걸친 칸의 대상만 후보로 받음
+ * - 화면(800x600) 밖 좌표는 가장자리 칸으로 모음 → 겹치는 두 박스는 항상 한 칸 이상 공유
+ * - 대상 박스는 이전 위치~현재 위치를 합친 영역 (이동 경로 검사도 놓치지 않게)
+ * - 넣은 순서가 우선순위: 후보는 넣은 순서대로 정렬해서 돌려줌
+ * - 배열은 재사용하므로 틱마다 할당 없음 (게임 루프 스레드에서만 사용)
+ */
+public class TargetGrid {
+    private static final int CELL_SHIFT = 6; // 64px
+    private static final int COLS = (800 >> CELL_SHIFT) + 1;
+    private static final int ROWS = (600 >> CELL_SHIFT) + 1;
+
+    private Entity[] targets = new Entity[64];
+    private int targetCount;
+
+    // 칸별 단일 연결 리스트 (head → entryNext → ...)
+    private final int[] cellHead = new int[COLS * ROWS];
+    private int[] entryTarget = new int[256];
+    private int[] entryNext = new int[256];
+    private int entryCount;
+
+    /** 중복 방지: stamp[r] == queryId 이면 이번 질의에서 이미 후보에 넣음 */
+    private int[] stamp = new int[64];
+    private int queryId;
+
+    private int[] candidates = new int[64];
+    private int candidateCount;
+
+    /** 격자 비우기 (틱 시작마다) */
+    public void clear() {
+        for (int r = 0; r < targetCount; r++) targets[r] = null;
+        targetCount = 0;
+        entryCount = 0;
+        Arrays.fill(cellHead, -1);
+    }
+
+    /**
+     * 대상 하나를 격자에 넣음 (null 은 무시)
+     * - 박스: 이전/현재 위치를 합친 영역, 크기는 그림/충돌 크기 중 큰 쪽 + 1px 여유
+     */
+    public void add(Entity e) {
+        if (e == null) return;
+        if (targetCount == targets.length) {
+            targets = Arrays.copyOf(targets, targetCount * 2);
+            stamp = Arrays.copyOf(stamp, targetCount * 2);
+        }
+        int rank = targetCount++;
+        targets[rank] = e;
+        stamp[rank] = 0;
+
+        int w = Math.max(e.getWidth(), e.getCollisionWidth());
+        int h = Math.max(e.getHeight(), e.getCollisionHeight());
+        int left = Math.min(e.getPreviousX(), e.getX()) - 1;
+        int top = Math.min(e.getPreviousY(), e.getY()) - 1;
+        int right = Math.max(e.getPreviousX(), e.getX()) + w + 1;
+        int bottom = Math.max(e.getPreviousY(), e.getY()) + h + 1;
+
+        int cx0 = col(left), cx1 = col(right);
+        int cy0 = row(top), cy1 = row(bottom);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                if (entryCount == entryTarget.length) {
+                    entryTarget = Arrays.copyOf(entryTarget, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                int c = cy * COLS + cx;
+                entryTarget[entryCount] = rank;
+                entryNext[entryCount] = cellHead[c];
+                cellHead[c] = entryCount++;
+            }
+        }
+    }
+
+    /**
+     * 박스 (left, top) ~ (right, bottom) 가 걸친 칸의 대상을 후보로 모음 (넣은 순서대로)
+     *
+     * @return 후보 수 (candidate(k) 로 꺼냄)
+     */
+    public int query(int left, int top, int right, int bottom) {
+        candidateCount = 0;
+        if (targetCount == 0) return 0;
+        if (++queryId == 0) {
+            Arrays.fill(stamp, 0);
+            queryId = 1;
+        }
+
+        int cx0 = col(left), cx1 = col(right);
+        int cy0 = row(top), cy1 = row(bottom);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                for (int k = cellHead[cy * COLS + cx]; k >= 0; k = entryNext[k]) {
+                    int rank = entryTarget[k];
+                    if (stamp[rank] == queryId) continue;
+                    stamp[rank] = queryId;
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = rank;
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+        return candidateCount;
+    }
+
+    /** 마지막 query() 의 k 번째 후보 */
+    public Entity candidate(int k) {
+        return targets[candidates[k]];
+    }
+
+    /** 넣은 대상 수 */
+    public int size() {
+        return targetCount;
+    }
+
+    private static int col(int x) {
+        return Math.max(0, Math.min(COLS - 1, x >> CELL_SHIFT));
+    }
+
+    private static int row(int y) {
+        return Math.max(0, Math.min(ROWS - 1, y >> CELL_SHIFT));
+    }
+}
@@ -0,0 +1,170 @@
+package org.newdawn.spaceinvaders.entity;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.newdawn.spaceinvaders.AtlasSprite;
+import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
+
+/**
+ * 🌪 AnimatedHazardEntity — 제자리에서 회전하며 플레이어에게 피해를 주는 환경 위험물
+ * - 세로축 회전(가로 cos 스케일 + 좌우 반전)을 미리 프레임 스트립 한 장에 구워 두고
+ *   매 프레임에는 해당 칸만 복사 (AffineTransform 없음)
+ * - 화면 전체 안개(haze)도 미리 채워 둔 반투명 레이어를 복사
+ * - 프레임/레이어는 같은 설정끼리 공유하므로 두 번째 발생부터는 생성 비용이 없음
+ * - duration 이 지나면 스스로 제거되고 isExpired() 가 true 가 됨
+ */
+public class AnimatedHazardEntity extends Entity {
+    /** 한 바퀴를 나누는 프레임 수 (cos 대칭이라 실제로 굽는 건 절반 + 1) */
+    private static final int FRAMES_PER_TURN = 16;
+    private static final float SPRITE_ALPHA = 0.95f;
+
+    private static final Map<String, Sprite[]> frameCache = new HashMap<>();
+    private static final Map<String, Sprite> hazeCache = new HashMap<>();
+
+    private final Game game;
+    private final long spawnTime;
+    private final long duration;
+    private final double turns;
+    private final int damage;
+    private final Sprite[] frames;
+    private final Sprite haze;
+    private boolean damaged = false;
+
+    /**
+     * @param ref 회전시킬 스프라이트
+     * @param x 그릴 영역 왼쪽
+     * @param y 그릴 영역 위쪽
+     * @param width 그릴 너비 (회전하지 않았을 때)
+     * @param height 그릴 높이
+     * @param duration 지속 시간 (ms)
+     * @param turns 지속 시간 동안 도는 바퀴 수
+     * @param hazeColor 화면 전체에 덮을 안개 색 (알파 포함, null 이면 없음)
+     * @param damage 플레이어에게 한 번 주는 피해 (방어력 무시)
+     */
+    public AnimatedHazardEntity(Game game, String ref, int x, int y, int width, int height,
+                                long duration, double turns, Color hazeColor, int damage) {
+        super(ref, x, y);
+        this.game = game;
+        this.spawnTime = game.getClock().now();
+        this.duration = duration;
+        this.turns = turns;
+        this.damage = damage;
+        this.frames = framesFor(ref, sprite, width, height);
+        this.haze = hazeColor == null ? null : hazeFor(hazeColor, game.getWidth(), game.getHeight());
+    }
+
+    /** 지속 시간이 지났는지 (엔티티 목록에서 빠졌어도 시간 기준으로 판단) */
+    public boolean isExpired() {
+        return game.getClock().now() - spawnTime >= duration;
+    }
+
+    @Override
+    public void move(long delta) {
+        if (isExpired()) {
+            game.removeEntity(this);
+        }
+    }
+
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.EFFECTS;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.HAZARD;
+    }
+
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        out.addSprite(currentFrame(), getDrawX(alpha), getDrawY(alpha));
+        if (haze != null) out.addSprite(haze, 0, 0);
+    }
+
+    @Override
+    public void collidedWith(Entity other) {
+        if (damaged) return;
+        if (other instanceof UserEntity) {
+            UserEntity user = (UserEntity) other;
+            user.takeDamage(damage + user.getDefense());
+            damaged = true;
+        }
+    }
+
+    /** 경과 시간 → 회전 각도 → 미리 구운 프레임 */
+    private Sprite currentFrame() {
+        double progress = Math.min(1.0, (double) (game.getClock().now() - spawnTime) / duration);
+        double phase = progress * turns;
+        int k = (int) ((phase - Math.floor(phase)) * FRAMES_PER_TURN) % FRAMES_PER_TURN;
+        // cos(θ) == cos(-θ) 이므로 k 와 N-k 는 같은 그림
+        return frames[k <= FRAMES_PER_TURN / 2 ? k : FRAMES_PER_TURN - k];
+    }
+
+    /**
+     * 0 ~ π 구간의 회전 프레임을 가로로 이어 붙인 스트립 한 장으로 굽는다.
+     * 각 칸은 (width x height) 이고, 가로 중심을 축으로 cos 만큼 좁아지며
+     * cos 가 음수면 좌우가 뒤집힌다.
+     */
+    private static synchronized Sprite[] framesFor(String ref, Sprite source, int width, int height) {
+        String key = ref + "@" + width + "x" + height;
+        Sprite[] frames = frameCache.get(key);
+        if (frames != null) return frames;
+
+        int count = FRAMES_PER_TURN / 2 + 1;
+        BufferedImage strip = SpriteStore.get().createCompatibleImage(width * count, height, Transparency.TRANSLUCENT);
+        Graphics2D g = strip.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, SPRITE_ALPHA));
+
+        frames = new Sprite[count];
+        for (int k = 0; k < count; k++) {
+            double scaleX = Math.cos(2 * Math.PI * k / FRAMES_PER_TURN);
+            int w = (int) Math.round(width * Math.abs(scaleX));
+            int left = k * width + (width - w) / 2;
+            if (w > 0 && source != null) {
+                if (scaleX >= 0) {
+                    g.drawImage(source.getImage(), left, 0, left + w, height,
+                            0, 0, source.getWidth(), source.getHeight(), null);
+                } else {
+                    g.drawImage(source.getImage(), left, 0, left + w, height,
+                            source.getWidth(), 0, 0, source.getHeight(), null);
+                }
+            }
+            frames[k] = new AtlasSprite(strip, k * width, 0, width, height, null);
+        }
+        g.dispose();
+
+        frameCache.put(key, frames);
+        return frames;
+    }
+
+    /** 화면 크기 반투명 안개 레이어 (색/크기별로 한 번만 생성) */
+    private static synchronized Sprite hazeFor(Color color, int width, int height) {
+        String key = color.getRGB() + "@" + width + "x" + height;
+        Sprite layer = hazeCache.get(key);
+        if (layer != null) return layer;
+
+        BufferedImage image = SpriteStore.get().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+
+        layer = new Sprite(image);
+        hazeCache.put(key, layer);
+        return layer;
+    }
+}
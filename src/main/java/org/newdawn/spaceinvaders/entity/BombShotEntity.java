@@ -1,13 +1,14 @@
 package org.newdawn.spaceinvaders.entity;
 
 import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Boss.Boss1;
 
 /**
@@ -51,12 +52,10 @@ public class BombShotEntity extends Entity {
         System.out.println("💥 폭발 실행 — 위치(" + x + "," + y + ") 반경=" + EXPLOSION_RADIUS);
 
         // 반경 내 MonsterEntity 수집 (보스 포함)
-        for (Entity e : game.getEntities()) {
-            if (e instanceof MonsterEntity) {
-                double dist = Math.hypot(e.getX() - x, e.getY() - y);
-                if (dist <= EXPLOSION_RADIUS) {
-                    toHit.add(e);
-                }
+        for (MonsterEntity e : game.getEntityManager().getMonsters()) {
+            double dist = Math.hypot(e.getX() - x, e.getY() - y);
+            if (dist <= EXPLOSION_RADIUS) {
+                toHit.add(e);
             }
         }
 
@@ -76,6 +75,21 @@ public class BombShotEntity extends Entity {
         game.removeEntity(this);
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.PROJECTILES;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PLAYER_SHOT;
+    }
+
+    @Override
+    public boolean isSwept() {
+        return true;
+    }
+
     @Override
     public void collidedWith(Entity other) {
         // 몬스터에 직접 충돌해도 즉시 폭발
@@ -85,16 +99,15 @@ public class BombShotEntity extends Entity {
     }
 
     @Override
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
         // 기본 스프라이트가 있으면 축소해서 그리기
         if (sprite != null) {
-            Graphics2D g2 = (Graphics2D) g;
-            Image scaled = sprite.getImage().getScaledInstance((int) (sprite.getWidth() * 0.5), (int) (sprite.getHeight() * 0.5), Image.SCALE_SMOOTH);
-            g2.drawImage(scaled, (int) x, (int) y, null);
+            out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX, drawY);
         }
 
         // 디버그용 시각 표시 (보이지 않는 경우를 대비)
-        g.setColor(Color.RED);
-        g.fillRect((int) x + 6, (int) y + 6, 6, 6);
+        out.addRect(Color.RED, drawX + 6, drawY + 6, 6, 6);
     }
 }
\ No newline at end of file
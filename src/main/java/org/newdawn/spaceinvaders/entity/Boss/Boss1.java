@@ -2,16 +2,14 @@ package org.newdawn.spaceinvaders.entity.Boss;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
-import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.TimerWheel;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EnemyShotEntity;
 import org.newdawn.spaceinvaders.entity.MonsterEntity;
@@ -57,20 +55,15 @@ public class Boss1 extends MonsterEntity {
     private Sprite spriteRight;
 
     private boolean frozen = false;
-    private long freezeEndTime = 0;
+    private final TimerWheel.Timer thawTimer = newTimer(() -> frozen = false);
 
     private long lastHitTime = 0;
     private static final long HIT_COOLDOWN = 200; // 피격 무적 시간
-
-    private void updateFreeze(long now) {
-        if (frozen && now > freezeEndTime) {
-            frozen = false;
-        }
-    }
+    private static final Font HP_FONT = new Font("맑은 고딕", Font.BOLD, 12);
 
     public void freeze(int duration) {
         frozen = true;
-        freezeEndTime = System.currentTimeMillis() + duration;
+        game.getTimers().schedule(thawTimer, duration);
     }
 
     // 공격 빈도 제어용
@@ -98,16 +91,14 @@ public class Boss1 extends MonsterEntity {
 
     @Override
     public void move(long delta) {
-        long now = System.currentTimeMillis();
-        updateFreeze(now);
-
         if (frozen) return; // 얼었으면 움직이지 않음
+        long now = game.getClock().now();
 
         // 보스 전용 이동 로직
         double oldX = x;
         // 사인 함수를 이용한 수평/수직 이동
-        x += Math.sin(System.currentTimeMillis() / 800.0) * 0.4 * delta;
-        y = baseY + Math.sin(System.currentTimeMillis() / 1200.0) * verticalMoveRange;
+        x += Math.sin(game.getClock().now() / 800.0) * 0.4 * delta;
+        y = baseY + Math.sin(game.getClock().now() / 1200.0) * verticalMoveRange;
 
         // 경계 제한
         if (x < 60) x = 60;
@@ -161,9 +152,9 @@ public class Boss1 extends MonsterEntity {
     private void startElectricAttack() {
         usingElectric = true;
         shaking = true; // 화면 흔들림 시작
-        shakeStartTime = System.currentTimeMillis();
+        shakeStartTime = game.getClock().now();
 
-        lastElectricAttack = System.currentTimeMillis();
+        lastElectricAttack = game.getClock().now();
         electricEndTime = lastElectricAttack + electricDuration;
         lastElectricTick = lastElectricAttack;
 
@@ -185,7 +176,7 @@ public class Boss1 extends MonsterEntity {
     @Override
     public boolean takeDamage(int damage) {
         // 피격 무적 시간 처리
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         if (now - lastHitTime < HIT_COOLDOWN) return false;
         lastHitTime = now;
 
@@ -201,6 +192,9 @@ public class Boss1 extends MonsterEntity {
         return false;
     }
 
+    @Override
+    public boolean isBoss() { return true; }
+
     @Override
     public void collidedWith(Entity other) {
         if (other instanceof EnemyShotEntity || other instanceof MonsterEntity) return;
@@ -221,61 +215,37 @@ public class Boss1 extends MonsterEntity {
     }
 
     @Override
-    public void draw(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-
-        // 현재 Transform 상태 저장
-        AffineTransform oldTransform = g2.getTransform();
-
-        // 화면 흔들림 효과 적용 (보스만)
-        if (shaking) {
-            double elapsed = System.currentTimeMillis() - shakeStartTime;
-            if (elapsed < shakeDuration) {
-                int offsetX = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-                int offsetY = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-                g2.translate(offsetX, offsetY);
-            }
-        }
+    public boolean hasEffects() {
+        return usingElectric;
+    }
 
-        // 보스 본체 그리기
-        Image img = sprite.getImage().getScaledInstance(
-                (int)(sprite.getWidth() * 0.5),
-                (int)(sprite.getHeight() * 0.5),
-                Image.SCALE_SMOOTH
-        );
-        g2.drawImage(img, (int)x - 40, (int)y - 40, null);
+    /** 보스 본체 (흔들림은 본체에만 적용) + HP 바 */
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        int offsetX = 0, offsetY = 0;
+        if (shaking && game.getClock().now() - shakeStartTime < shakeDuration) {
+            offsetX = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+            offsetY = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+        }
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX - 40 + offsetX, drawY - 40 + offsetY);
 
-        // Transform 원상 복구 (이후 요소는 흔들리지 않게)
-        g2.setTransform(oldTransform);
+        out.addRect(Color.red, drawX - 50, drawY - 70, 100, 6);
+        out.addRect(Color.green, drawX - 50, drawY - 70, (int)(100 * (health / 1000.0)), 6);
+        out.addText(health + " / 1000", HP_FONT, Color.white, drawX - 25, drawY - 80);
+    }
 
-        // 전기 궁극기 시각 효과
-        if (usingElectric) {
-            // 화면 전체 번쩍임 (노란색 알파값 변화)
-            double t = (System.currentTimeMillis() % 300) / 300.0;
-            int alpha = (int)(100 + 100 * Math.sin(t * Math.PI * 2));
-            g2.setColor(new Color(255, 255, 100, alpha));
-            g2.fillRect(0, 0, 800, 600);
-
-            // 무작위 번개 효과
-            for (Sprite s : lightningSprites) {
-                int lx = (int)(Math.random() * 750);
-                int ly = (int)(Math.random() * 400);
-                int lw = s.getWidth() / 2;
-                int lh = s.getHeight() / 2;
-                g2.drawImage(s.getImage(), lx, ly, lw, lh, null);
-            }
+    /** 전기 궁극기 화면 연출 (EFFECTS 레이어 — 모든 엔티티 위에 그림) */
+    @Override
+    public void emitEffects(RenderTarget out) {
+        double t = (game.getClock().now() % 300) / 300.0;
+        int alpha = (int)(100 + 100 * Math.sin(t * Math.PI * 2));
+        out.addRect(new Color(255, 255, 100, alpha), 0, 0, 800, 600);
+        for (Sprite s : lightningSprites) {
+            int lx = (int)(Math.random() * 750);
+            int ly = (int)(Math.random() * 400);
+            out.addSprite(SpriteStore.get().getScaledSprite(s, 0.5), lx, ly);
         }
-
-        // HP 바 그리기
-        g2.setColor(Color.red);
-        g2.fillRect((int)x - 50, (int)y - 70, 100, 6);
-        g2.setColor(Color.green);
-        int hpWidth = (int)(100 * (health / 1000.0)); // ✅ HP 1000 기준 계산
-        g2.fillRect((int)x - 50, (int)y - 70, hpWidth, 6);
-
-        // HP 숫자 표시 (한글 폰트 적용)
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-        g2.setColor(Color.white);
-        g2.drawString(health + " / 1000", (int)x - 25, (int)y - 80);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,16 @@
 package org.newdawn.spaceinvaders.entity.Boss;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.*;
 import org.newdawn.spaceinvaders.entity.*;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.pool.ObjectPool;
+import org.newdawn.spaceinvaders.pool.Poolable;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 
 public class Boss2 extends MonsterEntity {
 	// --------------------------
@@ -20,6 +24,7 @@ public class Boss2 extends MonsterEntity {
 	private boolean enraged = false;
 	private long lastHitTime = 0;
 	private static final long HIT_COOLDOWN = 200;
+	private static final Font HP_FONT = new Font("맑은 고딕", Font.BOLD, 12);
 
 	// 이동
 	private double baseY;
@@ -55,6 +60,13 @@ public class Boss2 extends MonsterEntity {
 
 	// 폭발 연출
 	private List<SplashEffect> activeSplashes = new ArrayList<>();
+	private static final Color SPLASH_COLOR = new Color(255, 105, 180, 255);
+
+	// 재사용 풀 (궁극기마다 포션 12개 + 폭발 12개가 한꺼번에 생겼다 사라짐)
+	private static final ObjectPool<PotionBomb> POTION_POOL =
+			new ObjectPool<>("Boss2.PotionBomb", PotionBomb::new, 32);
+	private static final ObjectPool<SplashEffect> SPLASH_POOL =
+			new ObjectPool<>("Boss2.SplashEffect", SplashEffect::new, 32);
 
 	// --------------------------
 	//  🎃 생성자
@@ -103,10 +115,16 @@ public class Boss2 extends MonsterEntity {
 			}
 
 			placed.add(new int[]{px, py});
-			game.addEntity(new PotionBomb(px, py));
+			game.addEntity(obtainPotionBomb(px, py));
 		}
 	}
 
+	private PotionBomb obtainPotionBomb(int px, int py) {
+		PotionBomb bomb = POTION_POOL.obtain();
+		bomb.init(this, px, py);
+		return bomb;
+	}
+
 	private boolean isFarEnough(int x, int y, List<int[]> placed, int minDist) {
 		for (int[] p : placed) {
 			int dx = p[0] - x;
@@ -132,8 +150,8 @@ public class Boss2 extends MonsterEntity {
 		double oldX = x;
 
 		// 지그재그 이동
-		x += Math.sin(System.currentTimeMillis() / 600.0) * 0.6 * delta;
-		y = baseY + Math.sin(System.currentTimeMillis() / 800.0) * verticalMoveRange;
+		x += Math.sin(game.getClock().now() / 600.0) * 0.6 * delta;
+		y = baseY + Math.sin(game.getClock().now() / 800.0) * verticalMoveRange;
 
 		x = Math.max(60, Math.min(680, x));
 		movingRight = x > oldX;
@@ -149,7 +167,7 @@ public class Boss2 extends MonsterEntity {
 	}
 
 	private void updateUltimateSkill() {
-		long now = System.currentTimeMillis();
+		long now = game.getClock().now();
 
 		if (!usingPotion && now - lastPotionAttack >= potionCooldown) {
 			startPotionAttack();
@@ -169,7 +187,7 @@ public class Boss2 extends MonsterEntity {
 
 	private void updateNormalAttack() {
 		updateShotInterval();
-		long now = System.currentTimeMillis();
+		long now = game.getClock().now();
 
 		if (!usingPotion && now - lastShotTime >= shotInterval) {
 			lastShotTime = now;
@@ -178,8 +196,18 @@ public class Boss2 extends MonsterEntity {
 	}
 
 	private void cleanupEffects() {
-		long now = System.currentTimeMillis();
-		activeSplashes.removeIf(s -> s.isExpired(now));
+		long now = game.getClock().now();
+		// 끝난 연출은 풀로 돌려보내며 순서대로 당김 (람다/반복자 할당 없음)
+		int kept = 0;
+		for (int i = 0; i < activeSplashes.size(); i++) {
+			SplashEffect s = activeSplashes.get(i);
+			if (s.isExpired(now)) {
+				SPLASH_POOL.release(s);
+			} else {
+				activeSplashes.set(kept++, s);
+			}
+		}
+		activeSplashes.subList(kept, activeSplashes.size()).clear();
 	}
 
 	// --------------------------
@@ -198,9 +226,9 @@ public class Boss2 extends MonsterEntity {
 	private void startPotionAttack() {
 		usingPotion = true;
 		shaking = true;
-		shakeStartTime = System.currentTimeMillis();
+		shakeStartTime = game.getClock().now();
 
-		lastPotionAttack = System.currentTimeMillis();
+		lastPotionAttack = game.getClock().now();
 		potionEndTime = lastPotionAttack + potionDuration;
 		lastPotionTick = lastPotionAttack;
 
@@ -215,7 +243,7 @@ public class Boss2 extends MonsterEntity {
 		for (int i = 0; i < count; i++) {
 			int px = 40 + (int)(Math.random() * (game.getWidth() - 80));
 			int py = 80 + (int)(Math.random() * (game.getHeight() - 160));
-			game.addEntity(new PotionBomb(px, py));
+			game.addEntity(obtainPotionBomb(px, py));
 		}
 	}
 
@@ -229,7 +257,7 @@ public class Boss2 extends MonsterEntity {
 	// --------------------------
 	@Override
 	public boolean takeDamage(int damage) {
-		long now = System.currentTimeMillis();
+		long now = game.getClock().now();
 		if (now - lastHitTime < HIT_COOLDOWN) return false;
 
 		lastHitTime = now;
@@ -246,95 +274,104 @@ public class Boss2 extends MonsterEntity {
 		return false;
 	}
 
+	@Override
+	public boolean isBoss() { return true; }
+
+	/** 보스가 빠질 때 남은 폭발 연출도 풀로 돌려보냄 */
+	@Override
+	public void leaveWorld() {
+		super.leaveWorld();
+		for (int i = 0; i < activeSplashes.size(); i++) {
+			SPLASH_POOL.release(activeSplashes.get(i));
+		}
+		activeSplashes.clear();
+	}
+
 	@Override
 	public void collidedWith(Entity other) {}
 
 	// --------------------------
 	// 🎨 그리기
 	// --------------------------
+	/** 보스 본체 (흔들림은 본체에만 적용) + HP 바 */
 	@Override
-	public void draw(Graphics g) {
-		Graphics2D g2 = (Graphics2D) g;
-		AffineTransform oldTx = g2.getTransform();
-
-		applyShake(g2);
-		drawBoss(g2);
-		g2.setTransform(oldTx);
-
-		drawSplashEffects(g2);
-		drawHP(g2);
-	}
-
-	private void applyShake(Graphics2D g2) {
-		if (shaking && System.currentTimeMillis() - shakeStartTime < shakeDuration) {
-			int ox = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-			int oy = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-			g2.translate(ox, oy);
+	public void emit(RenderTarget out, double alpha) {
+		int drawX = getDrawX(alpha);
+		int drawY = getDrawY(alpha);
+		int ox = 0, oy = 0;
+		if (shaking && game.getClock().now() - shakeStartTime < shakeDuration) {
+			ox = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+			oy = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
 		}
-	}
+		out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX - 40 + ox, drawY - 40 + oy);
 
-	private void drawBoss(Graphics2D g2) {
-		Image img = sprite.getImage().getScaledInstance(
-				(int) (sprite.getWidth() * 0.5),
-				(int) (sprite.getHeight() * 0.5),
-				Image.SCALE_SMOOTH
-		);
-		g2.drawImage(img, (int)x - 40, (int)y - 40, null);
+		out.addRect(Color.red, drawX - 50, drawY - 70, 100, 6);
+		out.addRect(Color.green, drawX - 50, drawY - 70, (int)(100 * (health / (double)MAX_HEALTH)), 6);
+		out.addText(health + " / " + MAX_HEALTH, HP_FONT, Color.white, drawX - 25, drawY - 80);
 	}
 
-	private void drawSplashEffects(Graphics2D g2) {
-		long now = System.currentTimeMillis();
+	@Override
+	public boolean hasEffects() {
+		return !activeSplashes.isEmpty();
+	}
 
-		for (SplashEffect s : activeSplashes) {
+	/** 포션 폭발 연출 (EFFECTS 레이어) */
+	@Override
+	public void emitEffects(RenderTarget out) {
+		long now = game.getClock().now();
+		for (int i = 0; i < activeSplashes.size(); i++) {
+			SplashEffect s = activeSplashes.get(i);
 			double progress = Math.min(1.0, (now - s.startTime) / (double)s.duration);
 			int r = (int)(s.maxRadius * progress);
-
-			g2.setColor(new Color(255, 105, 180, 255));
-			g2.fillOval(s.x - r, s.y - r, r * 2, r * 2);
+			out.addOval(SPLASH_COLOR, s.x - r, s.y - r, r * 2, r * 2);
 		}
 	}
 
-	private void drawHP(Graphics2D g2) {
-		g2.setColor(Color.red);
-		g2.fillRect((int)x - 50, (int)y - 70, 100, 6);
-
-		g2.setColor(Color.green);
-		int hpWidth = (int)(100 * (health / (double)MAX_HEALTH));
-		g2.fillRect((int)x - 50, (int)y - 70, hpWidth, 6);
-
-		g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-		g2.setColor(Color.white);
-		g2.drawString(health + " / " + MAX_HEALTH, (int)x - 25, (int)y - 80);
-	}
-
 	// --------------------------
-	// 💧 포션 폭탄 엔티티 (내부 클래스)
+	// 💧 포션 폭탄 엔티티 (풀에서 재사용 → 보스 참조는 init 에서 다시 연결)
 	// --------------------------
-	private class PotionBomb extends Entity {
-		private final long spawnTime;
-		private final long explodeDelay;
+	private static class PotionBomb extends Entity implements Poolable {
+		private Boss2 boss;
+		private long spawnTime;
+		private long explodeDelay;
 		private boolean switched = false;
 
-		private final int origX, origY;
+		private int origX, origY;
 		private final int shakeAmp = 40;
 		private final double shakeSpeed = 8.0;
 
-		public PotionBomb(int px, int py) {
-			super("sprites/poisonpotion.png", px, py);
+		private PotionBomb() {
+			super("sprites/poisonpotion.png", 0, 0);
+		}
+
+		/** 생성자 상태 적용 (새 폭탄, 재사용 폭탄 공통) */
+		void init(Boss2 boss, int px, int py) {
+			reinit("sprites/poisonpotion.png", px, py);
+			this.boss = boss;
 
 			this.origX = px;
 			this.origY = py;
 
-			this.spawnTime = System.currentTimeMillis();
-			this.dx = 0;
-			this.dy = 0;
+			this.spawnTime = boss.game.getClock().now();
+			this.switched = false;
 
 			this.explodeDelay = 1000 + (int)(Math.random() * 2000);
 		}
 
+		@Override
+		public void reset() {
+			boss = null;
+		}
+
+		@Override
+		public void leaveWorld() {
+			super.leaveWorld();
+			POTION_POOL.release(this);
+		}
+
 		@Override
 		public void move(long delta) {
-			long elapsed = System.currentTimeMillis() - spawnTime;
+			long elapsed = boss.game.getClock().now() - spawnTime;
 
 			if (!switched && elapsed < explodeDelay) {
 				updateShaking(elapsed);
@@ -343,7 +380,7 @@ public class Boss2 extends MonsterEntity {
 
 			if (!switched) switchToBomb();
 
-			if (elapsed >= 3000) game.removeEntity(this);
+			if (elapsed >= 3000) boss.game.removeEntity(this);
 		}
 
 		private void updateShaking(long elapsed) {
@@ -353,23 +390,34 @@ public class Boss2 extends MonsterEntity {
 		}
 
 		private void switchToBomb() {
-			sprite = bombSprite;
+			sprite = boss.bombSprite;
 			switched = true;
 
-			activeSplashes.add(
-					new SplashEffect(
-							(int)x + getWidth()/2,
-							(int)y + getHeight()/2,
-							System.currentTimeMillis()
-					)
+			SplashEffect splash = SPLASH_POOL.obtain();
+			splash.init(
+					(int)x + getWidth()/2,
+					(int)y + getHeight()/2,
+					boss.game.getClock().now()
 			);
+			boss.activeSplashes.add(splash);
 
-			FortressEntity fort = game.getFortress();
+			FortressEntity fort = boss.game.getFortress();
 			if (fort != null && this.collidesWith(fort)) {
 				fort.damage(50);
 			}
 		}
 
+		@Override
+		public RenderLayer getRenderLayer() {
+			return RenderLayer.PROJECTILES;
+		}
+
+		/** 포션 폭탄은 충돌 관리자를 거치지 않고 요새만 직접 검사 */
+		@Override
+		public int getCollisionCategory() {
+			return CollisionCategory.NONE;
+		}
+
 		@Override
 		public void collidedWith(Entity other) {}
 	}
@@ -377,18 +425,21 @@ public class Boss2 extends MonsterEntity {
 	// --------------------------
 	// 🌫 폭발 시야 방해 효과
 	// --------------------------
-	private class SplashEffect {
+	private static class SplashEffect implements Poolable {
 		int x, y;
 		long startTime;
 		double maxRadius = 60;
 		long duration = 2000;
 
-		public SplashEffect(int x, int y, long startTime) {
+		void init(int x, int y, long startTime) {
 			this.x = x;
 			this.y = y;
 			this.startTime = startTime;
 		}
 
+		@Override
+		public void reset() {}
+
 		boolean isExpired(long now) {
 			return now > startTime + duration;
 		}
@@ -1,13 +1,13 @@
 package org.newdawn.spaceinvaders.entity.Boss;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EnemyShotEntity;
 import org.newdawn.spaceinvaders.entity.MonsterEntity;
@@ -61,6 +61,7 @@ public class Boss3 extends MonsterEntity {
        =========================================================== */
     private long lastHitTime = 0;
     private static final long HIT_COOLDOWN = 200;
+    private static final Font HP_FONT = new Font("맑은 고딕", Font.BOLD, 12);
 
     /* ===========================================================
        일반 공격
@@ -100,8 +101,8 @@ public class Boss3 extends MonsterEntity {
     private void updateMovement(long delta) {
         double oldX = x;
 
-        x += Math.sin(System.currentTimeMillis() / 700.0) * 0.5 * delta;
-        y = baseY + Math.sin(System.currentTimeMillis() / 1000.0) * verticalMoveRange;
+        x += Math.sin(game.getClock().now() / 700.0) * 0.5 * delta;
+        y = baseY + Math.sin(game.getClock().now() / 1000.0) * verticalMoveRange;
 
         clampPosition();
         updateSpriteDirection(oldX);
@@ -132,7 +133,7 @@ public class Boss3 extends MonsterEntity {
        붕대 공격 처리
        =========================================================== */
     private void processWrapAttack() {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
 
         if (!usingWrap && now - lastWrapAttack >= wrapCooldown) {
             startWrapAttack();
@@ -148,7 +149,7 @@ public class Boss3 extends MonsterEntity {
         usingWrap = true;
         shaking = true;
 
-        lastWrapAttack = System.currentTimeMillis();
+        lastWrapAttack = game.getClock().now();
         shakeStartTime = lastWrapAttack;
         wrapEndTime = lastWrapAttack + wrapDuration;
         lastWrapTick = lastWrapAttack;
@@ -178,7 +179,7 @@ public class Boss3 extends MonsterEntity {
        일반 공격
        =========================================================== */
     private void processNormalShot() {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         updateShotInterval();
 
         if (usingWrap) return;
@@ -201,7 +202,7 @@ public class Boss3 extends MonsterEntity {
        =========================================================== */
     @Override
     public boolean takeDamage(int damage) {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         if (now - lastHitTime < HIT_COOLDOWN) return false;
 
         lastHitTime = now;
@@ -222,6 +223,9 @@ public class Boss3 extends MonsterEntity {
         game.bossDefeated();
     }
 
+    @Override
+    public boolean isBoss() { return true; }
+
     /* ===========================================================
        충돌 처리
        =========================================================== */
@@ -234,62 +238,37 @@ public class Boss3 extends MonsterEntity {
        DRAW
        =========================================================== */
     @Override
-    public void draw(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-        AffineTransform oldTransform = g2.getTransform();
-
-        applyShakeEffect(g2);
-        drawBossImage(g2);
-        g2.setTransform(oldTransform);
-
-        if (usingWrap) drawWrapEffect(g2);
-        drawHpBar(g2);
+    public boolean hasEffects() {
+        return usingWrap;
     }
 
-    private void applyShakeEffect(Graphics2D g2) {
-        if (!shaking) return;
-
-        long elapsed = System.currentTimeMillis() - shakeStartTime;
-        if (elapsed >= shakeDuration) return;
-
-        int offsetX = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-        int offsetY = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-        g2.translate(offsetX, offsetY);
-    }
+    /** 보스 본체 (흔들림은 본체에만 적용) + HP 바 */
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        int ox = 0, oy = 0;
+        if (shaking && game.getClock().now() - shakeStartTime < shakeDuration) {
+            ox = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+            oy = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+        }
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX - 40 + ox, drawY - 40 + oy);
 
-    private void drawBossImage(Graphics2D g2) {
-        Image img = sprite.getImage().getScaledInstance(
-                (int)(sprite.getWidth() * 0.5),
-                (int)(sprite.getHeight() * 0.5),
-                Image.SCALE_SMOOTH
-        );
-        g2.drawImage(img, (int)x - 40, (int)y - 40, null);
+        out.addRect(Color.red, drawX - 50, drawY - 70, 100, 6);
+        out.addRect(Color.green, drawX - 50, drawY - 70, (int)(100 * (health / 1000.0)), 6);
+        out.addText(health + " / 1000", HP_FONT, Color.white, drawX - 25, drawY - 80);
     }
 
-    private void drawWrapEffect(Graphics2D g2) {
-        double t = (System.currentTimeMillis() % 300) / 300.0;
+    /** 궁극기 화면 연출 (EFFECTS 레이어 — 모든 엔티티 위에 그림) */
+    @Override
+    public void emitEffects(RenderTarget out) {
+        double t = (game.getClock().now() % 300) / 300.0;
         int alpha = (int)(100 + 100 * Math.sin(t * Math.PI * 2));
-        g2.setColor(new Color(255, 220, 150, alpha));
-
-        g2.fillRect(0, 0, 800, 600);
-
+        out.addRect(new Color(255, 220, 150, alpha), 0, 0, 800, 600);
         for (Sprite s : bandageSprites) {
             int lx = (int)(Math.random() * 750);
             int ly = (int)(Math.random() * 400);
-            g2.drawImage(s.getImage(), lx, ly, s.getWidth() / 2, s.getHeight() / 2, null);
+            out.addSprite(SpriteStore.get().getScaledSprite(s, 0.5), lx, ly);
         }
     }
-
-    private void drawHpBar(Graphics2D g2) {
-        g2.setColor(Color.red);
-        g2.fillRect((int)x - 50, (int)y - 70, 100, 6);
-
-        g2.setColor(Color.green);
-        int hpWidth = (int)(100 * (health / 1000.0));
-        g2.fillRect((int)x - 50, (int)y - 70, hpWidth, 6);
-
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-        g2.setColor(Color.white);
-        g2.drawString(health + " / 1000", (int)x - 25, (int)y - 80);
-    }
 }
@@ -1,13 +1,13 @@
 package org.newdawn.spaceinvaders.entity.Boss;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EnemyShotEntity;
 import org.newdawn.spaceinvaders.entity.MonsterEntity;
@@ -68,6 +68,7 @@ public class Boss4 extends MonsterEntity {
      * ================================ */
     private long lastHitTime = 0;
     private static final long HIT_COOLDOWN = 200;
+    private static final Font HP_FONT = new Font("맑은 고딕", Font.BOLD, 12);
 
 
     public Boss4(Game game, int x, int y) {
@@ -99,7 +100,7 @@ public class Boss4 extends MonsterEntity {
         updateSpriteDirection(prevX);
         handleRageMode();
 
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
 
         handleThrowAttack(now);
         handleNormalAttack(now);
@@ -110,8 +111,8 @@ public class Boss4 extends MonsterEntity {
      * 이동 처리
      * ----------------------------- */
     private void updatePosition(long delta) {
-        x += Math.sin(System.currentTimeMillis() / 750.0) * 0.5 * delta;
-        y = baseY + Math.sin(System.currentTimeMillis() / 1000.0) * VERTICAL_RANGE;
+        x += Math.sin(game.getClock().now() / 750.0) * 0.5 * delta;
+        y = baseY + Math.sin(game.getClock().now() / 1000.0) * VERTICAL_RANGE;
     }
 
     private void limitBoundary() {
@@ -208,7 +209,7 @@ public class Boss4 extends MonsterEntity {
      * ================================================== */
     @Override
     public boolean takeDamage(int damage) {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         if (now - lastHitTime < HIT_COOLDOWN) return false;
         lastHitTime = now;
 
@@ -228,6 +229,9 @@ public class Boss4 extends MonsterEntity {
         game.bossDefeated();
     }
 
+    @Override
+    public boolean isBoss() { return true; }
+
     @Override
     public void collidedWith(Entity other) {
         if (other instanceof EnemyShotEntity || other instanceof MonsterEntity) return;
@@ -238,66 +242,37 @@ public class Boss4 extends MonsterEntity {
      * Draw
      * ================================================== */
     @Override
-    public void draw(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-        AffineTransform old = g2.getTransform();
-
-        applyShakeEffect(g2);
-        drawBody(g2);
-        g2.setTransform(old);
-
-        if (usingThrow) drawThrowEffect(g2);
-
-        drawHpBar(g2);
+    public boolean hasEffects() {
+        return usingThrow;
     }
 
-    private void applyShakeEffect(Graphics2D g2) {
-        if (!shaking) return;
-
-        long elapsed = System.currentTimeMillis() - shakeStartTime;
-        if (elapsed < SHAKE_DURATION) {
-            int dx = (int)(Math.random() * SHAKE_INTENSITY - SHAKE_INTENSITY / 2);
-            int dy = (int)(Math.random() * SHAKE_INTENSITY - SHAKE_INTENSITY / 2);
-            g2.translate(dx, dy);
+    /** 보스 본체 (흔들림은 본체에만 적용) + HP 바 */
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        int ox = 0, oy = 0;
+        if (shaking && game.getClock().now() - shakeStartTime < SHAKE_DURATION) {
+            ox = (int)(Math.random() * SHAKE_INTENSITY - SHAKE_INTENSITY / 2);
+            oy = (int)(Math.random() * SHAKE_INTENSITY - SHAKE_INTENSITY / 2);
         }
-    }
-
-    private void drawBody(Graphics2D g2) {
-        Image img = sprite.getImage().getScaledInstance(
-                (int)(sprite.getWidth() * 0.5),
-                (int)(sprite.getHeight() * 0.5),
-                Image.SCALE_SMOOTH);
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX - 40 + ox, drawY - 40 + oy);
 
-        g2.drawImage(img, (int)x - 40, (int)y - 40, null);
+        out.addRect(Color.red, drawX - 50, drawY - 70, 100, 6);
+        out.addRect(Color.green, drawX - 50, drawY - 70, (int)(100 * (health / 1000.0)), 6);
+        out.addText(health + " / 1000", HP_FONT, Color.white, drawX - 25, drawY - 80);
     }
 
-    private void drawThrowEffect(Graphics2D g2) {
-        double t = (System.currentTimeMillis() % 300) / 300.0;
+    /** 궁극기 화면 연출 (EFFECTS 레이어 — 모든 엔티티 위에 그림) */
+    @Override
+    public void emitEffects(RenderTarget out) {
+        double t = (game.getClock().now() % 300) / 300.0;
         int alpha = (int)(120 + 100 * Math.sin(t * Math.PI * 2));
-
-        g2.setColor(new Color(180, 255, 180, alpha));
-        g2.fillRect(0, 0, 800, 600);
-
+        out.addRect(new Color(180, 255, 180, alpha), 0, 0, 800, 600);
         for (Sprite s : limbSprites) {
             int lx = (int)(Math.random() * 750);
             int ly = (int)(Math.random() * 400);
-            g2.drawImage(s.getImage(), lx, ly, s.getWidth() / 2, s.getHeight() / 2, null);
+            out.addSprite(SpriteStore.get().getScaledSprite(s, 0.5), lx, ly);
         }
     }
-
-    private void drawHpBar(Graphics2D g2) {
-        int barX = (int)x - 50;
-        int barY = (int)y - 70;
-
-        g2.setColor(Color.red);
-        g2.fillRect(barX, barY, 100, 6);
-
-        g2.setColor(Color.green);
-        int hpW = (int)(100 * (health / 1000.0));
-        g2.fillRect(barX, barY, hpW, 6);
-
-        g2.setColor(Color.white);
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-        g2.drawString(health + " / 1000", (int)x - 25, (int)y - 80);
-    }
 }
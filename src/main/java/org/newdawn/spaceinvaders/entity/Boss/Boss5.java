@@ -1,13 +1,13 @@
 package org.newdawn.spaceinvaders.entity.Boss;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EnemyShotEntity;
 import org.newdawn.spaceinvaders.entity.MonsterEntity;
@@ -60,6 +60,7 @@ public class Boss5 extends MonsterEntity {
      * ============================= */
     private long lastHitTime = 0;
     private static final long HIT_COOLDOWN = 200;
+    private static final Font HP_FONT = new Font("맑은 고딕", Font.BOLD, 12);
 
     /* =============================
      *        총알 공격
@@ -88,7 +89,7 @@ public class Boss5 extends MonsterEntity {
      * =============================================== */
     @Override
     public void move(long delta) {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         double oldX = x;
 
         updatePosition(delta);
@@ -105,8 +106,8 @@ public class Boss5 extends MonsterEntity {
     }
 
     private void updatePosition(long delta) {
-        x += Math.sin(System.currentTimeMillis() / 600.0) * 0.6 * delta;
-        y = baseY + Math.sin(System.currentTimeMillis() / 900.0) * verticalMoveRange;
+        x += Math.sin(game.getClock().now() / 600.0) * 0.6 * delta;
+        y = baseY + Math.sin(game.getClock().now() / 900.0) * verticalMoveRange;
     }
 
     private void clampPosition() {
@@ -140,7 +141,7 @@ public class Boss5 extends MonsterEntity {
         usingDark = true;
         shaking = true;
 
-        shakeStartTime = System.currentTimeMillis();
+        shakeStartTime = game.getClock().now();
         lastDarkAttack = shakeStartTime;
         darkEndTime = shakeStartTime + darkDuration;
         lastDarkTick = shakeStartTime;
@@ -196,7 +197,7 @@ public class Boss5 extends MonsterEntity {
      * =============================================== */
     @Override
     public boolean takeDamage(int damage) {
-        long now = System.currentTimeMillis();
+        long now = game.getClock().now();
         if (now - lastHitTime < HIT_COOLDOWN) return false;
         lastHitTime = now;
 
@@ -212,6 +213,9 @@ public class Boss5 extends MonsterEntity {
         return false;
     }
 
+    @Override
+    public boolean isBoss() { return true; }
+
     @Override
     public void collidedWith(Entity other) {
         if (other instanceof EnemyShotEntity || other instanceof MonsterEntity) return;
@@ -221,76 +225,46 @@ public class Boss5 extends MonsterEntity {
      *                     DRAW
      * =============================================== */
     @Override
-    public void draw(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-        AffineTransform old = g2.getTransform();
-
-        drawShake(g2);
-        drawBody(g2);
-        g2.setTransform(old);
-
-        if (usingDark) drawDarkEffect(g2);
-        drawHP(g2);
-        drawHPText(g2);
+    public boolean hasEffects() {
+        return usingDark;
     }
 
-    private void drawShake(Graphics2D g2) {
-        if (!shaking) return;
-
-        long elapsed = System.currentTimeMillis() - shakeStartTime;
-        if (elapsed < shakeDuration) {
-            int ox = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-            int oy = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
-            g2.translate(ox, oy);
+    /** 보스 본체 (흔들림은 본체에만 적용) + HP 바 */
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        int ox = 0, oy = 0;
+        if (shaking && game.getClock().now() - shakeStartTime < shakeDuration) {
+            ox = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
+            oy = (int)(Math.random() * shakeIntensity - shakeIntensity / 2);
         }
-    }
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, 0.5), drawX - 40 + ox, drawY - 40 + oy);
 
-    private void drawBody(Graphics2D g2) {
-        Image img = sprite.getImage().getScaledInstance(
-            (int)(sprite.getWidth() * 0.5),
-            (int)(sprite.getHeight() * 0.5),
-            Image.SCALE_SMOOTH);
-        g2.drawImage(img, (int)x - 40, (int)y - 40, null);
+        out.addRect(Color.red, drawX - 50, drawY - 70, 100, 6);
+        out.addRect(Color.green, drawX - 50, drawY - 70, (int)(100 * (health / 1000.0)), 6);
+        out.addText(health + " / 1000", HP_FONT, Color.white, drawX - 25, drawY - 80);
     }
 
-    private void drawDarkEffect(Graphics2D g2) {
-        double t = (System.currentTimeMillis() % 300) / 300.0;
+    /** 궁극기 화면 연출 (EFFECTS 레이어 — 모든 엔티티 위에 그림) */
+    @Override
+    public void emitEffects(RenderTarget out) {
+        double t = (game.getClock().now() % 300) / 300.0;
         int alpha = (int)(150 + 100 * Math.sin(t * Math.PI * 2));
         alpha = Math.min(230, alpha);
-
-        g2.setColor(new Color(0, 0, 0, alpha));
-        g2.fillRect(0, 0, 800, 600);
+        out.addRect(new Color(0, 0, 0, alpha), 0, 0, 800, 600);
 
         if (game.getShip() != null) {
-            int sx = (int) game.getShip().getX();
-            int sy = (int) game.getShip().getY();
+            int sx = game.getShip().getX();
+            int sy = game.getShip().getY();
             int radius = 180;
-
-            Composite old = g2.getComposite();
-            g2.setComposite(AlphaComposite.DstOut);
-            g2.fillOval(sx - radius, sy - radius, radius * 2, radius * 2);
-            g2.setComposite(old);
+            out.addCutout(sx - radius, sy - radius, radius * 2, radius * 2);
         }
 
         for (Sprite s : batSprites) {
             int lx = (int)(Math.random() * 750);
             int ly = (int)(Math.random() * 400);
-            g2.drawImage(s.getImage(), lx, ly, s.getWidth() / 2, s.getHeight() / 2, null);
+            out.addSprite(SpriteStore.get().getScaledSprite(s, 0.5), lx, ly);
         }
     }
-
-    private void drawHP(Graphics2D g2) {
-        g2.setColor(Color.red);
-        g2.fillRect((int)x - 50, (int)y - 70, 100, 6);
-
-        g2.setColor(Color.green);
-        int hpWidth = (int)(100 * (health / 1000.0));
-        g2.fillRect((int)x - 50, (int)y - 70, hpWidth, 6);
-    }
-
-    private void drawHPText(Graphics2D g2) {
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-        g2.setColor(Color.white);
-        g2.drawString(health + " / 1000", (int)x - 25, (int)y - 80);
-    }
 }
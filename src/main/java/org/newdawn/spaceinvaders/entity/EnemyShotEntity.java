@@ -1,22 +1,32 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.Game;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.pool.ObjectPool;
+import org.newdawn.spaceinvaders.pool.Poolable;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 
 /**
  * EnemyShotEntity - 적(몬스터/보스)이 발사하는 총알
  */
-public class EnemyShotEntity extends Entity {
-    private final Game game;
+public class EnemyShotEntity extends Entity implements Poolable {
+    /** 재사용 풀 — 게임에서 빠질 때 돌아감 */
+    private static final ObjectPool<EnemyShotEntity> POOL =
+            new ObjectPool<>("EnemyShotEntity", EnemyShotEntity::new, 128);
+
+    private Game game;
     private boolean used = false;
 
-    private final Entity owner;
-    private final String shotKind;
+    /** 발사한 몬스터 (죽거나 재사용되면 get() 이 null) */
+    private EntityHandle<Entity> owner;
+    private String shotKind;
 
-    // 잔상
+    // 잔상 (배열은 재사용 시에도 그대로 씀)
     private static final int TRAIL_LEN = 3;
+    private static final double DRAW_SCALE = 0.3;
     private final double[] trailX = new double[TRAIL_LEN];
     private final double[] trailY = new double[TRAIL_LEN];
     private int trailIdx = 0;
@@ -27,19 +37,57 @@ public class EnemyShotEntity extends Entity {
     public EnemyShotEntity(Game game, String spritePath, int x, int y,
                            double vx, double vy, String shotKind, Entity owner) {
         super(spritePath, x, y);
+        init(game, spritePath, x, y, vx, vy, shotKind, owner);
+    }
+
+    /** 풀에서 쓸 빈 총알 (init 으로 채움) */
+    private EnemyShotEntity() {
+        super("sprites/shot-removebg-preview.png", 0, 0);
+    }
+
+    /** 풀에서 꺼내 생성자와 같은 상태로 채운 총알 */
+    public static EnemyShotEntity obtain(Game game, String spritePath, int x, int y,
+                                         double vx, double vy, String shotKind, Entity owner) {
+        EnemyShotEntity shot = POOL.obtain();
+        shot.init(game, spritePath, x, y, vx, vy, shotKind, owner);
+        return shot;
+    }
+
+    /** 생성자 상태 적용 (새 총알, 재사용 총알 공통) */
+    private void init(Game game, String spritePath, int x, int y,
+                      double vx, double vy, String shotKind, Entity owner) {
+        reinit(spritePath, x, y);
         this.game = game;
         this.dx = vx;
         this.dy = vy;
-        this.owner = owner;
+        this.owner = EntityHandle.of(owner);
         this.shotKind = (shotKind == null) ? "shot" : shotKind;
+        this.used = false;
+        this.blockedByShield = false;
 
         for (int i = 0; i < TRAIL_LEN; i++) {
             trailX[i] = x;
             trailY[i] = y;
         }
+        trailIdx = 0;
+        trailFilled = false;
+    }
+
+    /** 풀에 있는 동안 게임/발사자를 붙잡지 않음 */
+    @Override
+    public void reset() {
+        game = null;
+        owner = null;
+    }
+
+    /** 게임에서 빠지면 풀로 돌아감 */
+    @Override
+    public void leaveWorld() {
+        super.leaveWorld();
+        POOL.release(this);
     }
 
-    public Entity getOwner() { return owner; }
+    public Entity getOwner() { return owner == null ? null : owner.get(); }
     public String getShotKind() { return shotKind; }
 
     public void setBlockedByShield() { blockedByShield = true; }
@@ -59,13 +107,28 @@ public class EnemyShotEntity extends Entity {
         }
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.PROJECTILES;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.ENEMY_SHOT;
+    }
+
+    @Override
+    public boolean isSwept() {
+        return true;
+    }
+
     @Override
     public void collidedWith(Entity other) {
         if (used) return;
         if (blockedByShield) return;
 
         // 발사자나 다른 몬스터와의 충돌은 무시
-        if (other == owner) return;
+        if (owner != null && owner.get() == other) return;
         if (other instanceof MonsterEntity) return;
 
         // 방어막 처리
@@ -96,28 +159,19 @@ public class EnemyShotEntity extends Entity {
     }
 
     @Override
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) return;
-        Graphics2D g2 = (Graphics2D) g;
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        Sprite scaled = SpriteStore.get().getScaledSprite(sprite, DRAW_SCALE);
 
         if (trailFilled) {
             for (int i = 1; i <= TRAIL_LEN; i++) {
                 int idx = (trailIdx - i + TRAIL_LEN) % TRAIL_LEN;
-                double tx = trailX[idx];
-                double ty = trailY[idx];
-                drawScaled(g2, tx, ty, 0.3, 0.5f / (i + 1));
+                out.addSprite(scaled, (int) trailX[idx], (int) trailY[idx]);
             }
         }
 
-        drawScaled(g2, x, y, 0.3, 1.0f);
-    }
-
-    private void drawScaled(Graphics2D g2, double px, double py, double scale, float alpha) {
-        Image scaled = sprite.getImage().getScaledInstance(
-                (int) (sprite.getWidth() * scale),
-                (int) (sprite.getHeight() * scale),
-                Image.SCALE_SMOOTH
-        );
-        g2.drawImage(scaled, (int) px, (int) py, null);
+        out.addSprite(scaled, drawX, drawY);
     }
 }
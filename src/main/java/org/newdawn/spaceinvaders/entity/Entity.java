@@ -1,10 +1,15 @@
 package org.newdawn.spaceinvaders.entity;
 
-import java.awt.Graphics;
-import java.awt.Rectangle;
+import java.util.Arrays;
 
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.TimerWheel;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.collision.CollisionMask;
+import org.newdawn.spaceinvaders.collision.SweptAabb;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 
 /**
  * An entity represents any element that appears in the game. The
@@ -18,20 +23,42 @@ import org.newdawn.spaceinvaders.SpriteStore;
  * * @author Kevin Glass
  */
 public abstract class Entity {
+    /** The amount each side of the sprite is shrunk by for collision checks */
+    public static final int COLLISION_MARGIN = 5;
+    
     /** The current x location of this entity */ 
     protected double x;
     /** The current y location of this entity */
     protected double y;
     /** The sprite that represents this entity */
     protected Sprite sprite;
+    /** The x location of this entity before the current tick's move */
+    protected double prevX;
+    /** The y location of this entity before the current tick's move */
+    protected double prevY;
     /** The current speed of this entity horizontally (pixels/sec) */
     protected double dx;
     /** The current speed of this entity vertically (pixels/sec) */
     protected double dy;
-    /** The rectangle used for this entity during collisions resolution */
-    private Rectangle me = new Rectangle();
-    /** The rectangle used for other entities during collision resolution */
-    private Rectangle him = new Rectangle();
+    /** Source of unique entity ids */
+    private static int nextId = 0;
+    /** A number unique to this entity, usable where holding a reference is not wanted */
+    private final int id = ++nextId;
+    /** True once this entity has been scheduled for removal from the game */
+    private boolean removed;
+    /** True from enterWorld() until leaveWorld(), i.e. while in the entity list */
+    private boolean inWorld;
+    /**
+     * Bumped each time this entity enters or leaves the game, so that
+     * handles taken during an earlier lifetime can tell they are stale
+     */
+    private int generation;
+    /** Where this tick's move ended, while moveToImpact() has moved the entity back */
+    private double impactSavedX, impactSavedY;
+    /** Timers created through newTimer(), cancelled when this entity leaves the game */
+    private TimerWheel.Timer[] timers;
+    /** The number of entries used in timers */
+    private int timerCount;
     
     /**
      * Construct an entity based on a sprite image and a location.
@@ -40,9 +67,142 @@ public abstract class Entity {
      * @param y The initial y location of this entity
      */
     public Entity(String ref,int x,int y) {
+        reinit(ref, x, y);
+    }
+    
+    /**
+     * Put this entity back into the state the constructor leaves it in,
+     * so a recycled instance from an ObjectPool starts out like a new one.
+     * * @param ref The reference to the image to be displayed for this entity
+     * @param x The initial x location of this entity
+     * @param y The initial y location of this entity
+     */
+    protected final void reinit(String ref,int x,int y) {
         this.sprite = SpriteStore.get().getSprite(ref);
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.dx = 0;
+        this.dy = 0;
+    }
+    
+    /**
+     * Remember the current location as the start of this tick's motion.
+     * Called for every entity just before it is moved.
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * Get the x location this entity should be drawn at, part way
+     * between where it was at the start of the last simulation tick and
+     * where it is now. The entity itself is not changed, so drawing never
+     * disturbs the simulation or positions written by other threads.
+     * * @param alpha How far through the next tick the frame is (0 to 1)
+     * @return The x location to draw at
+     */
+    public int getDrawX(double alpha) {
+        return (int) (prevX + (x - prevX) * alpha);
+    }
+    
+    /**
+     * Get the y location this entity should be drawn at. See getDrawX().
+     * * @param alpha How far through the next tick the frame is (0 to 1)
+     * @return The y location to draw at
+     */
+    public int getDrawY(double alpha) {
+        return (int) (prevY + (y - prevY) * alpha);
+    }
+    
+    /**
+     * Get the unique id of this entity.
+     * * @return The id, never 0
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * Check if this entity has been scheduled for removal. It stays in
+     * the entity list until the end of the tick, but should be treated
+     * as gone.
+     * * @return True if removal has been requested
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+    
+    /**
+     * Check if this entity is in the game's entity list. An entity
+     * scheduled for removal stays in the list, and so in the world,
+     * until the end of the tick.
+     * * @return True between enterWorld() and leaveWorld()
+     */
+    public boolean isInWorld() {
+        return inWorld;
+    }
+    
+    /**
+     * Schedule this entity for removal.
+     * * @return True if it was live, false if it was already scheduled
+     */
+    public boolean markRemoved() {
+        if (removed) return false;
+        removed = true;
+        return true;
+    }
+    
+    /**
+     * Get the generation of this entity, which changes every time it
+     * enters or leaves the game.
+     * * @return The current generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+    
+    /**
+     * Notification that this entity has been added to the game. Clears
+     * any earlier removal and starts a new generation.
+     */
+    public void enterWorld() {
+        removed = false;
+        inWorld = true;
+        generation++;
+    }
+    
+    /**
+     * Notification that this entity has been taken out of the game.
+     * Ends the current generation so existing handles become stale.
+     */
+    public void leaveWorld() {
+        removed = true;
+        inWorld = false;
+        generation++;
+        for (int i = 0; i < timerCount; i++) {
+            timers[i].cancel();
+        }
+    }
+    
+    /**
+     * Create a timer owned by this entity. The caller schedules it on
+     * the game's timer wheel as often as it likes; any pending run is
+     * cancelled automatically when this entity leaves the game.
+     * * @param task The work to do when the timer fires
+     * @return The new timer, not yet scheduled
+     */
+    protected final TimerWheel.Timer newTimer(Runnable task) {
+        TimerWheel.Timer timer = new TimerWheel.Timer(task);
+        if (timers == null) {
+            timers = new TimerWheel.Timer[4];
+        } else if (timerCount == timers.length) {
+            timers = Arrays.copyOf(timers, timerCount * 2);
+        }
+        timers[timerCount++] = timer;
+        return timer;
     }
     
     /**
@@ -89,16 +249,46 @@ public abstract class Entity {
     }
     
     /**
-     * Draw this entity to the graphics context provided
-     * * @param g The graphics context on which to draw
+     * Emit how this entity looks this frame. The same calls are used
+     * to draw straight to the screen and to record a render snapshot
+     * for the render thread, so there is only one drawing path.
+     * * @param out The target to draw or record into
+     * @param alpha How far through the next tick the frame is (0 to 1),
+     * passed to getDrawX()/getDrawY()
      */
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) {
             System.err.println("[NULL SPRITE] " + getClass().getSimpleName()
                              + " at (" + (int)x + "," + (int)y + ")");
             return; // 개발 중 임시로 그리기 스킵
         }
-        sprite.draw(g,(int) x,(int) y);
+        out.addSprite(sprite, getDrawX(alpha), getDrawY(alpha));
+    }
+    
+    /**
+     * Get the layer this entity is drawn on. Entities on later layers
+     * are drawn over those on earlier ones.
+     * * @return The render layer for this entity
+     */
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.MONSTERS;
+    }
+    
+    /**
+     * Check if this entity has screen effects to draw on the effects
+     * layer, above everything else in the world.
+     * * @return True if emitEffects() should be called each frame
+     */
+    public boolean hasEffects() {
+        return false;
+    }
+    
+    /**
+     * Emit this entity's screen effects (flashes, overlays and so on).
+     * Only called when hasEffects() returns true.
+     * * @param out The target to draw or record into
+     */
+    public void emitEffects(RenderTarget out) {
     }
     
     /**
@@ -124,6 +314,22 @@ public abstract class Entity {
         return (int) y;
     }
 
+    /**
+     * Get the x location of this entity before the current tick's move
+     * * @return The previous x location of this entity
+     */
+    public int getPreviousX() {
+        return (int) prevX;
+    }
+
+    /**
+     * Get the y location of this entity before the current tick's move
+     * * @return The previous y location of this entity
+     */
+    public int getPreviousY() {
+        return (int) prevY;
+    }
+
     /**
      * Get the width of the entity's sprite.
      * * @return The width of the sprite
@@ -141,30 +347,176 @@ public abstract class Entity {
     }
 
     /**
-     * Check if this entity collided with another.
+     * Get the collision category of this entity. Pairs whose categories
+     * cannot interact are never passed to collidesWith().
+     * * @return One of the CollisionCategory bits
+     */
+    public int getCollisionCategory() {
+        return CollisionCategory.OTHER;
+    }
+
+    /**
+     * Get the width of the area collision checks are made against. This
+     * is the unscaled sprite size, which may differ from getWidth() for
+     * entities that are drawn scaled.
+     * * @return The collision width, or 0 if there is no sprite
+     */
+    public int getCollisionWidth() {
+        return sprite == null ? 0 : sprite.getWidth();
+    }
+
+    /**
+     * Get the height of the area collision checks are made against.
+     * * @return The collision height, or 0 if there is no sprite
+     */
+    public int getCollisionHeight() {
+        return sprite == null ? 0 : sprite.getHeight();
+    }
+
+    /**
+     * Get the alpha mask of the current sprite, used for pixel accurate
+     * collisions.
+     * * @return The mask, or null if there is no sprite or it has no mask
+     */
+    public CollisionMask getCollisionMask() {
+        return sprite == null ? null : sprite.getCollisionMask();
+    }
+
+    /**
+     * Check if this entity overrides collidesWith() with its own rules.
+     * The collision manager otherwise tests pairs straight from its
+     * per-tick bounds cache without calling collidesWith().
+     * * @return True if collidesWith() must be called for this entity
+     */
+    public boolean hasCustomCollision() {
+        return false;
+    }
+
+    /**
+     * Check if this entity collided with another. When both sprites
+     * carry an alpha mask the opaque pixels are compared, otherwise the
+     * sprite rectangles shrunk by a small margin are used.
      * * @param other The other entity to check collision against
      * @return True if the entities collide with each other
      */
     public boolean collidesWith(Entity other) {
-    int marginX = 5; // 좌우 여백 (충돌 영역 축소)
-    int marginY = 5; // 상하 여백 (충돌 영역 축소)
-
-    me.setBounds(
-        (int) x + marginX,
-        (int) y + marginY,
-        sprite.getWidth() - marginX * 2,
-        sprite.getHeight() - marginY * 2
-    );
-
-    him.setBounds(
-        (int) other.x + marginX,
-        (int) other.y + marginY,
-        other.sprite.getWidth() - marginX * 2,
-        other.sprite.getHeight() - marginY * 2
-    );
-
-    return me.intersects(him);
-}
+        return overlapsSprite(other.sprite, (int) other.x, (int) other.y);
+    }
+    
+    /**
+     * Check if this entity overlaps a sprite placed at the given location,
+     * using the same rules as collidesWith(). This lets things that are
+     * not entities, such as the pooled projectiles, be tested against
+     * entities.
+     * * @param other The sprite to check against
+     * @param ox The x location of the sprite
+     * @param oy The y location of the sprite
+     * @return True if they overlap
+     */
+    public boolean overlapsSprite(Sprite other, int ox, int oy) {
+        // 두 스프라이트 모두 알파 마스크가 있으면 여백 없이 불투명 픽셀끼리 비교
+        CollisionMask myMask = sprite.getCollisionMask();
+        CollisionMask hisMask = other.getCollisionMask();
+        if (myMask != null && hisMask != null) {
+            return myMask.overlaps((int) x, (int) y, hisMask, ox, oy);
+        }
+
+        // 여백만큼 줄인 사각형끼리 비교
+        int m = COLLISION_MARGIN;
+        int ax = (int) x + m, ay = (int) y + m;
+        int aw = sprite.getWidth() - m * 2, ah = sprite.getHeight() - m * 2;
+        int bx = ox + m, by = oy + m;
+        int bw = other.getWidth() - m * 2, bh = other.getHeight() - m * 2;
+        if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) return false;
+        return ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah;
+    }
+    
+    /**
+     * Check if this entity moves fast enough to need its whole path
+     * checked for collisions, rather than just where it ends up. Only
+     * projectiles opt in.
+     * * @return True if this entity should be swept along its motion
+     */
+    public boolean isSwept() {
+        return false;
+    }
+    
+    /**
+     * Check if this tick's move was long enough that checking only the
+     * new location could skip over something, i.e. the entity travelled
+     * at least its own collision size along either axis.
+     * * @return True if a swept collision check is required this tick
+     */
+    public boolean needsSweptCollision() {
+        if (!isSwept() || sprite == null) return false;
+        return Math.abs(x - prevX) >= getCollisionWidth() - COLLISION_MARGIN * 2
+            || Math.abs(y - prevY) >= getCollisionHeight() - COLLISION_MARGIN * 2;
+    }
+    
+    /**
+     * Find when during this tick this entity first touched another,
+     * following both along their motion from their previous locations.
+     * Uses the same shrunk collision area as collidesWith().
+     * * @param other The other entity to sweep against
+     * @return The fraction of the tick (0 to 1) at which they start to
+     * overlap, or SweptAabb.NO_HIT if they don't start overlapping
+     */
+    public double timeOfImpact(Entity other) {
+        if (sprite == null || other.sprite == null) return SweptAabb.NO_HIT;
+        int m = COLLISION_MARGIN;
+        return SweptAabb.timeOfImpact(
+            prevX + m, prevY + m, getCollisionWidth() - m * 2, getCollisionHeight() - m * 2,
+            x - prevX, y - prevY,
+            other.prevX + m, other.prevY + m, other.getCollisionWidth() - m * 2, other.getCollisionHeight() - m * 2,
+            other.x - other.prevX, other.y - other.prevY);
+    }
+    
+    /**
+     * Find when during this tick a sprite-sized box moving in a straight
+     * line first touched this entity, the sweep counterpart of
+     * overlapsSprite().
+     * * @param other The sprite whose box is moving
+     * @param fromX The x location of the box at the start of the tick
+     * @param fromY The y location of the box at the start of the tick
+     * @param moveX How far the box moved horizontally this tick
+     * @param moveY How far the box moved vertically this tick
+     * @return The fraction of the tick (0 to 1) at which they start to
+     * overlap, or SweptAabb.NO_HIT if they don't start overlapping
+     */
+    public double timeOfImpact(Sprite other, double fromX, double fromY, double moveX, double moveY) {
+        if (sprite == null) return SweptAabb.NO_HIT;
+        int m = COLLISION_MARGIN;
+        return SweptAabb.timeOfImpact(
+            fromX + m, fromY + m, other.getWidth() - m * 2, other.getHeight() - m * 2,
+            moveX, moveY,
+            prevX + m, prevY + m, getCollisionWidth() - m * 2, getCollisionHeight() - m * 2,
+            x - prevX, y - prevY);
+    }
+    
+    /**
+     * Move this entity back to where it was when it first touched
+     * another, keeping the same offset from the other entity that it
+     * had at that moment.
+     * * @param other The entity that was hit
+     * @param t The time of impact returned by timeOfImpact()
+     */
+    public void moveToImpact(Entity other, double t) {
+        impactSavedX = x;
+        impactSavedY = y;
+        double offsetX = (prevX + (x - prevX) * t) - (other.prevX + (other.x - other.prevX) * t);
+        double offsetY = (prevY + (y - prevY) * t) - (other.prevY + (other.y - other.prevY) * t);
+        x = other.x + offsetX;
+        y = other.y + offsetY;
+    }
+    
+    /**
+     * Undo moveToImpact(), putting this entity back where this tick's
+     * move ended. Used when the hit turns out not to count.
+     */
+    public void undoMoveToImpact() {
+        x = impactSavedX;
+        y = impactSavedY;
+    }
     
     /**
      * Notification that this entity collided with another.
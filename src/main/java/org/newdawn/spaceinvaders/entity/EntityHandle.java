@@ -0,0 +1,37 @@
+package org.newdawn.spaceinvaders.entity;
+
+/**
+ * 🔗 EntityHandle — 엔티티의 "한 번의 생애" 만 가리키는 참조
+ * - 만들 때의 세대(generation)를 기억해 두고, 엔티티가 제거 예약되거나 목록에서 빠지거나
+ *   다시 추가되면(세대 증가) get() 이 null 을 돌려줌
+ * - 엔티티를 오래 들고 있는 쪽(발사한 몬스터, 진행 중인 모래 폭풍 등)이
+ *   이미 사라진 엔티티를 계속 쓰는 일을 막음
+ */
+public final class EntityHandle<T extends Entity> {
+    private final T entity;
+    private final int generation;
+
+    private EntityHandle(T entity) {
+        this.entity = entity;
+        this.generation = entity.getGeneration();
+    }
+
+    /** 현재 생애의 엔티티를 가리키는 핸들 (null 이면 null) */
+    public static <T extends Entity> EntityHandle<T> of(T entity) {
+        return entity == null ? null : new EntityHandle<>(entity);
+    }
+
+    /** 아직 같은 생애이고 제거 예약되지 않았으면 엔티티, 아니면 null */
+    public T get() {
+        return isAlive() ? entity : null;
+    }
+
+    public boolean isAlive() {
+        return entity.getGeneration() == generation && !entity.isRemoved();
+    }
+
+    /** 살아 있는지와 관계없이 같은 엔티티 객체를 가리키는지 */
+    public boolean refersTo(Entity other) {
+        return entity == other;
+    }
+}
@@ -1,8 +1,9 @@
 package org.newdawn.spaceinvaders.entity;
 
-import java.awt.Graphics;
-import java.awt.Graphics2D;
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 
 /**
  * 요새 엔티티 (플레이어 기지를 보호함)
@@ -37,6 +38,16 @@ public class FortressEntity extends Entity {
         return hp;
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.OBSTACLES;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.FORTRESS;
+    }
+
     /** 다른 엔티티와 충돌했을 때 (요새는 직접 반응 없음) */
     @Override
     public void collidedWith(Entity other) {
@@ -57,25 +68,14 @@ public class FortressEntity extends Entity {
 
     /** 요새 그리기 (스케일 적용) */
     @Override
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) {
             System.err.println("[NULL SPRITE] FortressEntity at (" + (int)x + "," + (int)y + ")");
             return;
         }
-
-        if (g instanceof Graphics2D) {
-            Graphics2D g2 = (Graphics2D) g;
-            double scale = 0.65; // 요새 크기 비율 조정
-
-            int dw = (int)(sprite.getWidth() * scale);
-            int dh = (int)(sprite.getHeight() * scale);
-
-            int drawX = (int) x;
-            int drawY = (int) y;
-
-            g2.drawImage(sprite.getImage(), drawX, drawY, dw, dh, null);
-        } else {
-            sprite.draw(g, (int)x, (int)y);
-        }
+        int drawX = getDrawX(alpha);
+        int drawY = getDrawY(alpha);
+        double scale = 0.65; // 요새 크기 비율 조정
+        out.addSprite(sprite, drawX, drawY, (int)(sprite.getWidth() * scale), (int)(sprite.getHeight() * scale), 1.0f);
     }
 }
\ No newline at end of file
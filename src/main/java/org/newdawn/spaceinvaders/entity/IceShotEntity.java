@@ -3,6 +3,8 @@ package org.newdawn.spaceinvaders.entity;
 import java.util.ArrayList;
 import java.util.List;
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
 
 /**
  * 플레이어의 얼음 공격 - 유령을 잠시 얼림 (광역 효과)
@@ -27,6 +29,21 @@ public class IceShotEntity extends Entity {
         }
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.PROJECTILES;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PLAYER_SHOT;
+    }
+
+    @Override
+    public boolean isSwept() {
+        return true;
+    }
+
     public void collidedWith(Entity other) {
         if (used) return;
         
@@ -39,22 +56,20 @@ public class IceShotEntity extends Entity {
     
     /** ❄️ 광역 얼림 효과 */
     private void freezeArea() {
-        List<Entity> toFreeze = new ArrayList<>();
+        List<MonsterEntity> toFreeze = new ArrayList<>();
         
         // 반경 내 MonsterEntity 수집
-        for (Entity e : game.getEntities()) {
-            if (e instanceof MonsterEntity) {
-                double dist = Math.hypot(e.getX() - x, e.getY() - y);
-                if (dist <= FREEZE_RADIUS) {
-                    toFreeze.add(e);
-                }
+        for (MonsterEntity e : game.getEntityManager().getMonsters()) {
+            double dist = Math.hypot(e.getX() - x, e.getY() - y);
+            if (dist <= FREEZE_RADIUS) {
+                toFreeze.add(e);
             }
         }
         
         // 얼림 효과 적용
         System.out.println("❄️ 얼음 공격으로 " + toFreeze.size() + "마리 동결!");
-        for (Entity e : toFreeze) {
-            ((MonsterEntity) e).freeze(freezeDuration);
+        for (MonsterEntity e : toFreeze) {
+            e.freeze(freezeDuration);
         }
         
         game.removeEntity(this);
@@ -1,7 +1,11 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.GameSettings;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.TimerWheel;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import java.util.Random;
 
 public class MonsterEntity extends Entity {
@@ -49,25 +53,27 @@ public class MonsterEntity extends Entity {
     private int health = 1;
 
     private boolean frozen = false;
-    private long freezeEndTime = 0;
 
     private boolean movingRight = random.nextBoolean();
     private boolean movingDown = random.nextBoolean();
-    private long lastMoveChange = 0;
-    private long moveChangeDelay = randomDelay(DIRECTION_CHANGE_BASE, DIRECTION_CHANGE_RANGE);
 
-    private long lastFrameChange = 0;
-    private static final int FRAME_DELAY = 120;
     protected static final int MAX_FRAMES = 7;
 
     private String currentDir = "r";
     private String currentSpriteBase;
 
-    private long lastAttackTime;
-    private long attackDelay;
+    // ⏲ 예약 콜백 (game.getTimers()) — 때가 된 틱에만 실행, 제거되면 Entity.leaveWorld 에서 취소
+    private final TimerWheel.Timer thawTimer = newTimer(this::thaw);
+    private final TimerWheel.Timer directionTimer = newTimer(this::randomDirectionChange);
+    private final TimerWheel.Timer attackTimer = newTimer(this::processAttack);
+    private long initialAttackDelay;
 
     protected String shotType = "shot";
 
+    // 발사 계산 중간값 (발사마다 배열을 만들지 않도록 필드에 기록)
+    private double aimX, aimY;
+    private double shotVx, shotVy;
+
     // =====================================================
     // Constructors
     // =====================================================
@@ -92,8 +98,19 @@ public class MonsterEntity extends Entity {
     // =====================================================
     private void initMonsterCommon() {
         setSpeedByStage();
-        lastAttackTime = System.currentTimeMillis() + random.nextInt(INITIAL_ATTACK_DELAY);
-        attackDelay = randomDelay(ATTACK_BASE_DELAY, ATTACK_RANGE_DELAY);
+        initialAttackDelay = random.nextInt(INITIAL_ATTACK_DELAY) + randomDelay(ATTACK_BASE_DELAY, ATTACK_RANGE_DELAY);
+    }
+
+    /**
+     * 게임에 들어오면 방향 전환/공격 타이머 시작
+     * - 보스는 move 를 직접 구현하고 자기 쿨다운을 쓰므로 제외
+     */
+    @Override
+    public void enterWorld() {
+        super.enterWorld();
+        if (isBoss() || game == null) return;
+        game.getTimers().schedule(directionTimer, 0);
+        game.getTimers().schedule(attackTimer, initialAttackDelay);
     }
 
     private void initRandomSprite() {
@@ -127,9 +144,6 @@ public class MonsterEntity extends Entity {
     // =====================================================
     @Override
     public void move(long delta) {
-        long now = System.currentTimeMillis();
-        updateFreeze(now);
-
         if (!frozen) {
             autoAdjustForStage4();
             preventObstaclePenetration(delta);
@@ -137,16 +151,12 @@ public class MonsterEntity extends Entity {
         }
 
         handleBoundaryBounce();
-        randomDirectionChange(now);
-        updateAnimationFrame(now);
-        processAttack(now);
     }
 
-    private void updateFreeze(long now) {
-        if (frozen && now > freezeEndTime) {
-            frozen = false;
-            updateVelocityFromDirection();
-        }
+    /** 얼림 종료 (thawTimer) */
+    private void thaw() {
+        frozen = false;
+        updateVelocityFromDirection();
     }
     
     private void updateVelocityFromDirection() {
@@ -176,12 +186,10 @@ public class MonsterEntity extends Entity {
         int myW = getWidth();
         int myH = getHeight();
 
-        for (Entity e : game.getEntities()) {
-            if (e instanceof ObstacleEntity) {
-                if (overlapX(e.getX(), e.getWidth(), this.x, myW)
-                    && e.getY() >= y + myH)
-                    return true;
-            }
+        for (ObstacleEntity e : game.getEntityManager().getObstacles()) {
+            if (overlapX(e.getX(), e.getWidth(), this.x, myW)
+                && e.getY() >= y + myH)
+                return true;
         }
         return false;
     }
@@ -196,23 +204,21 @@ public class MonsterEntity extends Entity {
             int myW = getWidth();
             int myH = getHeight();
 
-            for (Entity e : game.getEntities()) {
-                if (e instanceof ObstacleEntity) {
-                    int ox = e.getX();
-                    int oy = e.getY();
-                    int ow = e.getWidth();
-
-                    boolean horizOverlap = overlapX(nextX, myW, ox, ow);
-                    boolean currentlyAbove = (y + myH) <= oy;
-                    boolean wouldPenetrate = (nextY + myH) > oy;
-
-                    if (horizOverlap && currentlyAbove && wouldPenetrate && dy > 0) {
-                        y = oy - myH - 1;
-                        movingDown = false;
-                        dy = -moveSpeed;
-                        updateDirection();
-                        return;
-                    }
+            for (ObstacleEntity e : game.getEntityManager().getObstacles()) {
+                int ox = e.getX();
+                int oy = e.getY();
+                int ow = e.getWidth();
+
+                boolean horizOverlap = overlapX(nextX, myW, ox, ow);
+                boolean currentlyAbove = (y + myH) <= oy;
+                boolean wouldPenetrate = (nextY + myH) > oy;
+
+                if (horizOverlap && currentlyAbove && wouldPenetrate && dy > 0) {
+                    y = oy - myH - 1;
+                    movingDown = false;
+                    dy = -moveSpeed;
+                    updateDirection();
+                    return;
                 }
             }
         } catch (Exception ignore) {}
@@ -242,24 +248,15 @@ public class MonsterEntity extends Entity {
         }
     }
 
-    private void randomDirectionChange(long now) {
-        if (now - lastMoveChange > moveChangeDelay) {
-            lastMoveChange = now;
-            moveChangeDelay = randomDelay(DIRECTION_CHANGE_BASE, DIRECTION_CHANGE_RANGE);
-
-            if (random.nextBoolean()) movingRight = !movingRight;
-            if (random.nextBoolean()) movingDown = !movingDown;
+    /** 무작위 방향 전환 (directionTimer) — 다음 전환도 무작위 간격으로 예약 */
+    private void randomDirectionChange() {
+        game.getTimers().schedule(directionTimer, randomDelay(DIRECTION_CHANGE_BASE, DIRECTION_CHANGE_RANGE));
 
-            updateVelocityFromDirection();
-            updateDirection();
-        }
-    }
+        if (random.nextBoolean()) movingRight = !movingRight;
+        if (random.nextBoolean()) movingDown = !movingDown;
 
-    private void updateAnimationFrame(long now) {
-        if (now - lastFrameChange > FRAME_DELAY) {
-            lastFrameChange = now;
-            updateSprite();
-        }
+        updateVelocityFromDirection();
+        updateDirection();
     }
 
     private void updateSprite() {
@@ -269,12 +266,10 @@ public class MonsterEntity extends Entity {
     // =====================================================
     // Attack
     // =====================================================
-    private void processAttack(long now) {
-        if (now - lastAttackTime > attackDelay) {
-            lastAttackTime = now;
-            attackDelay = randomDelay(ATTACK_BASE_DELAY, ATTACK_RANGE_DELAY);
-            if (random.nextDouble() < ATTACK_PROBABILITY) fireShot();
-        }
+    /** 공격 시도 (attackTimer) — 다음 시도도 무작위 간격으로 예약 */
+    private void processAttack() {
+        game.getTimers().schedule(attackTimer, randomDelay(ATTACK_BASE_DELAY, ATTACK_RANGE_DELAY));
+        if (random.nextDouble() < ATTACK_PROBABILITY) fireShot();
     }
 
     public void fireShot() {
@@ -283,18 +278,21 @@ public class MonsterEntity extends Entity {
         int startX = getX() + sprite.getWidth() / 2;
         int startY = getY() + sprite.getHeight() / 2;
 
-        double[] target = resolveTarget(startX, startY);
-        double targetX = target[0], targetY = target[1];
-
-        double[] vel = computeShotVelocity(startX, startY, targetX, targetY);
-        double vx = vel[0], vy = vel[1];
+        resolveTarget(startX, startY);
+        computeShotVelocity(startX, startY, aimX, aimY);
+        double vx = shotVx, vy = shotVy;
 
         String spritePath = resolveShotSprite();
-        EnemyShotEntity shot = new EnemyShotEntity(game, spritePath, startX, startY, vx, vy, shotType, this);
+        if (GameSettings.isProjectileSystemEnabled()) {
+            game.getEntityManager().getProjectiles().spawnEnemyShot(spritePath, startX, startY, vx, vy, shotType, this);
+            return;
+        }
+        EnemyShotEntity shot = EnemyShotEntity.obtain(game, spritePath, startX, startY, vx, vy, shotType, this);
         game.addEntity(shot);
     }
 
-    private double[] resolveTarget(int startX, int startY) {
+    /** 조준점을 aimX/aimY 에 기록 (플레이어와 요새 중 가까운 쪽) */
+    private void resolveTarget(int startX, int startY) {
         UserEntity player = game.getShip();
         FortressEntity fort = game.getFortress();
 
@@ -322,14 +320,20 @@ public class MonsterEntity extends Entity {
             }
         }
 
-        return new double[]{ targetX, targetY };
+        aimX = targetX;
+        aimY = targetY;
     }
 
-    private double[] computeShotVelocity(double sx, double sy, double tx, double ty) {
+    /** 조준점 방향 속도를 shotVx/shotVy 에 기록 */
+    private void computeShotVelocity(double sx, double sy, double tx, double ty) {
         double dx = tx - sx;
         double dy = ty - sy;
         double len = Math.sqrt(dx * dx + dy * dy);
-        if (len == 0) return new double[]{ 0, 0 };
+        if (len == 0) {
+            shotVx = 0;
+            shotVy = 0;
+            return;
+        }
 
         dx /= len;
         dy /= len;
@@ -338,7 +342,8 @@ public class MonsterEntity extends Entity {
             ("iceshot".equals(shotType)) ? ICESHOT_SPEED :
             ("bombshot".equals(shotType)) ? BOMBSHOT_SPEED : NORMAL_SHOT_SPEED;
 
-        return new double[]{ dx * speed, dy * speed };
+        shotVx = dx * speed;
+        shotVy = dy * speed;
     }
 
     private String resolveShotSprite() {
@@ -359,7 +364,7 @@ public class MonsterEntity extends Entity {
 
     public void freeze(int duration) {
         frozen = true;
-        freezeEndTime = System.currentTimeMillis() + duration;
+        game.getTimers().schedule(thawTimer, duration);
         dx = dy = 0;
     }
 
@@ -368,6 +373,16 @@ public class MonsterEntity extends Entity {
         return health <= 0;
     }
 
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.MONSTER;
+    }
+
+    /** 스테이지 보스(Boss1 ~ Boss5)인지 — 일반 몬스터는 false */
+    public boolean isBoss() {
+        return false;
+    }
+
     @Override
     public void collidedWith(Entity other) {
         if (other instanceof UserEntity) {
@@ -377,14 +392,9 @@ public class MonsterEntity extends Entity {
     }
 
     @Override
-    public void draw(java.awt.Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) return;
-        int w = (int)(sprite.getWidth() * DRAW_SCALE);
-        int h = (int)(sprite.getHeight() * DRAW_SCALE);
-
-        java.awt.Graphics2D g2 = (java.awt.Graphics2D) g;
-        java.awt.Image scaled = sprite.getImage().getScaledInstance(w, h, java.awt.Image.SCALE_SMOOTH);
-        g2.drawImage(scaled, (int)x, (int)y, null);
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, DRAW_SCALE), getDrawX(alpha), getDrawY(alpha));
     }
 
     // Getters / Setters
@@ -2,8 +2,9 @@ package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
 
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -104,33 +105,43 @@ public class ObstacleEntity extends Entity {
         }
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.OBSTACLES;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.OBSTACLE;
+    }
+
     @Override
     public void collidedWith(Entity other) {
         // 플레이어의 총알에 맞으면 단계 변경
         if (other instanceof ShotEntity) {
-            hitCount++;
-            if (hitCount >= hitToNextStage[stage-1]) {
-                hitCount = 0;
-                stage++;
-                if (stage > 4) {
-                    game.removeEntity(this); // 장애물 제거
-                } else {
-                    this.sprite = SpriteStore.get().getSprite(frames[stage-1]);
-                }
-            }
+            hitByShot();
             game.removeEntity(other); // 총알 제거
         }
         // EnemyShotEntity는 무시 (피해 없음)
     }
 
-    // 장애물 모두 제거 여부 확인
-    // Game에서 호출하는 용도
-    public static boolean isObstacleClear(List<Entity> entities) {
-        for (Entity entity : entities) {
-            if (entity instanceof ObstacleEntity) {
-                return false;
+    /** 플레이어 총알 한 발에 맞음 → 정해진 횟수마다 다음 단계 그림, 마지막 단계 뒤에는 제거 */
+    public void hitByShot() {
+        hitCount++;
+        if (hitCount >= hitToNextStage[stage-1]) {
+            hitCount = 0;
+            stage++;
+            if (stage > 4) {
+                game.removeEntity(this); // 장애물 제거
+            } else {
+                this.sprite = SpriteStore.get().getSprite(frames[stage-1]);
             }
         }
-        return true;
+    }
+
+    // 장애물 모두 제거 여부 확인
+    // Game에서 호출하는 용도
+    public static boolean isObstacleClear(Game game) {
+        return !game.getEntityManager().hasObstacles();
     }
 }
@@ -1,6 +1,11 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.TimerWheel;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.entity.Boss.BossEntity;
 import org.newdawn.spaceinvaders.entity.Boss.Boss1;
 
@@ -16,6 +21,7 @@ public class ShieldEntity extends Entity {
     private final FortressEntity fortress;
     private final long endTime;      // 종료 시간
     private boolean active = false;
+    private final TimerWheel.Timer expireTimer = newTimer(this::expire);
 
     public ShieldEntity(Game game, FortressEntity fortress, int duration) {
         // fortress의 중심 위치 기준으로 생성
@@ -25,8 +31,9 @@ public class ShieldEntity extends Entity {
         
         this.game = game;
         this.fortress = fortress;
-        this.endTime = System.currentTimeMillis() + duration;
+        this.endTime = game.getClock().now() + duration;
         this.active = true;
+        game.getTimers().schedule(expireTimer, duration);
         
         // sprite 로드 확인
         if (this.sprite == null) {
@@ -63,13 +70,19 @@ public class ShieldEntity extends Entity {
         // shield.png가 candybucket.png보다 크게 보이도록 중심 맞춤
         this.x = fortressCenterX - sprite.getWidth() / 2;
         this.y = fortressCenterY - sprite.getHeight() / 2;
+    }
 
-        // ⏱ 지속시간 끝나면 자동 제거
-        if (System.currentTimeMillis() > endTime) {
-            active = false;
-            game.removeEntity(this);
-            System.out.println("⏱ 방어막 지속시간 종료 - 자동 제거");
-        }
+    /** ⏱ 지속시간 끝나면 자동 제거 (expireTimer) */
+    private void expire() {
+        active = false;
+        game.removeEntity(this);
+        System.out.println("⏱ 방어막 지속시간 종료 - 자동 제거");
+    }
+
+    /** 🛡 총알/몬스터 판정이 기본 규칙과 다름 → 충돌 관리자가 collidesWith 를 호출하도록 */
+    @Override
+    public boolean hasCustomCollision() {
+        return true;
     }
 
     @Override
@@ -80,29 +93,41 @@ public class ShieldEntity extends Entity {
         }
         // 총알만 충돌 감지 (히트박스 크기 축소)
         if (other instanceof EnemyShotEntity) {
-            // 요새 주변 작은 영역만 충돌 감지
-            int marginX = sprite.getWidth() / 3; // 히트박스 크기를 1/3로 축소
-            int marginY = sprite.getHeight() / 3;
-            
-            java.awt.Rectangle me = new java.awt.Rectangle(
-                (int) x + marginX,
-                (int) y + marginY,
-                sprite.getWidth() - marginX * 2,
-                sprite.getHeight() - marginY * 2
-            );
-            
-            java.awt.Rectangle him = new java.awt.Rectangle(
-                (int) other.x,
-                (int) other.y,
-                other.sprite.getWidth(),
-                other.sprite.getHeight()
-            );
-            
-            return me.intersects(him);
+            return blocksShot(other.sprite, (int) other.x, (int) other.y);
         }
         return super.collidesWith(other);
     }
 
+    /**
+     * 🛡 (x, y) 에 놓인 적 총알 그림이 방어막에 걸리는지
+     * - 알파 마스크가 있으면 방어막 그림의 불투명 픽셀 그대로 판정
+     * - 없으면 요새 주변 작은 영역(가운데 1/3)만 판정
+     */
+    public boolean blocksShot(Sprite shot, int shotX, int shotY) {
+        if (sprite.getCollisionMask() != null && shot.getCollisionMask() != null) {
+            return overlapsSprite(shot, shotX, shotY);
+        }
+        int marginX = sprite.getWidth() / 3; // 히트박스 크기를 1/3로 축소
+        int marginY = sprite.getHeight() / 3;
+        int left = (int) x + marginX;
+        int top = (int) y + marginY;
+        int w = sprite.getWidth() - marginX * 2;
+        int h = sprite.getHeight() - marginY * 2;
+        if (w <= 0 || h <= 0 || shot.getWidth() <= 0 || shot.getHeight() <= 0) return false;
+        return left < shotX + shot.getWidth() && shotX < left + w
+            && top < shotY + shot.getHeight() && shotY < top + h;
+    }
+
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.SHIELDS;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.SHIELD;
+    }
+
     @Override
     public void collidedWith(Entity other) {
         // 🛡 지속시간 동안 모든 피해 무시 (무적 상태)
@@ -125,7 +150,12 @@ public class ShieldEntity extends Entity {
 
     /** 💥 총알이 방어막에 막혔을 때 호출되는 콜백 */
     public void onBlocked(EnemyShotEntity shot) {
-        System.out.println("🛡 요새 방어막이 " + shot.getShotKind() + " 차단!");
+        onBlocked(shot.getShotKind());
+    }
+
+    /** 💥 총알 종류만 아는 경우 (ProjectileManager 의 총알) */
+    public void onBlocked(String shotKind) {
+        System.out.println("🛡 요새 방어막이 " + shotKind + " 차단!");
     }
 
     /** 💥 몬스터가 방어막에 막혔을 때 호출되는 콜백 */
@@ -134,32 +164,15 @@ public class ShieldEntity extends Entity {
     }
 
     @Override
-    public void draw(java.awt.Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (fortress == null || sprite == null) return;
-        java.awt.Graphics2D g2 = (java.awt.Graphics2D) g;
-
-        // 💡 투명도(AlphaComposite) 설정을 제거하여 원래 이미지대로 불투명하게 그립니다.
-
-        // shield.png를 원래 크기로 표시 (크기 조정 제거)
-        double scale = 1.0; 
-        int newW = (int) (sprite.getWidth() * scale);
-        int newH = (int) (sprite.getHeight() * scale);
-        java.awt.Image scaled = sprite.getImage().getScaledInstance(newW, newH, java.awt.Image.SCALE_SMOOTH);
-        
-        // 요새 중심에 맞춰 그리기
+        // 요새 중심에 맞춰 원래 크기로 그리기
         int[] center = getFortressCenter();
-        int fortressCenterX = center[0];
-        int fortressCenterY = center[1];
-        int drawX = fortressCenterX - newW / 2;
-        int drawY = fortressCenterY - newH / 2;
-        
-        // 불투명하게 그리기 (AlphaComposite 설정 제거)
-        g2.drawImage(scaled, drawX, drawY, null);
-
+        out.addSprite(sprite, center[0] - sprite.getWidth() / 2, center[1] - sprite.getHeight() / 2);
     }
 
     public boolean isActive() {
-        return active && System.currentTimeMillis() < endTime;
+        return active && game.getClock().now() < endTime;
     }
     
     public long getEndTime() {
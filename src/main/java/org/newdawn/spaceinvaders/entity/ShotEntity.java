@@ -1,15 +1,22 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.pool.ObjectPool;
+import org.newdawn.spaceinvaders.pool.Poolable;
+import org.newdawn.spaceinvaders.render.RenderLayer;
 
 /**
  * An entity representing a shot fired by the player's ship
  * 
  * @author Kevin Glass
  */
-public class ShotEntity extends Entity {
+public class ShotEntity extends Entity implements Poolable {
 	/** The vertical speed at which the players shot moves */
-	private double moveSpeed = -300;
+	public static final double MOVE_SPEED = -300;
+	/** Recycled shots, returned when they leave the game */
+	private static final ObjectPool<ShotEntity> POOL =
+		new ObjectPool<>("ShotEntity", ShotEntity::new, 64);
 	/** The game in which this entity exists */
 	private Game game;
 	/** True if this shot has been "used", i.e. its hit something */
@@ -27,11 +34,59 @@ public class ShotEntity extends Entity {
 	 */
 	public ShotEntity(Game game,String sprite,int x,int y) {
 		super(sprite,x,y);
+		init(game,sprite,x,y);
+	}
+	
+	/**
+	 * Create an empty shot for the pool, init() fills it in
+	 */
+	private ShotEntity() {
+		super("sprites/shot.png",0,0);
+	}
+	
+	/**
+	 * Get a shot from the pool, set up as the constructor would
+	 * 
+	 * @param game The game in which the shot has been created
+	 * @param sprite The sprite representing this shot
+	 * @param x The initial x location of the shot
+	 * @param y The initial y location of the shot
+	 * @return The shot, ready to be added to the game
+	 */
+	public static ShotEntity obtain(Game game,String sprite,int x,int y) {
+		ShotEntity shot = POOL.obtain();
+		shot.init(game,sprite,x,y);
+		return shot;
+	}
+	
+	/**
+	 * Apply the constructor state, for both new and recycled shots
+	 */
+	private void init(Game game,String sprite,int x,int y) {
+		reinit(sprite,x,y);
 		
 		this.game = game;
 		this.attackPower = game.getShip().getAttackPower();
+		this.used = false;
 		
-		dy = moveSpeed;
+		dy = MOVE_SPEED;
+	}
+	
+	/**
+	 * Drop references held by this shot while it waits in the pool
+	 */
+	@Override
+	public void reset() {
+		game = null;
+	}
+	
+	/**
+	 * Once the shot is out of the game it goes back to the pool
+	 */
+	@Override
+	public void leaveWorld() {
+		super.leaveWorld();
+		POOL.release(this);
 	}
 
 	/**
@@ -49,6 +104,21 @@ public class ShotEntity extends Entity {
 		}
 	}
 	
+	@Override
+	public RenderLayer getRenderLayer() {
+		return RenderLayer.PROJECTILES;
+	}
+
+	@Override
+	public int getCollisionCategory() {
+		return CollisionCategory.PLAYER_SHOT;
+	}
+
+	@Override
+	public boolean isSwept() {
+		return true;
+	}
+
 	/**
 	 * Notification that this shot has collided with another
 	 * entity
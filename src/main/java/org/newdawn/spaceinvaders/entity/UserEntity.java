@@ -1,13 +1,14 @@
 package org.newdawn.spaceinvaders.entity;
 
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.TimerWheel;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.render.RenderLayer;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 import org.newdawn.spaceinvaders.shop.Item;
 
 /**
@@ -45,7 +46,7 @@ public class UserEntity extends Entity {
     private int defense = 0;
     private int attackPower = DEFAULT_ATTACK_POWER;
     private boolean isFrozen = false;
-    private long frozenEndTime = 0;
+    private final TimerWheel.Timer thawTimer = newTimer(() -> isFrozen = false);
 
     private int bombCount = 0;
     private int iceWeaponCount = 0;
@@ -85,15 +86,9 @@ public class UserEntity extends Entity {
     }
 
     @Override
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) return;
-        Graphics2D g2 = (Graphics2D) g;
-
-        int newW = (int) (sprite.getWidth() * DRAW_SCALE);
-        int newH = (int) (sprite.getHeight() * DRAW_SCALE);
-
-        Image scaled = sprite.getImage().getScaledInstance(newW, newH, Image.SCALE_SMOOTH);
-        g2.drawImage(scaled, (int) x, (int) y, null);
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, DRAW_SCALE), getDrawX(alpha), getDrawY(alpha));
     }
 
     // 상태 관리
@@ -127,18 +122,18 @@ public class UserEntity extends Entity {
 
     public void freeze(long duration) {
         isFrozen = true;
-        frozenEndTime = System.currentTimeMillis() + duration;
+        game.getTimers().schedule(thawTimer, duration);
     }
 
-    public void checkFrozenStatus() {
-        if (isFrozen && System.currentTimeMillis() > frozenEndTime) {
-            isFrozen = false;
-        }
+    /** 게임에서 빠지면 얼림 타이머가 취소되므로 얼림도 같이 풀어 둠 (스테이지 간 유지되는 플레이어) */
+    @Override
+    public void leaveWorld() {
+        super.leaveWorld();
+        isFrozen = false;
     }
 
     @Override
     public void move(long delta) {
-        checkFrozenStatus();
         if (isFrozen) return;
 
         if ((dx < 0) && (x < BOUNDARY_LEFT)) return;
@@ -147,6 +142,16 @@ public class UserEntity extends Entity {
         super.move(delta);
     }
 
+    @Override
+    public RenderLayer getRenderLayer() {
+        return RenderLayer.PLAYER;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PLAYER;
+    }
+
     // 충돌 처리
     @Override
     public void collidedWith(Entity other) {
@@ -1,12 +1,8 @@
 package org.newdawn.spaceinvaders.entity;
 
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Image;
-
 import org.newdawn.spaceinvaders.Game;
-import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.render.RenderTarget;
 
 /**
  * 🎮 UserEntity2 - 2P(두 번째 플레이어) 캐릭터
@@ -23,6 +19,8 @@ public class UserEntity2 extends UserEntity {
     private final String spriteRight2 = "sprites/user2r.png";
     private final String spriteLeft2  = "sprites/user2l.png";
     private boolean movingRight = true;
+    /** 2P 축소 비율 (1P 보다 약간 더 작게) */
+    private static final double DRAW_SCALE_2P = 0.12;
 
     public UserEntity2(Game game, String ref, int x, int y) {
         super(game, ref, x, y);
@@ -51,17 +49,11 @@ public class UserEntity2 extends UserEntity {
     // 🔹 2P 전용 축소 렌더링 (색상/크기 구분 가능)
     // =====================================================
     @Override
-    public void draw(Graphics g) {
+    public void emit(RenderTarget out, double alpha) {
         if (sprite == null) return;
-        Graphics2D g2 = (Graphics2D) g;
 
         // Player2를 조금 더 작고 색다르게 보이도록
-        double scale = 0.12; // 약간 더 작게
-        int newW = (int) (sprite.getWidth() * scale);
-        int newH = (int) (sprite.getHeight() * scale);
-
-        Image scaled = sprite.getImage().getScaledInstance(newW, newH, Image.SCALE_SMOOTH);
-        g2.drawImage(scaled, (int) x, (int) y, null);
+        out.addSprite(SpriteStore.get().getScaledSprite(sprite, DRAW_SCALE_2P), getDrawX(alpha), getDrawY(alpha));
     }
 
     // =====================================================
@@ -1,18 +1,62 @@
 package org.newdawn.spaceinvaders.manager;
 
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import org.newdawn.spaceinvaders.AcceleratedSprite;
 import org.newdawn.spaceinvaders.Sprite;
 
+/**
+ * 🌄 BackgroundManager — 배경 그리기
+ * - 배경이 바뀔 때 한 번만 화면 너비에 맞춰 스케일한 버퍼를 만들고
+ *   매 프레임에는 그 버퍼를 그대로 복사(blit)만 함
+ * - offY 만큼 세로로 스크롤하며, 버퍼 끝에서 위로 이어 붙여 그림 (wrap-around)
+ */
 public class BackgroundManager {
+    private static final int VIEW_WIDTH = 800;
+    private static final int VIEW_HEIGHT = 600;
+
+    /** 현재 버퍼를 만든 원본 배경 */
+    private Sprite cachedSource;
+    /** 화면 너비로 미리 스케일한 배경 (높이는 스케일 결과 그대로) */
+    private Sprite layer;
+
     public void draw(Graphics2D g, Sprite s, int offY) {
         if (s == null) return;
+        if (s != cachedSource || layer == null) {
+            rebuild(g.getDeviceConfiguration(), s);
+        }
+
+        int dh = layer.getHeight();
+        int sy = Math.floorMod(offY, dh);
+        layer.draw(g, 0, -sy);
+        if (dh - sy < VIEW_HEIGHT) {
+            layer.draw(g, 0, dh - sy);
+        }
+    }
+
+    /**
+     * 배경을 화면을 덮는 크기(cover)로 스케일해서 버퍼에 한 번 그린다.
+     * 가로는 가운데 정렬 후 잘라내고, 세로는 스크롤용으로 전체 높이를 유지한다.
+     */
+    private void rebuild(GraphicsConfiguration gc, Sprite s) {
         int iw = s.getWidth(), ih = s.getHeight();
-        double scale = Math.max(800.0 / iw, 600.0 / ih);
+        double scale = Math.max((double) VIEW_WIDTH / iw, (double) VIEW_HEIGHT / ih);
         int dw = (int) Math.round(iw * scale);
         int dh = (int) Math.round(ih * scale);
-        int dx = (800 - dw) / 2;
-        int sy = -(offY % dh);
-        s.drawScaled(g, dx, sy,    dw, dh);
-        s.drawScaled(g, dx, sy+dh, dw, dh);
+        int dx = (VIEW_WIDTH - dw) / 2;
+
+        BufferedImage buffer = gc.createCompatibleImage(VIEW_WIDTH, dh, Transparency.OPAQUE);
+        Graphics2D bg = buffer.createGraphics();
+        bg.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        s.drawScaled(bg, dx, 0, dw, dh);
+        bg.dispose();
+
+        if (layer != null) layer.flush();
+        layer = new AcceleratedSprite(buffer, null);
+        cachedSource = s;
     }
 }
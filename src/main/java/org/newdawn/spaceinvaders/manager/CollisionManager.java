@@ -1,34 +1,212 @@
 package org.newdawn.spaceinvaders.manager;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.GameSettings;
+import org.newdawn.spaceinvaders.collision.BroadPhase;
+import org.newdawn.spaceinvaders.collision.CollisionBounds;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.collision.CollisionEngine;
+import org.newdawn.spaceinvaders.collision.SweptAabb;
 import org.newdawn.spaceinvaders.entity.Entity;
 
-/** ⚔️ CollisionManager — 모든 엔티티 충돌 검사 */
+/**
+ * ⚔️ CollisionManager — 모든 엔티티 충돌 검사
+ * - 틱마다 엔티티별 충돌 영역을 CollisionBounds 에 한 번 계산하고, broad phase 와 정밀 검사는 그것만 읽음
+ * - broad phase 가 추린 후보 쌍 중 겹치는 쌍에만 collidedWith 를 호출
+ *   (자기만의 판정이 있는 엔티티와의 쌍만 collidesWith 호출)
+ * - 엔진은 현재 스테이지 기본값, GameSettings.getCollisionEngine() 이 있으면 그것을 사용
+ * - 엔진 인스턴스는 종류별로 하나씩 유지 (sweep and prune 은 틱 사이 정렬 상태를 재사용)
+ * - 검사에 쓴 시간을 누적해 엔진 간 비교에 사용
+ * - 프레임이 밀려 한 틱에 자기 크기 이상 움직인 투사체는 먼저 이동 경로 전체를 검사(swept)해
+ *   가장 먼저 닿은 대상 하나와 충돌 처리 → 얇은 몬스터/장애물을 뚫고 지나가지 않음
+ */
 public class CollisionManager {
     private final Game game;
     private final List<Entity> entities;
 
+    private final Map<CollisionEngine, BroadPhase> engines = new EnumMap<>(CollisionEngine.class);
+    private final BroadPhase.PairVisitor narrowPhase = this::checkPair;
+    private final CollisionBounds bounds = new CollisionBounds();
+    private CollisionEngine stageEngine = CollisionEngine.SPATIAL_HASH;
+
+    /** 이번 틱에 경로 검사로 이미 처리한 쌍 (일반 검사에서 다시 처리하지 않음) */
+    private Entity[] sweptMovers = new Entity[8];
+    private Entity[] sweptTargets = new Entity[8];
+    private int sweptCount = 0;
+    /** 경로 검사 후보 쌍 (상위 32비트 투사체 인덱스, 하위 32비트 대상 인덱스) */
+    private long[] sweptCandidates = new long[16];
+    /** sweptCandidates 와 같은 칸의 충돌 시각 */
+    private double[] impactTimes = new double[16];
+    private int candidateCount = 0;
+    private final BroadPhase.PairVisitor sweptPhase = this::collectSweptCandidate;
+
+    private long totalNanos = 0;
+    private long totalTicks = 0;
+
     public CollisionManager(Game game, List<Entity> entities) {
         this.game = game;
         this.entities = entities;
     }
 
+    /** 스테이지가 바뀔 때 해당 스테이지의 기본 엔진으로 교체 */
+    public void setStageEngine(CollisionEngine engine) {
+        if (engine != null) stageEngine = engine;
+    }
+
+    /** 이번 틱에 사용할 엔진 (설정이 스테이지 기본값보다 우선) */
+    public CollisionEngine getActiveEngine() {
+        CollisionEngine forced = GameSettings.getCollisionEngine();
+        return forced != null ? forced : stageEngine;
+    }
+
     public void checkCollisions() {
+        long start = System.nanoTime();
         int size = entities.size();
+        bounds.rebuild(entities, size);
+        BroadPhase broadPhase = engines.computeIfAbsent(getActiveEngine(), CollisionEngine::create);
+        checkSweptCollisions(broadPhase, size);
+        broadPhase.findPairs(bounds, narrowPhase);
+        totalNanos += System.nanoTime() - start;
+        totalTicks++;
+    }
+
+    /** 누적 충돌 검사 시간 (ns, 정밀 검사와 collidedWith 포함) */
+    public long getTotalNanos() { return totalNanos; }
+
+    /** 누적 충돌 검사 횟수 (틱 수) */
+    public long getTotalTicks() { return totalTicks; }
+
+    /**
+     * 빠른 투사체마다 이동 경로와 겹치는 대상 중 충돌 시각이 가장 이른 하나를 골라
+     * 그 위치로 되돌린 뒤 충돌 처리 (first hit wins)
+     * - 후보는 전수 비교 대신 이동 경로까지 넓힌 영역으로 broad phase 를 한 번 더 돌려 얻음
+     *   (빠른 투사체가 없는 틱에는 추가 비용 없음)
+     * - 이미 제거 예정인 투사체/대상은 건너뜀 → 같은 몬스터를 두 번 처치하지 않음
+     * - 자기만의 판정이 있는 대상(방어막 등)은 충돌 위치에서 collidesWith 가 참일 때만 인정하고,
+     *   아니면 위치를 되돌리고 다음으로 이른 대상을 봄
+     */
+    private void checkSweptCollisions(BroadPhase broadPhase, int size) {
+        Arrays.fill(sweptMovers, 0, sweptCount, null);
+        Arrays.fill(sweptTargets, 0, sweptCount, null);
+        sweptCount = 0;
+        candidateCount = 0;
+
+        boolean anySwept = false;
         for (int i = 0; i < size; i++) {
-            Entity me = entities.get(i);
-            for (int j = i + 1; j < size; j++) {
-                Entity him = entities.get(j);
-                try {
-                    if (me.collidesWith(him)) {
-                        me.collidedWith(him);
-                        him.collidedWith(me);
-                    }
-                } catch (Exception e) {
-                    System.err.println("⚠️ 충돌 검사 오류: " + e.getMessage());
+            Entity e = entities.get(i);
+            boolean swept = !e.isRemoved() && e.needsSweptCollision();
+            bounds.expandToPath(i, swept);
+            anySwept |= swept;
+        }
+        if (anySwept) broadPhase.findPairs(bounds, sweptPhase);
+        // 정밀 검사는 실제 위치 기준이므로 넓힌 영역을 모두 되돌림
+        for (int i = 0; i < size; i++) bounds.refresh(i);
+        if (candidateCount == 0) return;
+
+        // (투사체, 대상) 순으로 정렬 → 투사체별로 모이고, 같은 시각이면 목록 앞쪽 대상이 이김
+        Arrays.sort(sweptCandidates, 0, candidateCount);
+        int from = 0;
+        while (from < candidateCount) {
+            int mover = (int) (sweptCandidates[from] >>> 32);
+            int to = from + 1;
+            while (to < candidateCount && (int) (sweptCandidates[to] >>> 32) == mover) to++;
+            resolveSwept(mover, from, to);
+            from = to;
+        }
+    }
+
+    /** broad phase 후보 쌍 중 경로 검사 대상이 낀 쌍을 (투사체, 대상) 으로 기록 */
+    private void collectSweptCandidate(int i, int j) {
+        if (bounds.isSwept(i)) addSweptCandidate(i, j);
+        if (bounds.isSwept(j)) addSweptCandidate(j, i);
+    }
+
+    private void addSweptCandidate(int mover, int target) {
+        if (candidateCount == sweptCandidates.length) {
+            sweptCandidates = Arrays.copyOf(sweptCandidates, candidateCount * 2);
+            impactTimes = Arrays.copyOf(impactTimes, candidateCount * 2);
+        }
+        sweptCandidates[candidateCount++] = ((long) mover << 32) | target;
+    }
+
+    /** i 번 투사체의 후보 [from, to) 중 가장 먼저 닿은 대상과 충돌 처리 */
+    private void resolveSwept(int i, int from, int to) {
+        Entity mover = entities.get(i);
+        if (mover.isRemoved()) return;
+        int mask = CollisionCategory.maskOf(bounds.category(i));
+        for (int k = from; k < to; k++) {
+            int j = (int) sweptCandidates[k];
+            Entity other = entities.get(j);
+            impactTimes[k] = (mask & bounds.category(j)) == 0 || other.isRemoved()
+                ? SweptAabb.NO_HIT : mover.timeOfImpact(other);
+        }
+
+        while (true) {
+            int first = -1;
+            for (int k = from; k < to; k++) {
+                double t = impactTimes[k];
+                if (t != SweptAabb.NO_HIT && (first < 0 || t < impactTimes[first])) first = k;
+            }
+            if (first < 0) return;
+
+            int j = (int) sweptCandidates[first];
+            Entity target = entities.get(j);
+            try {
+                mover.moveToImpact(target, impactTimes[first]);
+                if (bounds.isCustom(i, j) && !collidesCustom(mover, target)) {
+                    mover.undoMoveToImpact();
+                    impactTimes[first] = SweptAabb.NO_HIT;
+                    continue;
                 }
+                bounds.refresh(i);
+                recordSweptPair(mover, target);
+                mover.collidedWith(target);
+                target.collidedWith(mover);
+            } catch (Exception e) {
+                System.err.println("⚠️ 충돌 검사 오류: " + e.getMessage());
+            }
+            return;
+        }
+    }
+
+    /** 자기만의 판정을 가진 쪽의 collidesWith 로 검사 */
+    private static boolean collidesCustom(Entity mover, Entity target) {
+        return target.hasCustomCollision() ? target.collidesWith(mover) : mover.collidesWith(target);
+    }
+
+    private void recordSweptPair(Entity mover, Entity target) {
+        if (sweptCount == sweptMovers.length) {
+            sweptMovers = Arrays.copyOf(sweptMovers, sweptCount * 2);
+            sweptTargets = Arrays.copyOf(sweptTargets, sweptCount * 2);
+        }
+        sweptMovers[sweptCount] = mover;
+        sweptTargets[sweptCount++] = target;
+    }
+
+    private boolean isSweptPair(Entity a, Entity b) {
+        for (int k = 0; k < sweptCount; k++) {
+            if ((sweptMovers[k] == a && sweptTargets[k] == b)
+                    || (sweptMovers[k] == b && sweptTargets[k] == a)) return true;
+        }
+        return false;
+    }
+
+    private void checkPair(int i, int j) {
+        Entity me = entities.get(i);
+        Entity him = entities.get(j);
+        if (sweptCount > 0 && isSweptPair(me, him)) return;
+        try {
+            boolean hit = bounds.isCustom(i, j) ? me.collidesWith(him) : bounds.overlaps(i, j);
+            if (hit) {
+                me.collidedWith(him);
+                him.collidedWith(me);
             }
+        } catch (Exception e) {
+            System.err.println("⚠️ 충돌 검사 오류: " + e.getMessage());
         }
     }
 }
@@ -1,27 +1,59 @@
 package org.newdawn.spaceinvaders.manager;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.entity.BombShotEntity;
+import org.newdawn.spaceinvaders.entity.EnemyShotEntity;
 import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.IceShotEntity;
+import org.newdawn.spaceinvaders.entity.MonsterEntity;
+import org.newdawn.spaceinvaders.entity.ObstacleEntity;
+import org.newdawn.spaceinvaders.entity.ShieldEntity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+import org.newdawn.spaceinvaders.entity.UserEntity;
 
 /**
  * 🧠 EntityManager
  * - 엔티티의 이동, 충돌 검사, 제거 관리
  * - Game.java의 entities/removeList를 직접 제어
+ * - 종류별 목록(몬스터, 보스, 장애물, 방어막, 플레이어, 플레이어 총알, 적 총알)을 추가/제거 시 함께 갱신
+ *   → 종류별 조회가 전체 목록을 훑지 않음
+ * - 일반 총알은 엔티티 대신 ProjectileManager 의 병렬 배열로 관리 (함께 이동/충돌/정리)
+ * - 엔티티 목록 변경은 반드시 addEntity / removeEntity / clear 를 거쳐야 목록이 맞음
  */
 public class EntityManager {
     private final Game game;
     private final List<Entity> entities;
     private final List<Entity> removeList;
     private final CollisionManager collisionManager;
+    private final ProjectileManager projectiles;
+
+    // 🗂 종류별 살아 있는 엔티티 (제거 예약된 엔티티는 정리 전까지 포함, entities 와 같은 기준)
+    private final List<MonsterEntity> monsters = new ArrayList<>();
+    private final List<MonsterEntity> bosses = new ArrayList<>();
+    private final List<ObstacleEntity> obstacles = new ArrayList<>();
+    private final List<ShieldEntity> shields = new ArrayList<>();
+    private final List<UserEntity> players = new ArrayList<>();
+    private final List<Entity> playerShots = new ArrayList<>();
+    private final List<EnemyShotEntity> enemyShots = new ArrayList<>();
+
+    private final List<MonsterEntity> monstersView = Collections.unmodifiableList(monsters);
+    private final List<MonsterEntity> bossesView = Collections.unmodifiableList(bosses);
+    private final List<ObstacleEntity> obstaclesView = Collections.unmodifiableList(obstacles);
+    private final List<ShieldEntity> shieldsView = Collections.unmodifiableList(shields);
+    private final List<UserEntity> playersView = Collections.unmodifiableList(players);
+    private final List<Entity> playerShotsView = Collections.unmodifiableList(playerShots);
+    private final List<EnemyShotEntity> enemyShotsView = Collections.unmodifiableList(enemyShots);
 
     public EntityManager(Game game, List<Entity> entities, List<Entity> removeList) {
         this.game = game;
         this.entities = entities;
         this.removeList = removeList;
         this.collisionManager = new CollisionManager(game, entities);
+        this.projectiles = new ProjectileManager(game, this);
     }
 
     /**
@@ -30,11 +62,13 @@ public class EntityManager {
     public void moveEntities(long delta) {
         for (Entity e : new ArrayList<>(entities)) {
             try {
+                e.savePreviousPosition();
                 e.move(delta);
             } catch (Exception ex) {
                 System.err.println("⚠️ moveEntities: " + e.getClass().getSimpleName() + " 이동 중 오류 → " + ex.getMessage());
             }
         }
+        projectiles.update(delta);
     }
 
     /**
@@ -42,31 +76,149 @@ public class EntityManager {
      */
     public void checkCollisions() {
         collisionManager.checkCollisions();
+        projectiles.checkCollisions();
+    }
+
+    /** 충돌 검사 엔진 선택/통계 접근 */
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+
+    /** 병렬 배열로 관리하는 일반 총알 (발사/그리기) */
+    public ProjectileManager getProjectiles() {
+        return projectiles;
     }
 
     /**
-     * 🧹 제거 목록에 있는 엔티티 정리
+     * 🧹 제거 예약된 엔티티 정리
+     * - 예약 시 엔티티에 표시(isRemoved)만 해 두고, 틱마다 목록을 한 번 훑으며 순서를 유지한 채 걸러냄
+     *   (엔티티마다 contains/remove 로 목록을 다시 훑지 않으므로 한꺼번에 많이 죽어도 O(n))
+     * - 빠진 엔티티는 세대가 바뀌어 기존 EntityHandle 이 무효가 되고, 풀을 쓰는 엔티티는 이때 풀로 돌아감
      */
     public void cleanupEntities() {
         if (removeList.isEmpty()) return;
 
-        for (Entity e : new ArrayList<>(removeList)) {
-            entities.remove(e);
+        entities.removeIf(Entity::isRemoved);
+        monsters.removeIf(Entity::isRemoved);
+        bosses.removeIf(Entity::isRemoved);
+        obstacles.removeIf(Entity::isRemoved);
+        shields.removeIf(Entity::isRemoved);
+        players.removeIf(Entity::isRemoved);
+        playerShots.removeIf(Entity::isRemoved);
+        enemyShots.removeIf(Entity::isRemoved);
+
+        for (int i = 0; i < removeList.size(); i++) {
+            Entity e = removeList.get(i);
+            // 예약 후 같은 틱에 다시 추가된 엔티티는 살아 있음
+            // (다시 추가 후 또 예약되면 목록에 두 번 있으므로 한 번만 내보냄)
+            if (e.isRemoved() && e.isInWorld()) e.leaveWorld();
         }
         removeList.clear();
     }
 
     /**
      * ✅ 새로운 엔티티 추가
+     * - 이미 목록에 있는 엔티티는 다시 넣지 않음
+     *   (제거 예약 후 정리 전에 다시 추가된 경우는 예약만 취소 → 정리 때 빠지지 않음)
      */
     public void addEntity(Entity e) {
+        if (e.isInWorld()) {
+            if (e.isRemoved()) e.enterWorld();
+            return;
+        }
+        e.enterWorld();
         entities.add(e);
+        index(e);
+    }
+
+    /**
+     * 🧽 모든 엔티티 제거 (스테이지 시작/재시작)
+     */
+    public void clear() {
+        // 제거 예약된 엔티티는 두 목록에 다 있으므로 한 번만 내보냄 (풀에 두 번 돌아가지 않도록)
+        for (int i = 0; i < removeList.size(); i++) {
+            Entity e = removeList.get(i);
+            if (e.isInWorld()) e.leaveWorld();
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (e.isInWorld()) e.leaveWorld();
+        }
+        entities.clear();
+        removeList.clear();
+        monsters.clear();
+        bosses.clear();
+        obstacles.clear();
+        shields.clear();
+        players.clear();
+        playerShots.clear();
+        enemyShots.clear();
+        projectiles.clear();
     }
 
     /**
-     * 🚫 엔티티 제거 예약
+     * 🚫 엔티티 제거 예약 (이미 예약된 엔티티는 무시, O(1))
      */
     public void removeEntity(Entity e) {
-        removeList.add(e);
+        if (e.markRemoved()) {
+            removeList.add(e);
+        }
+    }
+
+    // ========= 종류별 조회 (읽기 전용) =========
+
+    /** 보스를 포함한 모든 몬스터 */
+    public List<MonsterEntity> getMonsters() { return monstersView; }
+
+    /** Boss1 ~ Boss5 */
+    public List<MonsterEntity> getBosses() { return bossesView; }
+
+    public List<ObstacleEntity> getObstacles() { return obstaclesView; }
+
+    public List<ShieldEntity> getShields() { return shieldsView; }
+
+    /** 플레이어 기체 (1P, 2P) */
+    public List<UserEntity> getPlayers() { return playersView; }
+
+    /** 플레이어 총알 엔티티 (얼음/폭탄, 배열 총알을 끈 경우 일반 총알도) */
+    public List<Entity> getPlayerShots() { return playerShotsView; }
+
+    /** 적 총알 엔티티 (배열 총알을 끈 경우에만) */
+    public List<EnemyShotEntity> getEnemyShots() { return enemyShotsView; }
+
+    public int getMonsterCount() { return monsters.size(); }
+
+    public boolean hasBoss() { return !bosses.isEmpty(); }
+
+    public boolean hasObstacles() { return !obstacles.isEmpty(); }
+
+    /** 지속시간이 남은 방어막이 있는지 (방어막은 많아야 한두 개) */
+    public boolean hasActiveShield() {
+        for (int i = 0; i < shields.size(); i++) {
+            if (shields.get(i).isActive()) return true;
+        }
+        return false;
+    }
+
+    private void index(Entity e) {
+        if (e instanceof MonsterEntity) {
+            MonsterEntity m = (MonsterEntity) e;
+            monsters.add(m);
+            if (m.isBoss()) bosses.add(m);
+        } else if (e instanceof ObstacleEntity) {
+            obstacles.add((ObstacleEntity) e);
+        } else if (e instanceof ShieldEntity) {
+            shields.add((ShieldEntity) e);
+        } else if (e instanceof UserEntity) {
+            players.add((UserEntity) e);
+        } else if (e instanceof EnemyShotEntity) {
+            enemyShots.add((EnemyShotEntity) e);
+        } else if (isPlayerShot(e)) {
+            playerShots.add(e);
+        }
+    }
+
+    private static boolean isPlayerShot(Entity e) {
+        return e instanceof ShotEntity || e instanceof IceShotEntity || e instanceof BombShotEntity;
     }
 }
@@ -2,6 +2,8 @@ package org.newdawn.spaceinvaders.manager;
 
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
 import org.newdawn.spaceinvaders.Game;
 
 /**
@@ -17,6 +19,16 @@ public class InputManager extends KeyAdapter {
 
     @Override
     public void keyPressed(KeyEvent e) {
+        // 프로파일러는 대기 화면에서도 사용
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            game.getProfiler().toggleOverlay();
+            game.wakeLoop();
+            return;
+        }
+        if (e.getKeyCode() == KeyEvent.VK_F4) {
+            dumpProfile();
+            return;
+        }
         if (game.isWaitingForKeyPress()) return;
 
         switch (e.getKeyCode()) {
@@ -24,17 +36,34 @@ public class InputManager extends KeyAdapter {
             case KeyEvent.VK_RIGHT: game.setRightPressed(true); break;
             case KeyEvent.VK_SPACE: game.setFirePressed(true);  break;
 
+                // 아이템 사용은 엔티티를 추가하므로 게임 루프 스레드에서 실행
                 case KeyEvent.VK_A:
-                    if (game.getShip() != null && game.getShip().hasBomb())
-                        game.getShip().useBomb();
+                    game.runOnLoop(() -> {
+                        if (game.getShip() != null && game.getShip().hasBomb())
+                            game.getShip().useBomb();
+                    });
                     break;
                 case KeyEvent.VK_E:
-                    if (game.getShip() != null && game.getShip().hasIceWeapon())
-                        game.getShip().useIceWeapon();
+                    game.runOnLoop(() -> {
+                        if (game.getShip() != null && game.getShip().hasIceWeapon())
+                            game.getShip().useIceWeapon();
+                    });
                     break;
             case KeyEvent.VK_S:
-                if (game.getShip() != null && game.getShip().hasShield())
-                    game.getShip().activateShield();
+                game.runOnLoop(() -> {
+                    if (game.getShip() != null && game.getShip().hasShield())
+                        game.getShip().activateShield();
+                });
+                break;
+
+            case KeyEvent.VK_P:
+                game.getClock().togglePaused();
+                game.wakeLoop();
+                break;
+            case KeyEvent.VK_PERIOD:
+                // 일시정지 중 한 틱씩 진행
+                game.getClock().step();
+                game.wakeLoop();
                 break;
 
             case KeyEvent.VK_ESCAPE:
@@ -43,6 +72,15 @@ public class InputManager extends KeyAdapter {
         }
     }
 
+    private void dumpProfile() {
+        try {
+            File file = game.getProfiler().dumpToFile();
+            System.out.println("📊 프로파일 저장: " + file.getAbsolutePath());
+        } catch (IOException ex) {
+            System.err.println("⚠️ 프로파일 저장 실패: " + ex.getMessage());
+        }
+    }
+
     @Override
     public void keyReleased(KeyEvent e) {
         if (game.isWaitingForKeyPress()) return;
@@ -55,7 +93,13 @@ public class InputManager extends KeyAdapter {
 
     @Override
     public void keyTyped(KeyEvent e) {
+        // 상점/시작/재시작은 엔티티 목록을 바꾸므로 게임 루프 스레드에서 처리
+        // (대기 화면에서 쉬고 있는 루프는 runOnLoop 가 바로 깨움)
         char c = e.getKeyChar();
+        game.runOnLoop(() -> handleKeyTyped(c));
+    }
+
+    private void handleKeyTyped(char c) {
 
         // ESC → 즉시 종료
         if (c == 27) { game.endGame(); return; }
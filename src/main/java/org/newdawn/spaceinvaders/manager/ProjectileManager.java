@@ -0,0 +1,423 @@
+package org.newdawn.spaceinvaders.manager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.newdawn.spaceinvaders.Game;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.collision.SweptAabb;
+import org.newdawn.spaceinvaders.collision.TargetGrid;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.FortressEntity;
+import org.newdawn.spaceinvaders.entity.MonsterEntity;
+import org.newdawn.spaceinvaders.entity.ObstacleEntity;
+import org.newdawn.spaceinvaders.entity.ShieldEntity;
+import org.newdawn.spaceinvaders.entity.UserEntity;
+import org.newdawn.spaceinvaders.render.RenderBatch;
+import org.newdawn.spaceinvaders.render.RenderTarget;
+
+/**
+ * 🔫 ProjectileManager — 플레이어 일반 총알과 적 총알을 엔티티 대신 병렬 배열로 관리
+ * - 위치/속도/이전 위치/종류/스프라이트 번호/발사자 id/피해량/잔상 링을 기본형 배열에 보관
+ * - 이동은 한 번의 루프, 제거는 마지막 칸과 맞바꾸기 → 총알 수천 개도 틱마다 할당 없음
+ * - 충돌은 종류별 목록(EntityManager)의 대상만 검사하고, 결과는 기존 총알 엔티티와 같게 처리
+ *   (대상은 틱마다 한 번 격자에 넣고, 총알은 자기 박스가 걸친 칸의 대상만 검사)
+ *   (몬스터 피해/처치, 장애물 단계, 방어막 차단, 요새/플레이어 피해)
+ * - 한 틱에 자기 크기 이상 움직인 총알은 이동 경로로 검사해서 가장 먼저 닿은 대상 하나만 맞음
+ * - 얼음/폭탄 총알은 드물고 범위 효과가 있어 엔티티 그대로 둠
+ * - 게임 루프 스레드에서만 사용
+ */
+public class ProjectileManager implements RenderBatch {
+    public static final byte PLAYER_SHOT = 0;
+    public static final byte ENEMY_SHOT = 1;
+
+    private static final int TRAIL_LEN = 3;
+    private static final double ENEMY_DRAW_SCALE = 0.3;
+    private static final int ENEMY_SHOT_DAMAGE = 10;
+
+    private final Game game;
+    private final EntityManager entityManager;
+
+    private int count = 0;
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] vx = new double[64];
+    private double[] vy = new double[64];
+    private double[] prevX = new double[64];
+    private double[] prevY = new double[64];
+    private byte[] kind = new byte[64];
+    private int[] type = new int[64];
+    private int[] ownerId = new int[64];
+    private int[] damage = new int[64];
+
+    // 잔상 링 — i 번 총알의 k 번째 칸은 [i * TRAIL_LEN + k]
+    private double[] trailX = new double[64 * TRAIL_LEN];
+    private double[] trailY = new double[64 * TRAIL_LEN];
+    private byte[] trailHead = new byte[64];
+    private boolean[] trailFilled = new boolean[64];
+
+    // 총알 모양 표 (스프라이트 + 이름, 몇 개뿐이라 선형 검색)
+    private Sprite[] typeSprites = new Sprite[4];
+    private Sprite[] typeDrawSprites = new Sprite[4];
+    private String[] typeLabels = new String[4];
+    private boolean[] typeScaled = new boolean[4];
+    private int typeCount = 0;
+
+    // 총알 종류별 대상 격자 (틱마다 그 종류 총알을 처음 검사할 때 채움, 넣는 순서 = 우선순위)
+    private final TargetGrid playerShotTargets = new TargetGrid();
+    private final TargetGrid enemyShotTargets = new TargetGrid();
+    private boolean playerShotTargetsBuilt;
+    private boolean enemyShotTargetsBuilt;
+
+    public ProjectileManager(Game game, EntityManager entityManager) {
+        this.game = game;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 🎯 플레이어 총알 발사
+     *
+     * @param spriteRef 총알 스프라이트 경로
+     * @param startX 시작 x
+     * @param startY 시작 y
+     * @param speed 세로 속도 (위쪽이 음수)
+     * @param owner 발사한 플레이어
+     * @param attackPower 맞은 몬스터에 줄 피해
+     */
+    public void spawnPlayerShot(String spriteRef, double startX, double startY, double speed,
+                                Entity owner, int attackPower) {
+        spawn(PLAYER_SHOT, spriteRef, "shot", startX, startY, 0, speed, owner, attackPower);
+    }
+
+    /**
+     * 👾 적 총알 발사
+     *
+     * @param spriteRef 총알 스프라이트 경로
+     * @param startX 시작 x
+     * @param startY 시작 y
+     * @param velX 가로 속도 (픽셀/초)
+     * @param velY 세로 속도 (픽셀/초)
+     * @param shotKind 총알 종류 이름 (방어막 메시지용, null 이면 "shot")
+     * @param owner 발사한 몬스터
+     */
+    public void spawnEnemyShot(String spriteRef, double startX, double startY, double velX, double velY,
+                               String shotKind, Entity owner) {
+        spawn(ENEMY_SHOT, spriteRef, shotKind == null ? "shot" : shotKind,
+              startX, startY, velX, velY, owner, ENEMY_SHOT_DAMAGE);
+    }
+
+    private void spawn(byte k, String spriteRef, String label, double sx, double sy,
+                       double velX, double velY, Entity owner, int dmg) {
+        ensureCapacity(count + 1);
+        int i = count++;
+        x[i] = prevX[i] = sx;
+        y[i] = prevY[i] = sy;
+        vx[i] = velX;
+        vy[i] = velY;
+        kind[i] = k;
+        type[i] = typeOf(SpriteStore.get().getSprite(spriteRef), label, k == ENEMY_SHOT);
+        ownerId[i] = owner == null ? 0 : owner.getId();
+        damage[i] = dmg;
+
+        int base = i * TRAIL_LEN;
+        for (int t = 0; t < TRAIL_LEN; t++) {
+            trailX[base + t] = sx;
+            trailY[base + t] = sy;
+        }
+        trailHead[i] = 0;
+        trailFilled[i] = false;
+    }
+
+    private int typeOf(Sprite sprite, String label, boolean scaled) {
+        for (int t = 0; t < typeCount; t++) {
+            if (typeSprites[t] == sprite && typeScaled[t] == scaled && typeLabels[t].equals(label)) return t;
+        }
+        if (typeCount == typeSprites.length) {
+            int n = typeCount * 2;
+            typeSprites = Arrays.copyOf(typeSprites, n);
+            typeDrawSprites = Arrays.copyOf(typeDrawSprites, n);
+            typeLabels = Arrays.copyOf(typeLabels, n);
+            typeScaled = Arrays.copyOf(typeScaled, n);
+        }
+        typeSprites[typeCount] = sprite;
+        typeDrawSprites[typeCount] = scaled ? SpriteStore.get().getScaledSprite(sprite, ENEMY_DRAW_SCALE) : sprite;
+        typeLabels[typeCount] = label;
+        typeScaled[typeCount] = scaled;
+        return typeCount++;
+    }
+
+    // ========= 이동 =========
+
+    /**
+     * 🔁 모든 총알 이동 + 화면 밖으로 나간 총알 제거
+     *
+     * @param delta 지난 틱부터 흐른 시간 (ms)
+     */
+    public void update(long delta) {
+        double seconds = delta / 1000.0;
+        int i = 0;
+        while (i < count) {
+            // 적 총알만 잔상을 남김 (이동 전 위치 기록)
+            if (kind[i] == ENEMY_SHOT) {
+                int head = trailHead[i];
+                trailX[i * TRAIL_LEN + head] = x[i];
+                trailY[i * TRAIL_LEN + head] = y[i];
+                head = (head + 1) % TRAIL_LEN;
+                if (head == 0) trailFilled[i] = true;
+                trailHead[i] = (byte) head;
+            }
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * seconds;
+            y[i] += vy[i] * seconds;
+
+            if (isOffScreen(i)) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private boolean isOffScreen(int i) {
+        if (kind[i] == PLAYER_SHOT) return y[i] < -100;
+        return y[i] < -50 || y[i] > 650 || x[i] < -50 || x[i] > 850;
+    }
+
+    // ========= 충돌 =========
+
+    /**
+     * 💥 총알 ↔ 대상 충돌 검사 및 처리 (엔티티끼리의 충돌 검사 뒤에 호출)
+     * - 플레이어 총알: 몬스터(보스 포함) → 피해, 장애물 → 단계 변경
+     * - 적 총알: 방어막 → 차단, 요새 → 피해, 플레이어 → 피해 (몬스터는 통과)
+     */
+    public void checkCollisions() {
+        playerShotTargetsBuilt = false;
+        enemyShotTargetsBuilt = false;
+        int i = 0;
+        while (i < count) {
+            boolean hit;
+            try {
+                hit = kind[i] == PLAYER_SHOT ? hitForPlayerShot(i) : hitForEnemyShot(i);
+            } catch (Exception e) {
+                System.err.println("⚠️ 총알 충돌 처리 오류: " + e.getMessage());
+                hit = true;
+            }
+            if (hit) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /** 플레이어 총알 대상: 몬스터 → 장애물 */
+    private TargetGrid playerShotTargets() {
+        if (!playerShotTargetsBuilt) {
+            playerShotTargetsBuilt = true;
+            playerShotTargets.clear();
+            addAll(playerShotTargets, entityManager.getMonsters());
+            addAll(playerShotTargets, entityManager.getObstacles());
+        }
+        return playerShotTargets;
+    }
+
+    /** 적 총알 대상: 방어막 → 요새 → 플레이어 */
+    private TargetGrid enemyShotTargets() {
+        if (!enemyShotTargetsBuilt) {
+            enemyShotTargetsBuilt = true;
+            enemyShotTargets.clear();
+            addAll(enemyShotTargets, entityManager.getShields());
+            if (isTarget(game.getFortress())) enemyShotTargets.add(game.getFortress());
+            addAll(enemyShotTargets, entityManager.getPlayers());
+        }
+        return enemyShotTargets;
+    }
+
+    private static void addAll(TargetGrid grid, List<? extends Entity> targets) {
+        for (int t = 0, n = targets.size(); t < n; t++) {
+            Entity e = targets.get(t);
+            if (isTarget(e)) grid.add(e);
+        }
+    }
+
+    private boolean hitForPlayerShot(int i) {
+        Entity target = findTarget(i, playerShotTargets());
+        if (target == null) return false;
+
+        if (target instanceof MonsterEntity) {
+            MonsterEntity alien = (MonsterEntity) target;
+            if (alien.takeDamage(damage[i])) {
+                // 이번 총알로 죽었으면 제거 + 처치 알림
+                game.removeEntity(alien);
+                game.notifyAlienKilled();
+            }
+        } else {
+            ((ObstacleEntity) target).hitByShot();
+        }
+        return true;
+    }
+
+    private boolean hitForEnemyShot(int i) {
+        Entity target = findTarget(i, enemyShotTargets());
+        if (target == null) return false;
+
+        if (target instanceof ShieldEntity) {
+            ((ShieldEntity) target).onBlocked(typeLabels[type[i]]);
+            System.out.println("🛡 방어막이 적 공격을 막았습니다! (방어막 유지)");
+        } else if (target instanceof FortressEntity) {
+            ((FortressEntity) target).damage(damage[i]);
+        } else {
+            ((UserEntity) target).takeDamage(damage[i]);
+        }
+        return true;
+    }
+
+    /**
+     * i 번 총알이 이번 틱에 맞은 대상 (격자에 넣은 순서대로 우선, 없으면 null)
+     * - 자기 크기 이상 움직였으면 이동 경로로 검사해 가장 먼저 닿은 대상 (같은 시각이면 먼저 넣은 대상)
+     */
+    private Entity findTarget(int i, TargetGrid targets) {
+        Sprite sprite = typeSprites[type[i]];
+        double moveX = x[i] - prevX[i];
+        double moveY = y[i] - prevY[i];
+        int m = Entity.COLLISION_MARGIN;
+        boolean swept = Math.abs(moveX) >= sprite.getWidth() - m * 2
+                     || Math.abs(moveY) >= sprite.getHeight() - m * 2;
+        int px = (int) x[i], py = (int) y[i];
+
+        if (!swept) {
+            int n = targets.query(px, py, px + sprite.getWidth(), py + sprite.getHeight());
+            for (int k = 0; k < n; k++) {
+                Entity e = targets.candidate(k);
+                if (isTarget(e) && overlaps(e, sprite, px, py)) return e;
+            }
+            return null;
+        }
+
+        // 이동 경로 전체를 덮는 박스로 후보를 받음
+        int left = (int) Math.floor(Math.min(prevX[i], x[i]));
+        int top = (int) Math.floor(Math.min(prevY[i], y[i]));
+        int right = (int) Math.ceil(Math.max(prevX[i], x[i])) + sprite.getWidth();
+        int bottom = (int) Math.ceil(Math.max(prevY[i], y[i])) + sprite.getHeight();
+        int n = targets.query(left, top, right, bottom);
+
+        Entity hit = null;
+        double hitTime = Double.MAX_VALUE;
+        for (int k = 0; k < n; k++) {
+            Entity e = targets.candidate(k);
+            if (!isTarget(e)) continue;
+            double time = e.timeOfImpact(sprite, prevX[i], prevY[i], moveX, moveY);
+            // 틱 시작부터 겹쳐 있던 대상은 경로 검사에서 빠지므로 현재 위치로도 확인
+            if (time == SweptAabb.NO_HIT && overlaps(e, sprite, px, py)) time = 1;
+            if (time != SweptAabb.NO_HIT && time < hitTime) {
+                hit = e;
+                hitTime = time;
+            }
+        }
+        if (hit != null) {
+            // 처음 닿은 위치로 되돌림 (잔상/디버그용, 총알은 곧 제거됨)
+            x[i] = prevX[i] + moveX * hitTime;
+            y[i] = prevY[i] + moveY * hitTime;
+        }
+        return hit;
+    }
+
+    /** 총알 그림과 대상이 겹치는지 (방어막은 자기 판정 영역 사용) */
+    private static boolean overlaps(Entity e, Sprite sprite, int px, int py) {
+        if (e instanceof ShieldEntity) return ((ShieldEntity) e).blocksShot(sprite, px, py);
+        return e.overlapsSprite(sprite, px, py);
+    }
+
+    private static boolean isTarget(Entity e) {
+        return e != null && !e.isRemoved();
+    }
+
+    // ========= 그리기 =========
+
+    @Override
+    public void emit(RenderTarget out, double alpha) {
+        for (int i = 0; i < count; i++) {
+            Sprite s = typeDrawSprites[type[i]];
+            if (trailFilled[i]) {
+                for (int t = 1; t <= TRAIL_LEN; t++) {
+                    int idx = i * TRAIL_LEN + (trailHead[i] - t + TRAIL_LEN) % TRAIL_LEN;
+                    out.addSprite(s, (int) trailX[idx], (int) trailY[idx]);
+                }
+            }
+            out.addSprite(s, (int) lerp(prevX[i], x[i], alpha), (int) lerp(prevY[i], y[i], alpha));
+        }
+    }
+
+    private static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    // ========= 조회 / 정리 =========
+
+    /** 살아 있는 총알 수 */
+    public int size() { return count; }
+
+    public int countOf(byte k) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (kind[i] == k) n++;
+        }
+        return n;
+    }
+
+    public double getX(int i) { return x[i]; }
+
+    public double getY(int i) { return y[i]; }
+
+    public byte getKind(int i) { return kind[i]; }
+
+    /** 발사자 Entity.getId() (없으면 0) */
+    public int getOwnerId(int i) { return ownerId[i]; }
+
+    /** 모든 총알 제거 (스테이지 시작/재시작) */
+    public void clear() {
+        count = 0;
+    }
+
+    /** 마지막 총알을 i 자리로 옮겨 제거 (순서는 유지하지 않음) */
+    private void removeAt(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        kind[i] = kind[last];
+        type[i] = type[last];
+        ownerId[i] = ownerId[last];
+        damage[i] = damage[last];
+        System.arraycopy(trailX, last * TRAIL_LEN, trailX, i * TRAIL_LEN, TRAIL_LEN);
+        System.arraycopy(trailY, last * TRAIL_LEN, trailY, i * TRAIL_LEN, TRAIL_LEN);
+        trailHead[i] = trailHead[last];
+        trailFilled[i] = trailFilled[last];
+    }
+
+    private void ensureCapacity(int size) {
+        if (x.length >= size) return;
+        int n = Math.max(size, x.length * 2);
+        x = Arrays.copyOf(x, n);
+        y = Arrays.copyOf(y, n);
+        vx = Arrays.copyOf(vx, n);
+        vy = Arrays.copyOf(vy, n);
+        prevX = Arrays.copyOf(prevX, n);
+        prevY = Arrays.copyOf(prevY, n);
+        kind = Arrays.copyOf(kind, n);
+        type = Arrays.copyOf(type, n);
+        ownerId = Arrays.copyOf(ownerId, n);
+        damage = Arrays.copyOf(damage, n);
+        trailX = Arrays.copyOf(trailX, n * TRAIL_LEN);
+        trailY = Arrays.copyOf(trailY, n * TRAIL_LEN);
+        trailHead = Arrays.copyOf(trailHead, n);
+        trailFilled = Arrays.copyOf(trailFilled, n);
+    }
+}
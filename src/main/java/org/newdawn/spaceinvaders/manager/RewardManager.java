@@ -7,13 +7,15 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.newdawn.spaceinvaders.GameClock;
 import org.newdawn.spaceinvaders.entity.UserEntity;
+import org.newdawn.spaceinvaders.render.HudState;
 
 /**
  * 🎁 RewardManager — 적 처치 시 랜덤 보상 관리
  * - 기본 보상: 항상 30골드 지급
  * - 랜덤 드롭: 추가 골드, 폭탄, 얼음 무기, 방어막
- * - 토스트 메시지: 우상단에 2초간 표시
+ * - 토스트 메시지: 우상단에 2초간 표시 (시뮬레이션 스레드가 HudState 에 기록한 목록을 그림)
  */
 public class RewardManager {
     private static final int REWARD_SHOW_MS = 2000; // 2초간 표시
@@ -32,9 +34,14 @@ public class RewardManager {
         }
     }
 
+    private final GameClock clock; // 토스트 만료 기준 (게임 시각 — 일시정지 중에는 사라지지 않음)
     private List<RewardMsg> rewardLog = new ArrayList<>();
     private Font messageFont = new Font("맑은 고딕", Font.PLAIN, 14);
 
+    public RewardManager(GameClock clock) {
+        this.clock = clock;
+    }
+
     /**
      * 적 처치 시 보상 지급
      */
@@ -71,8 +78,8 @@ public class RewardManager {
     /**
      * 보상 메시지 추가 (토스트)
      */
-    private void showRewardMessage(String text) {
-        long untilMs = System.currentTimeMillis() + REWARD_SHOW_MS;
+    private synchronized void showRewardMessage(String text) {
+        long untilMs = clock.now() + REWARD_SHOW_MS;
         rewardLog.add(new RewardMsg(text, untilMs));
 
         // 최대 개수 초과 시 오래된 것부터 제거
@@ -84,8 +91,8 @@ public class RewardManager {
     /**
      * 만료된 메시지 제거
      */
-    public void pruneRewardLog() {
-        long now = System.currentTimeMillis();
+    public synchronized void pruneRewardLog() {
+        long now = clock.now();
         Iterator<RewardMsg> it = rewardLog.iterator();
         while (it.hasNext()) {
             RewardMsg msg = it.next();
@@ -96,12 +103,22 @@ public class RewardManager {
     }
 
     /**
-     * 우상단에 보상 메시지 그리기
+     * 만료된 메시지를 정리하고 현재 토스트 목록을 기록 (시뮬레이션 스레드)
      */
-    public void drawRewardMessages(Graphics2D g) {
+    public synchronized void recordRewardMessages(HudState hud) {
         pruneRewardLog();
+        hud.clearToasts();
+        for (int i = 0; i < rewardLog.size(); i++) {
+            hud.addToast(rewardLog.get(i).text);
+        }
+    }
 
-        if (rewardLog.isEmpty()) return;
+    /**
+     * 우상단에 보상 메시지 그리기
+     */
+    public void drawRewardMessages(Graphics2D g, HudState hud) {
+        int count = hud.getToastCount();
+        if (count == 0) return;
 
         g.setColor(Color.yellow);
         g.setFont(messageFont);
@@ -112,15 +129,13 @@ public class RewardManager {
 
         // 반투명 배경
         g.setColor(new Color(0, 0, 0, 150));
-        int bgHeight = rewardLog.size() * lineHeight + 10;
+        int bgHeight = count * lineHeight + 10;
         g.fillRect(startX - 10, startY - 25, 220, bgHeight);
 
         // 메시지 그리기 (위에서 아래로)
         g.setColor(Color.yellow);
-        for (int i = 0; i < rewardLog.size(); i++) {
-            RewardMsg msg = rewardLog.get(i);
-            g.drawString(msg.text, startX, startY + (i * lineHeight));
+        for (int i = 0; i < count; i++) {
+            g.drawString(hud.getToast(i), startX, startY + (i * lineHeight));
         }
     }
 }
-
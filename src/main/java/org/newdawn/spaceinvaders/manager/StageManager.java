@@ -33,6 +33,7 @@ public class StageManager {
         if (current == null) current = stages.get(1);
 
         current.resetStageFlags();
+        entityManager.getCollisionManager().setStageEngine(current.collisionEngine());
         current.init();
         System.out.println("🚀 Stage " + stageId + " 로드 완료 (현재 스테이지만 리셋)");
     }
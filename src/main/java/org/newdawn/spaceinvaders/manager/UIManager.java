@@ -1,20 +1,25 @@
 package org.newdawn.spaceinvaders.manager;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.List;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
-import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.FortressEntity;
 import org.newdawn.spaceinvaders.entity.UserEntity;
+import org.newdawn.spaceinvaders.render.HudState;
+import org.newdawn.spaceinvaders.render.TextLabel;
 import org.newdawn.spaceinvaders.shop.Item;
 import org.newdawn.spaceinvaders.shop.Shop;
 
 /**
  * 💡 UIManager — 화면에 보이는 모든 것을 그림
  *  - 메인 타이틀 / 상점 / 메시지 / HUD / 타이머 전부 처리
+ *  - HUD 글자는 항목별로 미리 그린 이미지(TextLabel)를 두고 값이 바뀔 때만 다시 그림
+ *  - 상점/메시지/시작 화면 오버레이는 열릴 때(내용이 바뀔 때) 한 번만 그려 두고 복사
+ *  - 표시할 값은 시뮬레이션 스레드가 recordHud() 로 HudState 에 기록, 그리기는 그 값만 읽음
  */
 public class UIManager {
     private final Game game;
@@ -24,30 +29,82 @@ public class UIManager {
     private final Sprite startBtn;
     private final Sprite startBackground; // 시작 화면 배경 이미지
 
+    // ===== HUD 텍스트 캐시 =====
+    private final TextLabel stageLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel enemyLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel timerLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel healthLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel defenseLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel attackLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel goldLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel specialTitleLabel = new TextLabel(smallFont, Color.white).set("[ 보유 중인 특수 무기 ]");
+    private final TextLabel bombLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel iceLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel shieldLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel fortressLabel = new TextLabel(smallFont, Color.white);
+    private final TextLabel controlsLabel = new TextLabel(smallFont, Color.white)
+            .set("Controls: ← → 이동, SPACE 발사  |  아무 키나 눌러 시작");
+    private int stageLabelStage = -1;
+
+    // ===== 오버레이 캐시 (800x600 반투명 이미지) =====
+    private BufferedImage shopOverlay;
+    private long shopOverlayKey = Long.MIN_VALUE;
+    private BufferedImage messageOverlay;
+    private String messageOverlayText;
+    private BufferedImage startOverlay; // 시작 화면은 입력이 바뀌지 않으므로 한 번만 합성
+
     public UIManager(Game game) {
         this.game = game;
         this.startBtn = SpriteStore.get().getSprite("sprites/startbutton.png");
         this.startBackground = SpriteStore.get().getSprite("bg/start_background.jpg");
     }
 
+    /**
+     * HUD 에 표시할 값을 기록 (시뮬레이션 스레드)
+     *
+     * @param hud 기록할 대상 (단일 스레드 모드는 Game 의 것, 렌더 스레드 모드는 스냅샷의 것)
+     */
+    public void recordHud(HudState hud, Game game, UserEntity ship, FortressEntity fortress) {
+        hud.stage = game.getCurrentStage();
+        hud.alienCount = game.getAlienCount();
+        long elapsed = (game.getClock().now() - game.getStageStartTime()) / 1000;
+        hud.timeRemain = Math.max(0, game.getBaseTimeLimit() - elapsed);
+
+        hud.hasShip = ship != null;
+        if (ship != null) {
+            hud.health = ship.getHealth();
+            hud.defense = ship.getDefense();
+            hud.attackPower = ship.getAttackPower();
+            hud.money = ship.getMoney();
+            hud.bombCount = ship.getBombCount();
+            hud.iceCount = ship.getIceWeaponCount();
+            hud.shieldCount = ship.getShieldCount();
+        }
+        hud.lifeLimitReached = hud.stage == 3 && ship != null && ship.getHealth() <= game.getLifeLimit();
+
+        hud.hasFortress = fortress != null;
+        if (fortress != null) {
+            hud.fortressHp = fortress.getHP();
+        }
+    }
+
     /** 전체 UI 렌더링 엔트리 */
-    public void drawFullUI(Graphics2D g, Game game, UserEntity ship, FortressEntity fortress,
-                           List<Entity> entities, String message, boolean shopOpen, boolean waiting) {
+    public void drawFullUI(Graphics2D g, Game game, HudState hud, String message, boolean shopOpen, boolean waiting) {
 
-        // Stage 3에서 체력이 제한 이하일 때는 오직 메시지 오버레이만 표시
-        if (game.getCurrentStage() == 3 && ship != null && ship.getHealth() <= game.getLifeLimit()) {
+        // Stage 3에서 체력이 제한 이하일 때는 오직 메시지 오버레이만 표시 (패배 처리는 Stage3.update 에서)
+        if (hud.lifeLimitReached) {
             drawMessageOverlay(g, "💀 사망했습니다!\nR 키를 눌러 다시 도전하세요");
             return;
         }
         // 게임 중 HUD
         if (!waiting) {
-            drawHUD(g, game, ship, fortress);
+            drawHUD(g, hud);
             return;
         }
 
         // 키 대기 상태 → 오버레이
         if (shopOpen) {
-            drawShopOverlay(g, game, ship);
+            drawShopOverlay(g, game, hud);
         } else if (message != null && !message.isEmpty()) {
             drawMessageOverlay(g, message);
         } else {
@@ -55,59 +112,63 @@ public class UIManager {
         }
     }
 
-    private void drawHUD(Graphics2D g, Game game, UserEntity ship, FortressEntity fortress) {
-        g.setFont(smallFont);
-        g.setColor(Color.white);
-
-        // Stage Info
-        String stageInfo = "STAGE " + game.getCurrentStage() + " - " + stageDesc(game.getCurrentStage());
-        g.drawString(stageInfo, 20, 30);
+    private void drawHUD(Graphics2D g, HudState hud) {
+        // Stage Info (스테이지가 바뀔 때만 문자열 생성)
+        int stage = hud.stage;
+        if (stage != stageLabelStage) {
+            stageLabel.set("STAGE " + stage + " - " + stageDesc(stage));
+            stageLabelStage = stage;
+        }
+        stageLabel.draw(g, 20, 30);
 
         // 남은 적 (더 오른쪽)
-        g.drawString("남은 적: " + game.getAlienCount(), 350, 30);
+        enemyLabel.set("남은 적: ", hud.alienCount, "").draw(g, 350, 30);
 
             // 타이머 (더 오른쪽)
-            int timeLimit = game.getBaseTimeLimit();
-            long elapsed = (System.currentTimeMillis() - game.getStageStartTime()) / 1000;
-            long remain = Math.max(0, timeLimit - elapsed);
-            String timeFormat = "시간 제한: " + remain + "초";
-            if (remain <= 20) { g.setColor(Color.red); }
-            g.drawString(timeFormat, 500, 30);
-            g.setColor(Color.white);
+            long remain = hud.timeRemain;
+            timerLabel.setColor(remain <= 20 ? Color.red : Color.white);
+            timerLabel.set("시간 제한: ", remain, "초").draw(g, 500, 30);
 
         // Player/Fortress Stats
-        if (ship != null) {
-            g.drawString("체력: " + ship.getHealth(), 20, 50);
-            g.drawString("방어력: " + ship.getDefense(), 20, 70);
-            g.drawString("공격력: " + ship.getAttackPower(), 20, 90);
-            g.drawString("골드: " + ship.getMoney(), 20, 110);
+        if (hud.hasShip) {
+            healthLabel.set("체력: ", hud.health, "").draw(g, 20, 50);
+            defenseLabel.set("방어력: ", hud.defense, "").draw(g, 20, 70);
+            attackLabel.set("공격력: ", hud.attackPower, "").draw(g, 20, 90);
+            goldLabel.set("골드: ", hud.money, "").draw(g, 20, 110);
 
             int y = 130;
-            if (ship.hasBomb() || ship.hasIceWeapon() || ship.hasShield()) {
-                g.drawString("[ 보유 중인 특수 무기 ]", 20, y);
+            if (hud.bombCount > 0 || hud.iceCount > 0 || hud.shieldCount > 0) {
+                specialTitleLabel.draw(g, 20, y);
                 y += 26; // 조금 더 넉넉한 간격
             }
-            if (ship.hasBomb())  { g.drawString("• 폭탄 x" + ship.getBombCount() + " (A키)", 20, y); y += 24; }
-            if (ship.hasIceWeapon()) { g.drawString("• 얼음 공격 x" + ship.getIceWeaponCount() + " (E키)", 20, y); y += 24; }
-            if (ship.hasShield()) { g.drawString("• 방어막 x" + ship.getShieldCount() + " (S키)", 20, y); }
+            if (hud.bombCount > 0)  { bombLabel.set("• 폭탄 x", hud.bombCount, " (A키)").draw(g, 20, y); y += 24; }
+            if (hud.iceCount > 0) { iceLabel.set("• 얼음 공격 x", hud.iceCount, " (E키)").draw(g, 20, y); y += 24; }
+            if (hud.shieldCount > 0) { shieldLabel.set("• 방어막 x", hud.shieldCount, " (S키)").draw(g, 20, y); }
         }
         // 요새 HP는 우측 상단으로 이동하여 HUD 텍스트와 겹치지 않도록 함
-        if (fortress != null) {
-            String fortHp = "요새 HP: " + fortress.getHP();
-            int fw = g.getFontMetrics().stringWidth(fortHp);
-                g.drawString(fortHp, 800 - fw - 40, 30);
+        if (hud.hasFortress) {
+            fortressLabel.set("요새 HP: ", hud.fortressHp, "");
+                fortressLabel.draw(g, 800 - fortressLabel.getWidth() - 40, 30);
         }
+    }
 
-        // Stage3 생명제한
-        if (game.getCurrentStage() == 3 && ship != null && ship.getHealth() <= game.getLifeLimit()) {
-            game.notifyDeath();
+    private void drawShopOverlay(Graphics2D g, Game game, HudState hud) {
+        Shop shop = game.getShop(); // 판매 목록은 생성 후 바뀌지 않음
+        if (shop == null || !hud.hasShip) return;
+
+        // 보유 금액/스테이지/품목 수가 그대로면 이전에 그린 이미지를 재사용
+        long key = ((long) hud.money << 16) ^ ((long) hud.stage << 8) ^ shop.getItemsForSale().size();
+        if (shopOverlay == null || key != shopOverlayKey) {
+            shopOverlay = newOverlayImage(shopOverlay);
+            Graphics2D og = shopOverlay.createGraphics();
+            renderShopOverlay(og, hud, shop);
+            og.dispose();
+            shopOverlayKey = key;
         }
+        g.drawImage(shopOverlay, 0, 0, null);
     }
 
-    private void drawShopOverlay(Graphics2D g, Game game, UserEntity ship) {
-        Shop shop = game.getShop();
-        if (shop == null || ship == null) return;
-
+    private void renderShopOverlay(Graphics2D g, HudState hud, Shop shop) {
         g.setColor(new Color(0, 0, 0, 200));
         g.fillRect(0, 0, 800, 600);
 
@@ -118,7 +179,7 @@ public class UIManager {
         g.drawString(shopTitle, getCenterX(titleWidth), 60);
 
         g.setFont(smallFont);
-        g.drawString("현재 보유 금액: " + ship.getMoney() + " 골드", 330, 90);
+        g.drawString("현재 보유 금액: " + hud.money + " 골드", 330, 90);
 
         List<Item> items = shop.getItemsForSale();
         int itemWidth = 350, itemHeight = 80, gap = 20, startX = 50, startY = 120;
@@ -142,7 +203,7 @@ public class UIManager {
 
         // 다음 스테이지 안내
         g.setColor(Color.yellow);
-        int nextStage = game.getCurrentStage() + 1;
+        int nextStage = hud.stage + 1;
         String nextStageInfo = "다음 스테이지 " + nextStage + " 특성: " + stageDesc(nextStage);
         g.drawString(nextStageInfo, getCenterX(g.getFontMetrics().stringWidth(nextStageInfo)), 480);
 
@@ -154,6 +215,17 @@ public class UIManager {
     }
 
     private void drawMessageOverlay(Graphics2D g, String message) {
+        if (messageOverlay == null || !message.equals(messageOverlayText)) {
+            messageOverlay = newOverlayImage(messageOverlay);
+            Graphics2D og = messageOverlay.createGraphics();
+            renderMessageOverlay(og, message);
+            og.dispose();
+            messageOverlayText = message;
+        }
+        g.drawImage(messageOverlay, 0, 0, null);
+    }
+
+    private void renderMessageOverlay(Graphics2D g, String message) {
         g.setColor(new Color(0, 0, 0, 200));
         g.fillRect(0, 0, 800, 600);
         g.setColor(Color.white);
@@ -169,6 +241,16 @@ public class UIManager {
     }
 
     private void drawStartScreen(Graphics2D g) {
+        if (startOverlay == null) {
+            startOverlay = newOverlayImage(null);
+            Graphics2D og = startOverlay.createGraphics();
+            renderStartScreen(og);
+            og.dispose();
+        }
+        g.drawImage(startOverlay, 0, 0, null);
+    }
+
+    private void renderStartScreen(Graphics2D g) {
         // 배경 이미지가 있으면 사용, 없으면 반투명 검은색 배경
         if (startBackground != null) {
             startBackground.drawScaled(g, 0, 0, 800, 600);
@@ -191,9 +273,19 @@ public class UIManager {
             startBtn.drawScaled(g, btnX, btnY, dw, dh);
         }
 
-        g.setFont(smallFont);
-        String controls = "Controls: ← → 이동, SPACE 발사  |  아무 키나 눌러 시작";
-        g.drawString(controls, getCenterX(g.getFontMetrics().stringWidth(controls)), 500);
+        controlsLabel.draw(g, getCenterX(controlsLabel.getWidth()), 500);
+    }
+
+    /** 오버레이용 800x600 투명 이미지 (이전 이미지는 비워서 재사용) */
+    private BufferedImage newOverlayImage(BufferedImage old) {
+        if (old == null) {
+            return new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D g = old.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, 800, 600);
+        g.dispose();
+        return old;
     }
 
     private String stageDesc(int stage) {
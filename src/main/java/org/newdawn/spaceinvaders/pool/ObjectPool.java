@@ -0,0 +1,97 @@
+package org.newdawn.spaceinvaders.pool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * ♻️ ObjectPool — 자주 생기고 금방 사라지는 객체(총알, 포션 폭탄, 폭발 연출)를 재사용하는 풀
+ * - obtain(): 남은 객체가 있으면 꺼내고(hit), 없으면 factory 로 새로 만듦(miss)
+ * - release(): reset() 후 보관, 최대 개수를 넘으면 버림(dropped)
+ * - hit/miss/dropped 수로 풀 크기를 정함 (전투 중 miss 가 계속 늘면 maxSize 부족)
+ * - 만든 풀은 모두 등록되어 printStats() 로 한 번에 출력
+ * - 게임 루프 스레드에서만 사용 (동기화 없음)
+ */
+public final class ObjectPool<T extends Poolable> {
+    private static final List<ObjectPool<?>> ALL = new ArrayList<>();
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final int maxSize;
+
+    private Object[] free;
+    private int freeCount = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long dropped = 0;
+
+    /**
+     * @param name 통계 출력용 이름
+     * @param factory 풀이 비었을 때 새 객체를 만드는 함수
+     * @param maxSize 보관할 최대 개수
+     */
+    public ObjectPool(String name, Supplier<T> factory, int maxSize) {
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.free = new Object[Math.min(16, maxSize)];
+        synchronized (ALL) {
+            ALL.add(this);
+        }
+    }
+
+    /** 보관 중인 객체를 꺼내거나 새로 만든다 (꺼낸 쪽이 init 으로 상태를 채워야 함) */
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        if (freeCount > 0) {
+            hits++;
+            T obj = (T) free[--freeCount];
+            free[freeCount] = null;
+            return obj;
+        }
+        misses++;
+        return factory.get();
+    }
+
+    /** 다 쓴 객체를 돌려받음 (같은 객체를 두 번 돌려주면 안 됨) */
+    public void release(T obj) {
+        obj.reset();
+        if (freeCount == maxSize) {
+            dropped++;
+            return;
+        }
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, Math.min(maxSize, free.length * 2));
+        }
+        free[freeCount++] = obj;
+    }
+
+    public String getName() { return name; }
+
+    public long getHits() { return hits; }
+
+    public long getMisses() { return misses; }
+
+    public long getDropped() { return dropped; }
+
+    /** 지금 보관 중인 개수 */
+    public int getFreeCount() { return freeCount; }
+
+    @Override
+    public String toString() {
+        long total = hits + misses;
+        return String.format("%s: hit %d / miss %d (%.1f%%), dropped %d, free %d/%d",
+                name, hits, misses, total == 0 ? 0.0 : hits * 100.0 / total, dropped, freeCount, maxSize);
+    }
+
+    /** 등록된 모든 풀의 통계 출력 */
+    public static void printStats() {
+        synchronized (ALL) {
+            for (ObjectPool<?> pool : ALL) {
+                System.out.println("♻️ [pool] " + pool);
+            }
+        }
+    }
+}
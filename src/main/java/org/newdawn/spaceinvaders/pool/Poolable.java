@@ -0,0 +1,10 @@
+package org.newdawn.spaceinvaders.pool;
+
+/**
+ * ♻️ Poolable — ObjectPool 로 재사용되는 객체
+ * - 풀로 돌아갈 때 reset() 으로 다른 객체 참조를 끊음 (풀에 있는 동안 게임/엔티티를 붙잡지 않도록)
+ * - 다시 꺼낸 쪽은 각 클래스의 init(...) 으로 생성자와 같은 상태를 다시 채움
+ */
+public interface Poolable {
+    void reset();
+}
@@ -0,0 +1,193 @@
+package org.newdawn.spaceinvaders.profile;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * ⏱ FrameProfiler — 게임 루프 단계별 소요 시간(ns)을 단계마다 RollingHistogram 에 기록
+ * - lap(phase, start): 직전 시각부터 지금까지를 phase 로 기록하고 지금 시각을 돌려줌
+ *   → 단계를 이어서 잴 때 System.nanoTime() 을 단계당 한 번만 호출
+ * - F3 오버레이: 최근 몇 초의 단계별 p50 / p99 / max (0.25초마다 갱신)
+ * - F4 덤프: 단계별 백분위 + 0 이 아닌 구간 개수를 파일로 저장 (헤드리스는 종료 시 콘솔 출력)
+ * - 한 단계는 한 스레드에서만 기록 (렌더 스레드 모드면 그리기 단계는 렌더 스레드)
+ */
+public final class FrameProfiler {
+
+    /** 게임 루프 단계 */
+    public enum Phase {
+        SPAWN("spawnWave"),
+        TIMERS("timers"),
+        MOVE("moveEntities"),
+        COLLIDE("checkCollisions"),
+        CLEANUP("cleanupEntities"),
+        WORLD("draw world"),
+        UI("drawFullUI"),
+        REWARDS("drawRewards"),
+        PRESENT("show"),
+        SNAPSHOT("publishSnapshot"),
+        NETWORK("client.send"),
+        FRAME("frame total"),
+        PACING("pacing");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final long OVERLAY_REFRESH_NANOS = 250_000_000L;
+    private static final double[] DUMP_PERCENTILES = {50, 90, 99, 99.9};
+
+    private final RollingHistogram[] histograms = new RollingHistogram[PHASES.length];
+    private volatile boolean overlayVisible = false;
+
+    // 오버레이 전용 (그리는 스레드에서만 사용)
+    private final long[] scratch = new long[RollingHistogram.BUCKETS];
+    private final String[] overlayLines = new String[PHASES.length];
+    private int overlayLineCount = 0;
+    private long overlayRefreshedAt = 0;
+    private final Font overlayFont = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private final Color overlayBack = new Color(0, 0, 0, 170);
+
+    public FrameProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i] = new RollingHistogram();
+        }
+    }
+
+    /** 측정 시작 시각 */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * start 부터 지금까지를 phase 로 기록
+     *
+     * @return 지금 시각 (다음 단계의 start 로 사용)
+     */
+    public long lap(Phase phase, long start) {
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - start, now);
+        return now;
+    }
+
+    // ========= 오버레이 (F3) =========
+
+    public boolean isOverlayVisible() { return overlayVisible; }
+
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+    }
+
+    /**
+     * 단계별 최근 p50 / p99 / max (ms) 표 그리기
+     *
+     * @param g 그릴 대상
+     * @param x 왼쪽
+     * @param y 위쪽
+     */
+    public void drawOverlay(Graphics2D g, int x, int y) {
+        if (!overlayVisible) return;
+        long now = System.nanoTime();
+        if (overlayRefreshedAt == 0 || now - overlayRefreshedAt >= OVERLAY_REFRESH_NANOS) {
+            refreshOverlay(now);
+            overlayRefreshedAt = now;
+        }
+
+        int lineHeight = 14;
+        g.setColor(overlayBack);
+        g.fillRect(x, y, 330, (overlayLineCount + 1) * lineHeight + 8);
+        g.setFont(overlayFont);
+        g.setColor(Color.WHITE);
+        g.drawString(String.format("%-16s %8s %8s %8s", "phase (ms)", "p50", "p99", "max"), x + 6, y + lineHeight);
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < overlayLineCount; i++) {
+            g.drawString(overlayLines[i], x + 6, y + (i + 2) * lineHeight);
+        }
+    }
+
+    private void refreshOverlay(long now) {
+        overlayLineCount = 0;
+        for (Phase phase : PHASES) {
+            long max = histograms[phase.ordinal()].recent(scratch, now);
+            long n = RollingHistogram.count(scratch);
+            if (n == 0) continue;
+            overlayLines[overlayLineCount++] = String.format("%-16s %8.3f %8.3f %8.3f", phase.getLabel(),
+                    ms(RollingHistogram.percentile(scratch, n, 50, max)),
+                    ms(RollingHistogram.percentile(scratch, n, 99, max)),
+                    ms(max));
+        }
+    }
+
+    // ========= 덤프 (F4) =========
+
+    /**
+     * 실행 전체 누적 통계 출력
+     * - 단계마다 개수, 백분위(p50/p90/p99/p99.9), max
+     * - 이어서 0 이 아닌 구간별 "상한ns 개수" 목록 (다른 도구로 다시 그릴 수 있도록)
+     *
+     * @param out 출력 대상
+     * @param withBuckets 구간별 개수까지 출력할지
+     */
+    public void dump(PrintStream out, boolean withBuckets) {
+        long[] counts = new long[RollingHistogram.BUCKETS];
+        out.printf("%-16s %10s", "phase (ms)", "count");
+        for (double p : DUMP_PERCENTILES) out.printf(" %9s", "p" + trim(p));
+        out.printf(" %9s%n", "max");
+
+        for (Phase phase : PHASES) {
+            long max = histograms[phase.ordinal()].total(counts);
+            long n = RollingHistogram.count(counts);
+            if (n == 0) continue;
+            out.printf("%-16s %10d", phase.getLabel(), n);
+            for (double p : DUMP_PERCENTILES) {
+                out.printf(" %9.3f", ms(RollingHistogram.percentile(counts, n, p, max)));
+            }
+            out.printf(" %9.3f%n", ms(max));
+        }
+
+        if (!withBuckets) return;
+        for (Phase phase : PHASES) {
+            histograms[phase.ordinal()].total(counts);
+            if (RollingHistogram.count(counts) == 0) continue;
+            out.println();
+            out.println("# " + phase.getLabel() + " (구간 상한 ns, 개수)");
+            for (int i = 0; i < RollingHistogram.BUCKETS; i++) {
+                if (counts[i] != 0) out.println(RollingHistogram.highestOf(i) + " " + counts[i]);
+            }
+        }
+    }
+
+    /**
+     * 작업 폴더에 profile_날짜_시각.txt 로 저장
+     *
+     * @return 저장한 파일
+     * @throws IOException 쓰기 실패
+     */
+    public File dumpToFile() throws IOException {
+        File file = new File(String.format("profile_%s.txt",
+                new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date())));
+        try (PrintStream out = new PrintStream(file, "UTF-8")) {
+            dump(out, true);
+        }
+        return file;
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String trim(double p) {
+        return p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p);
+    }
+}
@@ -0,0 +1,143 @@
+package org.newdawn.spaceinvaders.profile;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 📊 RollingHistogram — 나노초 값을 로그-선형 구간에 세는 HDR 방식 히스토그램
+ * - 2의 거듭제곱 구간마다 SUB_BUCKETS 칸으로 나눔 → 값 크기와 상관없이 상대 오차 1/16 이하
+ *   (16ns 미만은 1ns 단위, 최대 약 18분)
+ * - 최근 WINDOWS 초를 1초 단위 칸(슬롯)으로 나눠 돌려 씀 → 오래된 구간은 자연히 빠짐
+ * - 실행 전체 누적(total)도 같이 셈 (헤드리스 요약/덤프용)
+ * - 락 없음: 값 기록은 한 스레드, 읽기(오버레이/덤프)는 다른 스레드에서도 가능
+ *   (슬롯을 비우는 순간 읽으면 그 1초 분량이 덜 잡힐 수 있음 — 표시용으로 충분)
+ */
+public final class RollingHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private static final int WINDOWS = 5;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final AtomicLongArray[] windows = new AtomicLongArray[WINDOWS];
+    private final AtomicLongArray windowMax = new AtomicLongArray(WINDOWS);
+    /** 슬롯이 담고 있는 구간 번호 (nanoTime / WINDOW_NANOS), -1 = 비어 있음 */
+    private final AtomicLongArray windowEpoch = new AtomicLongArray(WINDOWS);
+
+    private final AtomicLongArray total = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalMax = new AtomicLong();
+
+    public RollingHistogram() {
+        for (int i = 0; i < WINDOWS; i++) {
+            windows[i] = new AtomicLongArray(BUCKETS);
+            windowEpoch.set(i, -1);
+        }
+    }
+
+    /**
+     * 값 하나 기록
+     *
+     * @param value 측정값 (ns, 음수는 0)
+     * @param nowNanos 현재 System.nanoTime() (슬롯 선택용)
+     */
+    public void record(long value, long nowNanos) {
+        if (value < 0) value = 0;
+        int bucket = bucketOf(value);
+
+        long epoch = nowNanos / WINDOW_NANOS;
+        int slot = (int) Math.floorMod(epoch, (long) WINDOWS);
+        AtomicLongArray counts = windows[slot];
+        if (windowEpoch.get(slot) != epoch) {
+            // 새 1초 구간 — 이 슬롯의 지난 값을 비우고 구간 번호를 갱신
+            for (int i = 0; i < BUCKETS; i++) counts.lazySet(i, 0);
+            windowMax.set(slot, 0);
+            windowEpoch.set(slot, epoch);
+        }
+        counts.incrementAndGet(bucket);
+        if (value > windowMax.get(slot)) windowMax.set(slot, value);
+
+        total.incrementAndGet(bucket);
+        if (value > totalMax.get()) totalMax.set(value);
+    }
+
+    /**
+     * 최근 구간 합계를 into 에 채움
+     *
+     * @param into 길이 BUCKETS 이상인 배열 (덮어씀)
+     * @param nowNanos 현재 System.nanoTime()
+     * @return 최근 구간의 최댓값 (ns)
+     */
+    public long recent(long[] into, long nowNanos) {
+        Arrays.fill(into, 0, BUCKETS, 0);
+        long epoch = nowNanos / WINDOW_NANOS;
+        long max = 0;
+        for (int s = 0; s < WINDOWS; s++) {
+            long e = windowEpoch.get(s);
+            if (e < 0 || epoch - e >= WINDOWS) continue;
+            AtomicLongArray counts = windows[s];
+            for (int i = 0; i < BUCKETS; i++) into[i] += counts.get(i);
+            max = Math.max(max, windowMax.get(s));
+        }
+        return max;
+    }
+
+    /**
+     * 실행 전체 누적을 into 에 채움
+     *
+     * @return 전체 최댓값 (ns)
+     */
+    public long total(long[] into) {
+        for (int i = 0; i < BUCKETS; i++) into[i] = total.get(i);
+        return totalMax.get();
+    }
+
+    // ========= 구간 계산 =========
+
+    /** 값이 들어갈 칸 번호 */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exp = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        if (exp == MAX_EXPONENT && value >>> (exp + 1) != 0) sub = SUB_BUCKETS - 1;
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** 칸에 들어가는 가장 큰 값 (백분위 보고용) */
+    static long highestOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exp = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exp - SUB_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (exp - SUB_BITS)) + width - 1;
+    }
+
+    /** 개수 합 */
+    static long count(long[] counts) {
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) n += counts[i];
+        return n;
+    }
+
+    /**
+     * 백분위 값
+     *
+     * @param counts recent()/total() 로 채운 배열
+     * @param n count(counts)
+     * @param percentile 0 ~ 100
+     * @param max 실제 최댓값 (구간 상한이 이를 넘지 않도록)
+     * @return 해당 백분위가 속한 칸의 상한 (ns), 기록이 없으면 0
+     */
+    static long percentile(long[] counts, long n, double percentile, long max) {
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestOf(i), max);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,69 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+
+import org.newdawn.spaceinvaders.Sprite;
+
+/**
+ * 🖌 GraphicsTarget — RenderTarget 명령을 받는 즉시 Graphics2D 에 그림
+ * - RenderSnapshot.render() 도 기록한 명령을 이 클래스로 다시 실행하므로 두 모드의 결과가 같음
+ * - 프레임마다 bind() 로 대상만 바꿔 재사용 (할당 없음)
+ */
+public final class GraphicsTarget implements RenderTarget {
+    private Graphics2D g;
+
+    /** 이번 프레임에 그릴 대상 지정 (null 이면 해제) */
+    public void bind(Graphics2D g) {
+        this.g = g;
+    }
+
+    @Override
+    public void addSprite(Sprite sprite, int x, int y) {
+        if (sprite == null) return;
+        sprite.draw(g, x, y);
+    }
+
+    @Override
+    public void addSprite(Sprite sprite, int x, int y, int w, int h, float alpha) {
+        if (sprite == null) return;
+        Composite base = null;
+        if (alpha < 1.0f) {
+            base = g.getComposite();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        }
+        if (w < 0) sprite.draw(g, x, y);
+        else sprite.drawScaled(g, x, y, w, h);
+        if (base != null) g.setComposite(base);
+    }
+
+    @Override
+    public void addRect(Color color, int x, int y, int w, int h) {
+        g.setColor(color);
+        g.fillRect(x, y, w, h);
+    }
+
+    @Override
+    public void addOval(Color color, int x, int y, int w, int h) {
+        g.setColor(color);
+        g.fillOval(x, y, w, h);
+    }
+
+    @Override
+    public void addCutout(int x, int y, int w, int h) {
+        Composite base = g.getComposite();
+        g.setComposite(AlphaComposite.DstOut);
+        g.fillOval(x, y, w, h);
+        g.setComposite(base);
+    }
+
+    @Override
+    public void addText(String text, Font font, Color color, int x, int y) {
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, x, y);
+    }
+}
@@ -0,0 +1,48 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.util.Arrays;
+
+/**
+ * 📋 HudState — HUD 와 보상 토스트에 표시할 값 묶음
+ * - 시뮬레이션 스레드가 프레임마다 기록 (UIManager.recordHud, RewardManager.recordRewardMessages)
+ * - UIManager/RewardManager 의 그리기는 이 값만 읽음
+ *   → 렌더 스레드가 살아 있는 ship/fortress/보상 목록을 읽지 않음
+ * - RenderSnapshot 마다 하나씩 들고 있어 함께 재사용됨
+ */
+public final class HudState {
+    public int stage;
+    public int alienCount;
+    /** 남은 제한 시간 (초) */
+    public long timeRemain;
+    /** Stage 3 생명 제한에 걸렸는지 (사망 오버레이만 표시) */
+    public boolean lifeLimitReached;
+
+    public boolean hasShip;
+    public int health;
+    public int defense;
+    public int attackPower;
+    public int money;
+    public int bombCount;
+    public int iceCount;
+    public int shieldCount;
+
+    public boolean hasFortress;
+    public int fortressHp;
+
+    private String[] toasts = new String[8];
+    private int toastCount = 0;
+
+    /** 토스트 목록을 비움 (기록 시작 시) */
+    public void clearToasts() {
+        Arrays.fill(toasts, 0, toastCount, null);
+        toastCount = 0;
+    }
+
+    public void addToast(String text) {
+        if (toastCount == toasts.length) toasts = Arrays.copyOf(toasts, toastCount * 2);
+        toasts[toastCount++] = text;
+    }
+
+    public int getToastCount() { return toastCount; }
+    public String getToast(int i) { return toasts[i]; }
+}
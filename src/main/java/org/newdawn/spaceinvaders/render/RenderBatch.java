@@ -0,0 +1,11 @@
+package org.newdawn.spaceinvaders.render;
+
+/**
+ * 🎞 RenderBatch — 엔티티가 아닌 것을 한꺼번에 그리는 묶음 (예: 병렬 배열로 관리하는 총알)
+ * - RenderQueue.submitBatch() 로 레이어에 넣으면 그 레이어의 엔티티 다음에 그려짐
+ * - alpha 는 고정 틱 사이 보간 비율 (0 = 직전 틱 시작 위치, 1 = 현재 위치)
+ */
+public interface RenderBatch {
+    /** 묶음 전체를 target 에 내보냄 (바로 그리기/스냅샷 기록 모두 이 한 곳) */
+    void emit(RenderTarget out, double alpha);
+}
@@ -0,0 +1,20 @@
+package org.newdawn.spaceinvaders.render;
+
+/**
+ * 🗂 RenderLayer — 그리기 순서 (위에 선언된 것부터 먼저 그림)
+ * - BACKGROUND / HUD 는 BackgroundManager, UIManager 가 담당하고
+ *   엔티티는 그 사이 레이어에 들어감
+ */
+public enum RenderLayer {
+    BACKGROUND,
+    OBSTACLES,
+    MONSTERS,
+    PROJECTILES,
+    PLAYER,
+    SHIELDS,
+    EFFECTS,
+    HUD;
+
+    /** values() 는 매번 배열을 복사하므로 한 번만 만들어 둠 */
+    static final RenderLayer[] ALL = values();
+}
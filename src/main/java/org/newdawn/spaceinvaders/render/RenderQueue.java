@@ -0,0 +1,136 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import java.util.List;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 📋 RenderQueue — 레이어별로 엔티티를 모아 한 번에 그리는 큐
+ * - 엔티티는 submit() 으로 자기 레이어(getRenderLayer)에 들어감
+ * - 같은 레이어 안에서는 제출 순서를 유지 (결정적인 그리기 순서)
+ * - 전체 화면 연출(hasEffects)은 EFFECTS 레이어에서 emitEffects() 로 그림
+ * - 묶음(RenderBatch)은 submitBatch() 로 넣고, 해당 레이어의 엔티티 다음에 그림
+ * - 배열은 프레임 사이에 재사용되므로 매 프레임 할당이 없음
+ * - 고정 틱 사이의 프레임은 setInterpolation() 비율만큼 직전 틱 위치와 현재 위치 사이에 그림
+ *   (비율을 emit 에 넘겨 엔티티가 그릴 위치를 계산 — 엔티티 위치는 바꾸지 않음)
+ * - 바로 그리기(draw)와 스냅샷 기록(snapshot)은 같은 emit 순회를 대상만 바꿔 사용
+ */
+public final class RenderQueue {
+    private final Entity[][] layers = new Entity[RenderLayer.ALL.length][];
+    private final int[] counts = new int[RenderLayer.ALL.length];
+
+    /** 연출을 가진 엔티티 (EFFECTS 레이어에서 emitEffects 호출) */
+    private Entity[] effects = new Entity[8];
+    private int effectCount = 0;
+
+    /** draw() 에서 쓰는 바로 그리기 대상 (게임 루프 스레드 전용) */
+    private final GraphicsTarget immediate = new GraphicsTarget();
+
+    /** 다음 틱까지 진행 비율 (0 = 직전 틱 시작 위치, 1 = 현재 위치) */
+    private double alpha = 1.0;
+
+    /** submitAll() 에서 목록을 복사해 두는 배열 (재사용) */
+    private Entity[] copy = new Entity[64];
+
+    /** 레이어별 묶음 (레이어당 많아야 몇 개) */
+    private final RenderBatch[][] batches = new RenderBatch[RenderLayer.ALL.length][];
+    private final int[] batchCounts = new int[RenderLayer.ALL.length];
+
+    public RenderQueue() {
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = new Entity[32];
+            batches[i] = new RenderBatch[2];
+        }
+    }
+
+    /** 새 프레임 시작 (이전 프레임 엔티티 참조 해제) */
+    public void clear() {
+        for (int i = 0; i < layers.length; i++) {
+            Arrays.fill(layers[i], 0, counts[i], null);
+            counts[i] = 0;
+            Arrays.fill(batches[i], 0, batchCounts[i], null);
+            batchCounts[i] = 0;
+        }
+        Arrays.fill(effects, 0, effectCount, null);
+        effectCount = 0;
+    }
+
+    public void submit(Entity e) {
+        int layer = e.getRenderLayer().ordinal();
+        Entity[] items = layers[layer];
+        if (counts[layer] == items.length) {
+            items = layers[layer] = Arrays.copyOf(items, items.length * 2);
+        }
+        items[counts[layer]++] = e;
+
+        if (e.hasEffects()) {
+            if (effectCount == effects.length) {
+                effects = Arrays.copyOf(effects, effects.length * 2);
+            }
+            effects[effectCount++] = e;
+        }
+    }
+
+    /** 이번 프레임의 보간 비율 (0~1) */
+    public void setInterpolation(double alpha) {
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /** 묶음 제출 — layer 의 엔티티를 모두 그린 뒤 그림 */
+    public void submitBatch(RenderLayer layer, RenderBatch batch) {
+        int l = layer.ordinal();
+        RenderBatch[] items = batches[l];
+        if (batchCounts[l] == items.length) {
+            items = batches[l] = Arrays.copyOf(items, items.length * 2);
+        }
+        items[batchCounts[l]++] = batch;
+    }
+
+    /**
+     * 리스트 전체 제출
+     * - 목록은 복사본(프레임 사이 재사용하는 배열)으로 순회 → 다른 스레드가 목록을 바꾸더라도
+     *   ConcurrentModificationException 없이 복사한 시점의 엔티티를 그림
+     *   (키 입력에 의한 변경은 Game.runOnLoop 로 게임 루프에서 하지만, 방어용으로 유지)
+     */
+    public void submitAll(List<Entity> entities) {
+        copy = entities.toArray(copy);
+        for (int i = 0; i < copy.length && copy[i] != null; i++) {
+            submit(copy[i]);
+            copy[i] = null;
+        }
+    }
+
+    /** 레이어 순서대로 그림 */
+    public void draw(Graphics2D g) {
+        immediate.bind(g);
+        try {
+            emit(immediate);
+        } finally {
+            immediate.bind(null);
+        }
+    }
+
+    /** draw() 와 같은 순서로 렌더 스냅샷에 기록 */
+    public void snapshot(RenderSnapshot out) {
+        emit(out);
+    }
+
+    private void emit(RenderTarget out) {
+        for (int layer = 0; layer < layers.length; layer++) {
+            Entity[] items = layers[layer];
+            for (int i = 0, n = counts[layer]; i < n; i++) {
+                items[i].emit(out, alpha);
+            }
+            for (int b = 0, n = batchCounts[layer]; b < n; b++) {
+                batches[layer][b].emit(out, alpha);
+            }
+            if (layer == RenderLayer.EFFECTS.ordinal()) {
+                for (int i = 0; i < effectCount; i++) {
+                    effects[i].emitEffects(out);
+                }
+            }
+        }
+    }
+}
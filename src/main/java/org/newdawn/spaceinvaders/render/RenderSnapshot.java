@@ -0,0 +1,172 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+import org.newdawn.spaceinvaders.Sprite;
+
+/**
+ * 📸 RenderSnapshot — 한 프레임을 그리는 데 필요한 최소 정보
+ * - 엔티티별 (스프라이트, 위치, 크기, 알파) 와 단순 도형/텍스트를 병렬 배열로 보관
+ * - HUD/토스트 값은 HudState 로 함께 보관
+ * - 시뮬레이션 스레드가 채우고 publish 한 뒤에는 렌더 스레드만 읽음
+ * - 배열은 프레임 사이에 재사용되므로 매 프레임 할당이 없음
+ * - 엔티티는 emit() 으로 RenderTarget 명령을 내보내고, 여기서는 그 명령을 기록했다가
+ *   렌더 스레드에서 GraphicsTarget 으로 다시 실행 (그리기 코드는 한 벌)
+ */
+public final class RenderSnapshot implements RenderTarget {
+    private static final byte SPRITE = 0;
+    private static final byte FILL_RECT = 1;
+    private static final byte FILL_OVAL = 2;
+    private static final byte CUT_OVAL = 3;
+    private static final byte TEXT = 4;
+
+    private int count = 0;
+    private byte[] kinds = new byte[64];
+    private Sprite[] sprites = new Sprite[64];
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int[] ws = new int[64];
+    private int[] hs = new int[64];
+    private float[] alphas = new float[64];
+    private Color[] colors = new Color[64];
+    private String[] texts = new String[64];
+    private Font[] fonts = new Font[64];
+
+    // 프레임 단위 상태 (UI/배경)
+    private Sprite background;
+    private boolean drawBackground;
+    private String message;
+    private boolean shopOpen;
+    private boolean waiting;
+    private final HudState hud = new HudState();
+    /** render() 에서 기록을 다시 실행할 대상 (렌더 스레드 전용) */
+    private final GraphicsTarget replay = new GraphicsTarget();
+
+    /** 새 프레임 작성을 시작 (이전 내용 폐기) */
+    public void reset() {
+        // 참조는 GC 를 위해 비워 둠
+        Arrays.fill(sprites, 0, count, null);
+        Arrays.fill(colors, 0, count, null);
+        Arrays.fill(texts, 0, count, null);
+        Arrays.fill(fonts, 0, count, null);
+        count = 0;
+    }
+
+    public void setFrameState(Sprite background, boolean drawBackground, String message, boolean shopOpen, boolean waiting) {
+        this.background = background;
+        this.drawBackground = drawBackground;
+        this.message = message;
+        this.shopOpen = shopOpen;
+        this.waiting = waiting;
+    }
+
+    public Sprite getBackground() { return background; }
+    public boolean isDrawBackground() { return drawBackground; }
+    public String getMessage() { return message; }
+    public boolean isShopOpen() { return shopOpen; }
+    public boolean isWaiting() { return waiting; }
+    /** 이 프레임의 HUD/토스트 값 (시뮬레이션 스레드가 publish 전에 기록) */
+    public HudState getHud() { return hud; }
+    public int size() { return count; }
+
+    @Override
+    public void addSprite(Sprite sprite, int x, int y) {
+        addSprite(sprite, x, y, -1, -1, 1.0f);
+    }
+
+    @Override
+    public void addSprite(Sprite sprite, int x, int y, int w, int h, float alpha) {
+        if (sprite == null) return;
+        int i = next(SPRITE, x, y, w, h);
+        sprites[i] = sprite;
+        alphas[i] = alpha;
+    }
+
+    @Override
+    public void addRect(Color color, int x, int y, int w, int h) {
+        int i = next(FILL_RECT, x, y, w, h);
+        colors[i] = color;
+    }
+
+    @Override
+    public void addOval(Color color, int x, int y, int w, int h) {
+        int i = next(FILL_OVAL, x, y, w, h);
+        colors[i] = color;
+    }
+
+    @Override
+    public void addCutout(int x, int y, int w, int h) {
+        next(CUT_OVAL, x, y, w, h);
+    }
+
+    @Override
+    public void addText(String text, Font font, Color color, int x, int y) {
+        int i = next(TEXT, x, y, 0, 0);
+        texts[i] = text;
+        fonts[i] = font;
+        colors[i] = color;
+    }
+
+    /** 기록된 순서대로 모두 그림 (렌더 스레드) */
+    public void render(Graphics2D g) {
+        replay.bind(g);
+        try {
+            replayInto(replay);
+        } finally {
+            replay.bind(null);
+        }
+    }
+
+    /** 기록된 명령을 순서대로 target 에 다시 내보냄 */
+    private void replayInto(RenderTarget target) {
+        for (int i = 0; i < count; i++) {
+            switch (kinds[i]) {
+                case SPRITE:
+                    target.addSprite(sprites[i], xs[i], ys[i], ws[i], hs[i], alphas[i]);
+                    break;
+                case FILL_RECT:
+                    target.addRect(colors[i], xs[i], ys[i], ws[i], hs[i]);
+                    break;
+                case FILL_OVAL:
+                    target.addOval(colors[i], xs[i], ys[i], ws[i], hs[i]);
+                    break;
+                case CUT_OVAL:
+                    target.addCutout(xs[i], ys[i], ws[i], hs[i]);
+                    break;
+                case TEXT:
+                    target.addText(texts[i], fonts[i], colors[i], xs[i], ys[i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private int next(byte kind, int x, int y, int w, int h) {
+        if (count == kinds.length) grow();
+        int i = count++;
+        kinds[i] = kind;
+        xs[i] = x;
+        ys[i] = y;
+        ws[i] = w;
+        hs[i] = h;
+        return i;
+    }
+
+    private void grow() {
+        int n = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, n);
+        sprites = Arrays.copyOf(sprites, n);
+        xs = Arrays.copyOf(xs, n);
+        ys = Arrays.copyOf(ys, n);
+        ws = Arrays.copyOf(ws, n);
+        hs = Arrays.copyOf(hs, n);
+        alphas = Arrays.copyOf(alphas, n);
+        colors = Arrays.copyOf(colors, n);
+        texts = Arrays.copyOf(texts, n);
+        fonts = Arrays.copyOf(fonts, n);
+    }
+}
@@ -0,0 +1,35 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.awt.Color;
+import java.awt.Font;
+
+import org.newdawn.spaceinvaders.Sprite;
+
+/**
+ * 🎯 RenderTarget — 엔티티/묶음이 자기 모습을 내보내는 곳
+ * - Entity.emit(), RenderBatch.emit() 은 이 명령들로만 그림 → 그리기 코드는 한 벌
+ * - GraphicsTarget: 바로 Graphics2D 에 그림 (단일 스레드 모드)
+ * - RenderSnapshot: 기록해 두었다가 렌더 스레드가 render() 로 그림
+ */
+public interface RenderTarget {
+    /** 스프라이트를 원래 크기로 그림 */
+    void addSprite(Sprite sprite, int x, int y);
+
+    /**
+     * 스프라이트를 그림
+     *
+     * @param w 그릴 너비 (-1 이면 원래 크기)
+     * @param h 그릴 높이 (-1 이면 원래 크기)
+     * @param alpha 투명도 (1.0 = 불투명)
+     */
+    void addSprite(Sprite sprite, int x, int y, int w, int h, float alpha);
+
+    void addRect(Color color, int x, int y, int w, int h);
+
+    void addOval(Color color, int x, int y, int w, int h);
+
+    /** 이미 그려진 내용에서 타원 영역을 지움 (AlphaComposite.DstOut) */
+    void addCutout(int x, int y, int w, int h);
+
+    void addText(String text, Font font, Color color, int x, int y);
+}
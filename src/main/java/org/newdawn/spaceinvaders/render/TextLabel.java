@@ -0,0 +1,94 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * 🔤 TextLabel — 한 줄 텍스트를 미리 이미지로 그려 두는 캐시
+ * - 값이 바뀔 때만 문자열을 만들고 다시 그림 (그 외 프레임은 drawImage 한 번)
+ * - 숫자 필드는 set(prefix, value, suffix) 로 넘기면 값이 같을 때 문자열도 만들지 않음
+ */
+public final class TextLabel {
+    /** 폰트 메트릭 계산용 1x1 이미지 */
+    private static final BufferedImage SCRATCH = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private final Font font;
+    private Color color;
+
+    private String text;
+    private String prefix;
+    private String suffix;
+    private long value;
+
+    private BufferedImage image;
+    private int ascent;
+    private int width;
+
+    public TextLabel(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+    }
+
+    /** 고정 문자열 또는 드물게 바뀌는 문자열 */
+    public TextLabel set(String text) {
+        if (text == null) text = "";
+        if (image != null && prefix == null && text.equals(this.text)) return this;
+        this.prefix = null;
+        this.suffix = null;
+        render(text);
+        return this;
+    }
+
+    /** prefix + value + suffix — 값과 앞뒤 문자열이 같으면 아무 일도 하지 않음 */
+    public TextLabel set(String prefix, long value, String suffix) {
+        if (image != null && value == this.value && prefix.equals(this.prefix) && suffix.equals(this.suffix)) {
+            return this;
+        }
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.value = value;
+        render(prefix + value + suffix);
+        return this;
+    }
+
+    /** 색이 바뀌면 다음 draw 전에 다시 그림 */
+    public TextLabel setColor(Color color) {
+        if (!color.equals(this.color)) {
+            this.color = color;
+            if (text != null) render(text);
+        }
+        return this;
+    }
+
+    /** drawString 과 같은 기준선(baseline) 좌표로 그림 */
+    public void draw(Graphics2D g, int x, int baseline) {
+        if (image != null) g.drawImage(image, x, baseline - ascent, null);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    private void render(String text) {
+        this.text = text;
+
+        Graphics2D mg = SCRATCH.createGraphics();
+        FontMetrics fm = mg.getFontMetrics(font);
+        mg.dispose();
+
+        width = fm.stringWidth(text);
+        ascent = fm.getMaxAscent();
+        int height = Math.max(1, ascent + fm.getMaxDescent());
+
+        if (image != null) image.flush();
+        image = new BufferedImage(Math.max(1, width), height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, 0, ascent);
+        g.dispose();
+    }
+}
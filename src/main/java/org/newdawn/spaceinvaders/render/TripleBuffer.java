@@ -0,0 +1,61 @@
+package org.newdawn.spaceinvaders.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔁 TripleBuffer — 생산자 1명, 소비자 1명용 lock-free 삼중 버퍼
+ * - 생산자(시뮬레이션)는 back 에 쓰고 publish() 로 내보냄
+ * - 소비자(렌더러)는 acquire() 로 가장 최근에 내보낸 버퍼를 가져감
+ * - 어느 쪽도 상대를 기다리지 않으며, 렌더러는 절반만 쓰인 버퍼를 보지 않음
+ *
+ * @param <T> 버퍼 타입
+ */
+public final class TripleBuffer<T> {
+    /** pending 인덱스에 "새 데이터" 표시 비트 */
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    /** 하위 2비트: pending 버퍼 인덱스, FRESH: 소비자가 아직 안 가져감 */
+    private final AtomicInteger pending = new AtomicInteger(1);
+    /** 생산자 전용 */
+    private int back = 0;
+    /** 소비자 전용 */
+    private int front = 2;
+
+    public TripleBuffer(T a, T b, T c) {
+        buffers[0] = a;
+        buffers[1] = b;
+        buffers[2] = c;
+    }
+
+    /** 생산자가 다음에 채울 버퍼 */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) buffers[back];
+    }
+
+    /** 생산자: back 버퍼를 다 채웠으면 내보내고 새 back 을 받음 */
+    public void publish() {
+        int old = pending.getAndSet(back | FRESH);
+        back = old & INDEX_MASK;
+    }
+
+    /**
+     * 소비자: 새로 내보낸 버퍼가 있으면 그것으로 교체
+     *
+     * @return 새 버퍼를 받았으면 true
+     */
+    public boolean acquire() {
+        if ((pending.get() & FRESH) == 0) return false;
+        int old = pending.getAndSet(front);
+        front = old & INDEX_MASK;
+        return true;
+    }
+
+    /** 소비자가 현재 그리고 있는 버퍼 */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,90 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 🎞 FramePacer — 한참 늦어진 뒤 밀린 프레임을 몰아서 돌리지 않고 마감 시각을 다시 맞추는지,
+ * 대기 화면/무제한 프레임 뒤에는 새 일정으로 시작하는지 확인
+ * - 실제 시간으로 재므로 "적어도 이만큼 기다렸다" 쪽만 검사 (느린 기계에서도 통과)
+ */
+public class FramePacerTest {
+    /** 50 FPS → 20ms 간격 */
+    private static final int FPS = 50;
+    private static final long PERIOD_MS = 1000 / FPS;
+    /** 기다렸다고 볼 최소 시간 (간격의 3/4) */
+    private static final long WAITED_MS = PERIOD_MS * 3 / 4;
+
+    @Test
+    public void resyncsDeadlineAfterFallingBehind() throws InterruptedException {
+        withTargetFps(() -> {
+            FramePacer pacer = new FramePacer();
+            pacer.sync(this, false, false);
+            pacer.sync(this, false, false);
+
+            // 다섯 프레임 넘게 멈춤 → 늦은 프레임은 바로 돌려보내고 마감 시각을 지금으로
+            Thread.sleep(PERIOD_MS * 5);
+            pacer.sync(this, false, false);
+
+            // 다음 프레임은 밀린 만큼 바로 돌지 않고 한 간격을 기다림
+            long start = System.nanoTime();
+            pacer.sync(this, false, false);
+            assertWaited(start);
+        });
+    }
+
+    @Test
+    public void idleFrameStartsNewSchedule() throws InterruptedException {
+        withTargetFps(() -> {
+            FramePacer pacer = new FramePacer();
+            pacer.sync(this, false, false);
+            pacer.sync(this, true, false);
+            Thread.sleep(PERIOD_MS * 5);
+
+            long start = System.nanoTime();
+            pacer.sync(this, false, false);
+            assertWaited(start);
+        });
+    }
+
+    @Test
+    public void uncappedFrameStartsNewSchedule() throws InterruptedException {
+        withTargetFps(() -> {
+            FramePacer pacer = new FramePacer();
+            pacer.sync(this, false, false);
+            pacer.sync(this, false, true);
+            Thread.sleep(PERIOD_MS * 5);
+
+            long start = System.nanoTime();
+            pacer.sync(this, false, false);
+            assertWaited(start);
+        });
+    }
+
+    private static void assertWaited(long startNanos) {
+        long waitedMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        assertTrue(waitedMs >= WAITED_MS, "expected to wait about " + PERIOD_MS + "ms but waited " + waitedMs + "ms");
+    }
+
+    /** 목표 FPS 를 바꿔 실행하고 전역 설정을 되돌림 */
+    private static void withTargetFps(PacedRun run) throws InterruptedException {
+        int targetFps = GameSettings.getTargetFps();
+        int idleFps = GameSettings.getIdleFps();
+        boolean uncapped = GameSettings.isUncappedFps();
+        try {
+            GameSettings.setTargetFps(FPS);
+            GameSettings.setIdleFps(60);
+            GameSettings.setUncappedFps(false);
+            run.run();
+        } finally {
+            GameSettings.setTargetFps(targetFps);
+            GameSettings.setIdleFps(idleFps);
+            GameSettings.setUncappedFps(uncapped);
+        }
+    }
+
+    private interface PacedRun {
+        void run() throws InterruptedException;
+    }
+}
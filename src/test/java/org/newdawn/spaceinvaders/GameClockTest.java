@@ -0,0 +1,117 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ⏱ GameClock — 고정 틱 누산, 따라잡기 상한, 일시정지/한 틱 진행, 배속, 빨리 감기 확인
+ * - 실제 시간은 beginFrame 에 넣는 값으로만 흐르므로 벽시계와 상관없이 결정적
+ */
+public class GameClockTest {
+    private static final long TICK_NANOS = GameClock.TICK_MS * 1_000_000L;
+
+    @Test
+    public void accumulatesPartialTicksAcrossFrames() {
+        GameClock clock = new GameClock();
+        assertEquals(0, clock.beginFrame(TICK_NANOS * 4 / 10, true));
+        assertEquals(0.4, clock.interpolation(), 1e-9);
+        assertEquals(1, clock.beginFrame(TICK_NANOS * 7 / 10, true));
+        assertEquals(0.1, clock.interpolation(), 1e-9);
+        assertEquals(2, clock.beginFrame(TICK_NANOS * 19 / 10, true));
+        assertEquals(0.0, clock.interpolation(), 1e-9);
+    }
+
+    @Test
+    public void slowFrameCatchesUpAtMostFiveTicks() {
+        GameClock clock = new GameClock();
+        // 1초 멈춤 → 100틱이 밀렸지만 5틱만 돌리고 나머지는 버림
+        assertEquals(5, clock.beginFrame(1_000_000_000L, true));
+        assertEquals(0.0, clock.interpolation(), 1e-9);
+        assertEquals(0, clock.beginFrame(TICK_NANOS / 2, true));
+        assertEquals(1, clock.beginFrame(TICK_NANOS / 2, true));
+    }
+
+    @Test
+    public void tickAdvancesGameTimeByFixedStep() {
+        GameClock clock = new GameClock();
+        long start = clock.now();
+        int ticks = clock.beginFrame(TICK_NANOS * 3, true);
+        for (int i = 0; i < ticks; i++) clock.tick();
+        assertEquals(start + 3 * GameClock.TICK_MS, clock.now());
+    }
+
+    @Test
+    public void waitingScreenFollowsRealTimeWithoutTicks() {
+        GameClock clock = new GameClock();
+        long start = clock.now();
+        assertEquals(0, clock.beginFrame(2_500_000L, false));
+        assertEquals(0, clock.beginFrame(2_500_000L, false));
+        // 1ms 에 못 미친 나머지도 이어서 쌓임
+        assertEquals(start + 5, clock.now());
+
+        // 대기 중에 흐른 시간은 틱으로 쌓이지 않음
+        assertEquals(0, clock.beginFrame(TICK_NANOS / 2, true));
+    }
+
+    @Test
+    public void pauseStopsTicksUntilStepped() {
+        GameClock clock = new GameClock();
+        clock.beginFrame(TICK_NANOS / 2, true);
+        clock.setPaused(true);
+        assertTrue(clock.isPaused());
+        assertEquals(0, clock.beginFrame(TICK_NANOS * 10, true));
+        assertEquals(1.0, clock.interpolation(), 1e-9);
+
+        clock.step();
+        clock.step();
+        assertEquals(2, clock.beginFrame(0, true));
+        assertEquals(0, clock.beginFrame(TICK_NANOS * 10, true));
+
+        // 대기 화면에서는 한 틱 진행 요청도 버림
+        clock.step();
+        assertEquals(0, clock.beginFrame(0, false));
+        assertEquals(0, clock.beginFrame(0, true));
+
+        // 다시 풀면 멈춰 있던 동안의 시간은 따라잡지 않음
+        clock.togglePaused();
+        assertFalse(clock.isPaused());
+        assertEquals(0, clock.beginFrame(TICK_NANOS / 2, true));
+        assertEquals(1, clock.beginFrame(TICK_NANOS / 2, true));
+    }
+
+    @Test
+    public void stepIsIgnoredWhileRunning() {
+        GameClock clock = new GameClock();
+        clock.step();
+        clock.setPaused(true);
+        assertEquals(0, clock.beginFrame(0, true));
+    }
+
+    @Test
+    public void timeScaleSpeedsUpAndIsClamped() {
+        GameClock clock = new GameClock();
+        clock.setTimeScale(2.0);
+        assertEquals(4, clock.beginFrame(TICK_NANOS * 2, true));
+
+        clock.setTimeScale(100);
+        assertEquals(8.0, clock.getTimeScale(), 1e-9);
+        clock.setTimeScale(0);
+        assertEquals(0.1, clock.getTimeScale(), 1e-9);
+    }
+
+    @Test
+    public void fastForwardRunsFixedTicksPerFrame() {
+        GameClock clock = new GameClock();
+        clock.setFastForwardTicks(20);
+        assertEquals(20, clock.beginFrame(0, true));
+        assertEquals(20, clock.beginFrame(1_000_000_000L, true));
+        assertEquals(1.0, clock.interpolation(), 1e-9);
+
+        clock.setFastForwardTicks(-3);
+        assertEquals(0, clock.getFastForwardTicks());
+        assertEquals(1, clock.beginFrame(TICK_NANOS, true));
+    }
+}
@@ -0,0 +1,128 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * ⏲ TimerWheel — 단계 경계(64 / 4096 틱)에서 cascade 후에도 정확한 틱에 실행되는지,
+ * 엔티티가 빠질 때 예약이 취소되는지 확인
+ */
+public class TimerWheelTest {
+    /** 예약 지연 (틱) — 각 단계 경계 바로 앞/위/뒤 */
+    private static final long[] DELAYS = {1, 3, 4, 6, 63, 64, 65, 127, 4095, 4096, 4097, 8191, 262143, 262144, 262145};
+
+    @Test
+    public void firesOnTimeAcrossFirstLevelBoundary() {
+        // 0단계 한 바퀴(64틱) 끝 무렵에 예약 → 대부분 1단계 이상에 들어갔다가 cascade 로 내려옴
+        checkDelays(60);
+    }
+
+    @Test
+    public void firesOnTimeAcrossSecondLevelBoundary() {
+        // 1단계 한 바퀴(4096틱) 끝 무렵에 예약 → 2단계에서 두 번 cascade
+        checkDelays(4090);
+    }
+
+    @Test
+    public void firesOnTimeFromAlignedStart() {
+        checkDelays(0);
+    }
+
+    @Test
+    public void rescheduleMovesPendingTimer() {
+        GameClock clock = new GameClock();
+        TimerWheel wheel = new TimerWheel(clock);
+        long[] fired = {-1};
+        TimerWheel.Timer timer = new TimerWheel.Timer(() -> fired[0] = tickOf(clock));
+
+        long start = tickOf(clock);
+        wheel.schedule(timer, 5000 * GameClock.TICK_MS);
+        wheel.schedule(timer, 70 * GameClock.TICK_MS);
+        assertEquals(1, wheel.size());
+        run(clock, wheel, 5001);
+
+        assertEquals(start + 70, fired[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void leaveWorldCancelsEntityTimers() {
+        GameClock clock = new GameClock();
+        TimerWheel wheel = new TimerWheel(clock);
+        Pinger pinger = new Pinger();
+        pinger.enterWorld();
+        wheel.schedule(pinger.soon, 10 * GameClock.TICK_MS);
+        wheel.schedule(pinger.later, 5000 * GameClock.TICK_MS);
+        assertEquals(2, wheel.size());
+
+        pinger.leaveWorld();
+        assertFalse(pinger.soon.isPending());
+        assertFalse(pinger.later.isPending());
+        assertEquals(0, wheel.size());
+
+        run(clock, wheel, 5001);
+        assertEquals(0, pinger.runs);
+    }
+
+    /**
+     * 4096 틱 경계에 맞춘 뒤 offset 틱 지나서 DELAYS 만큼씩 예약하고,
+     * 모두 정확히 그 틱에 한 번씩 실행되는지 확인
+     */
+    private static void checkDelays(long offset) {
+        GameClock clock = new GameClock();
+        TimerWheel wheel = new TimerWheel(clock);
+        while (tickOf(clock) % 4096 != 0) {
+            clock.tick();
+            wheel.advance();
+        }
+        run(clock, wheel, offset);
+
+        long start = tickOf(clock);
+        long[] fired = new long[DELAYS.length];
+        int[] runs = new int[DELAYS.length];
+        for (int k = 0; k < DELAYS.length; k++) {
+            final int index = k;
+            TimerWheel.Timer timer = new TimerWheel.Timer(() -> {
+                fired[index] = tickOf(clock);
+                runs[index]++;
+            });
+            wheel.schedule(timer, DELAYS[k] * GameClock.TICK_MS);
+        }
+
+        run(clock, wheel, DELAYS[DELAYS.length - 1] + 1);
+        for (int k = 0; k < DELAYS.length; k++) {
+            assertEquals(1, runs[k], "delay " + DELAYS[k] + " run count");
+            assertEquals(start + DELAYS[k], fired[k], "delay " + DELAYS[k] + " fire tick");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    private static void run(GameClock clock, TimerWheel wheel, long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            clock.tick();
+            wheel.advance();
+        }
+    }
+
+    private static long tickOf(GameClock clock) {
+        return clock.now() / GameClock.TICK_MS;
+    }
+
+    /** 타이머 두 개를 가진 엔티티 */
+    private static final class Pinger extends Entity {
+        private int runs;
+        private final TimerWheel.Timer soon = newTimer(() -> runs++);
+        private final TimerWheel.Timer later = newTimer(() -> runs++);
+
+        Pinger() {
+            super("sprites/shot.png", 0, 0);
+        }
+
+        @Override
+        public void collidedWith(Entity other) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.newdawn.spaceinvaders.collision;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 📦 충돌 테스트용 엔티티 — 스프라이트와 상관없이 크기/분류를 정해 둔 박스 (알파 마스크 없음)
+ */
+class BoxEntity extends Entity {
+    private final int width;
+    private final int height;
+    private final int category;
+    private boolean custom;
+
+    BoxEntity(int x, int y, int width, int height, int category) {
+        super("sprites/shot.png", x, y);
+        this.width = width;
+        this.height = height;
+        this.category = category;
+    }
+
+    void moveTo(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    void setCustom(boolean custom) {
+        this.custom = custom;
+    }
+
+    @Override
+    public int getCollisionCategory() {
+        return category;
+    }
+
+    @Override
+    public int getCollisionWidth() {
+        return width;
+    }
+
+    @Override
+    public int getCollisionHeight() {
+        return height;
+    }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        return null;
+    }
+
+    @Override
+    public boolean hasCustomCollision() {
+        return custom;
+    }
+
+    @Override
+    public void collidedWith(Entity other) {
+    }
+}
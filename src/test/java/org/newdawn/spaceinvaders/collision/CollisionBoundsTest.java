@@ -0,0 +1,121 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 📦 CollisionBounds — 캐시한 영역으로 한 정밀 검사가 "여백을 뺀 히트박스끼리 겹침" 규칙과 같은지,
+ * refresh/expandToPath 가 영역을 맞게 고치는지 확인
+ */
+public class CollisionBoundsTest {
+    private static final int M = Entity.COLLISION_MARGIN;
+
+    @Test
+    public void overlapsMatchesShrunkHitboxRule() {
+        Random random = new Random(20);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            entities.add(new BoxEntity(random.nextInt(200), random.nextInt(200),
+                random.nextInt(40), random.nextInt(40), CollisionCategory.MONSTER));
+        }
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(entities, entities.size());
+
+        for (int i = 0; i < entities.size(); i++) {
+            for (int j = 0; j < entities.size(); j++) {
+                if (i == j) continue;
+                boolean expected = reference(entities.get(i), entities.get(j));
+                assertEquals(expected, bounds.overlaps(i, j), "pair " + i + "," + j);
+            }
+        }
+    }
+
+    @Test
+    public void touchingHitboxesDoNotOverlap() {
+        BoxEntity a = new BoxEntity(0, 0, 20, 20, CollisionCategory.MONSTER);
+        BoxEntity b = new BoxEntity(20 - 2 * M, 0, 20, 20, CollisionCategory.PLAYER_SHOT);
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(Arrays.asList(a, b), 2);
+        assertFalse(bounds.overlaps(0, 1));
+
+        b.moveTo(20 - 2 * M - 1, 0);
+        bounds.refresh(1);
+        assertTrue(bounds.overlaps(0, 1));
+    }
+
+    @Test
+    public void boxesWithoutHitboxNeverOverlap() {
+        BoxEntity small = new BoxEntity(0, 0, 2 * M, 30, CollisionCategory.MONSTER);
+        BoxEntity big = new BoxEntity(0, 0, 30, 30, CollisionCategory.PLAYER_SHOT);
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(Arrays.asList(small, big), 2);
+        assertTrue(bounds.hasArea(0));
+        assertFalse(bounds.overlaps(0, 1));
+        assertFalse(bounds.overlaps(1, 0));
+    }
+
+    @Test
+    public void noneCategoryHasNoArea() {
+        BoxEntity ghost = new BoxEntity(0, 0, 30, 30, CollisionCategory.NONE);
+        BoxEntity box = new BoxEntity(0, 0, 30, 30, CollisionCategory.MONSTER);
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(Arrays.asList(ghost, box), 2);
+        assertFalse(bounds.hasArea(0));
+        assertFalse(bounds.overlaps(0, 1));
+    }
+
+    @Test
+    public void customFlagCoversEitherSide() {
+        BoxEntity plain = new BoxEntity(0, 0, 30, 30, CollisionCategory.ENEMY_SHOT);
+        BoxEntity shield = new BoxEntity(0, 0, 30, 30, CollisionCategory.SHIELD);
+        BoxEntity other = new BoxEntity(0, 0, 30, 30, CollisionCategory.MONSTER);
+        shield.setCustom(true);
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(Arrays.asList(plain, shield, other), 3);
+        assertTrue(bounds.isCustom(0, 1));
+        assertTrue(bounds.isCustom(1, 0));
+        assertFalse(bounds.isCustom(0, 2));
+    }
+
+    @Test
+    public void expandToPathCoversMoveUntilRefresh() {
+        BoxEntity shot = new BoxEntity(100, 300, 20, 20, CollisionCategory.PLAYER_SHOT);
+        shot.savePreviousPosition();
+        shot.moveTo(90, 100);
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(Arrays.asList(shot), 1);
+
+        bounds.expandToPath(0, true);
+        assertTrue(bounds.isSwept(0));
+        assertEquals(90, bounds.left(0));
+        assertEquals(100, bounds.top(0));
+        assertEquals(120, bounds.right(0));
+        assertEquals(320, bounds.bottom(0));
+
+        bounds.refresh(0);
+        assertFalse(bounds.isSwept(0));
+        assertEquals(90, bounds.left(0));
+        assertEquals(100, bounds.top(0));
+        assertEquals(110, bounds.right(0));
+        assertEquals(120, bounds.bottom(0));
+    }
+
+    /** 여백을 뺀 히트박스끼리 겹치는지 (맞닿기만 하면 아님) */
+    private static boolean reference(Entity a, Entity b) {
+        int aw = a.getCollisionWidth() - 2 * M, ah = a.getCollisionHeight() - 2 * M;
+        int bw = b.getCollisionWidth() - 2 * M, bh = b.getCollisionHeight() - 2 * M;
+        if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) return false;
+        int ax = a.getX() + M, ay = a.getY() + M;
+        int bx = b.getX() + M, by = b.getY() + M;
+        return ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah;
+    }
+}
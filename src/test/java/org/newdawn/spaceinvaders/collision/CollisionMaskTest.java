@@ -0,0 +1,113 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 🎭 CollisionMask — 64비트 워드 단위 비교가 픽셀 하나씩 비교한 결과와 같은지 확인
+ * - 너비가 64 의 배수 근처/넘는 이미지와 워드 경계에 걸친 위치를 주로 봄
+ */
+public class CollisionMaskTest {
+    private static final int ALPHA_THRESHOLD = 128;
+
+    @Test
+    public void overlapsMatchesPerPixelReference() {
+        Random random = new Random(15);
+        int[] widths = {1, 7, 63, 64, 65, 100, 128, 130};
+        for (int round = 0; round < 400; round++) {
+            BufferedImage a = randomImage(random, widths[random.nextInt(widths.length)], 1 + random.nextInt(40));
+            BufferedImage b = randomImage(random, widths[random.nextInt(widths.length)], 1 + random.nextInt(40));
+            CollisionMask ma = CollisionMask.fromImage(a);
+            CollisionMask mb = CollisionMask.fromImage(b);
+            for (int k = 0; k < 20; k++) {
+                int ax = random.nextInt(200) - 100;
+                int ay = random.nextInt(60) - 30;
+                int bx = random.nextInt(200) - 100;
+                int by = random.nextInt(60) - 30;
+                boolean expected = referenceOverlaps(a, ax, ay, b, bx, by);
+                assertEquals(expected, ma.overlaps(ax, ay, mb, bx, by),
+                    "a " + a.getWidth() + "x" + a.getHeight() + " at " + ax + "," + ay
+                    + " b " + b.getWidth() + "x" + b.getHeight() + " at " + bx + "," + by);
+                assertEquals(expected, mb.overlaps(bx, by, ma, ax, ay), "reversed");
+            }
+        }
+    }
+
+    @Test
+    public void opaqueImagesAreSolid() {
+        BufferedImage rgb = new BufferedImage(70, 10, BufferedImage.TYPE_INT_RGB);
+        assertTrue(CollisionMask.fromImage(rgb).isSolid());
+
+        BufferedImage argb = new BufferedImage(70, 10, BufferedImage.TYPE_INT_ARGB);
+        fill(argb, 0xFF000000);
+        assertTrue(CollisionMask.fromImage(argb).isSolid());
+
+        argb.setRGB(69, 9, 0x7F000000);
+        assertFalse(CollisionMask.fromImage(argb).isSolid());
+    }
+
+    @Test
+    public void touchingEdgesDoNotOverlap() {
+        BufferedImage image = new BufferedImage(64, 8, BufferedImage.TYPE_INT_ARGB);
+        fill(image, 0xFF000000);
+        CollisionMask mask = CollisionMask.fromImage(image);
+        assertFalse(mask.overlaps(0, 0, mask, 64, 0));
+        assertFalse(mask.overlaps(0, 0, mask, 0, 8));
+        assertTrue(mask.overlaps(0, 0, mask, 63, 7));
+    }
+
+    @Test
+    public void transparentPixelsNeverOverlap() {
+        BufferedImage clear = new BufferedImage(90, 12, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage solid = new BufferedImage(90, 12, BufferedImage.TYPE_INT_ARGB);
+        fill(solid, 0xFFFFFFFF);
+        assertFalse(CollisionMask.fromImage(clear).overlaps(0, 0, CollisionMask.fromImage(solid), 0, 0));
+    }
+
+    /** 알파를 무작위로 (불투명 비율도 이미지마다 다르게) 채운 이미지 */
+    private static BufferedImage randomImage(Random random, int w, int h) {
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        int density = random.nextInt(5);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int alpha;
+                if (density == 4) alpha = 255;
+                else alpha = random.nextInt(4) < density ? 128 + random.nextInt(128) : random.nextInt(128);
+                image.setRGB(x, y, (alpha << 24) | 0x336699);
+            }
+        }
+        return image;
+    }
+
+    private static void fill(BufferedImage image, int argb) {
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+    }
+
+    /** 겹치는 영역의 픽셀을 하나씩 비교 */
+    private static boolean referenceOverlaps(BufferedImage a, int ax, int ay, BufferedImage b, int bx, int by) {
+        int x0 = Math.max(ax, bx);
+        int x1 = Math.min(ax + a.getWidth(), bx + b.getWidth());
+        int y0 = Math.max(ay, by);
+        int y1 = Math.min(ay + a.getHeight(), by + b.getHeight());
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                if (opaque(a, x - ax, y - ay) && opaque(b, x - bx, y - by)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean opaque(BufferedImage image, int x, int y) {
+        return (image.getRGB(x, y) >>> 24) >= ALPHA_THRESHOLD;
+    }
+}
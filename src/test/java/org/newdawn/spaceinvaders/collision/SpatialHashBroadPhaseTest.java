@@ -0,0 +1,97 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 🧱 SpatialHashBroadPhase — 격자 후보 중 정밀 검사까지 통과한 쌍이 전수 검사와 같은지 (순서 포함) 확인
+ * - 엔티티 수 10 / 200 / 2000, 밀도는 비슷하게 유지
+ * - 음수 좌표, 여러 칸에 걸친 큰 박스, 다른 칸 크기도 섞음
+ */
+public class SpatialHashBroadPhaseTest {
+    private static final int[] CATEGORIES = {
+        CollisionCategory.NONE, CollisionCategory.PLAYER, CollisionCategory.MONSTER,
+        CollisionCategory.PLAYER_SHOT, CollisionCategory.ENEMY_SHOT, CollisionCategory.SHIELD,
+        CollisionCategory.OBSTACLE, CollisionCategory.OTHER
+    };
+
+    @Test
+    public void pairsMatchBruteForceForTenEntities() {
+        checkRandomScene(10, 11);
+    }
+
+    @Test
+    public void pairsMatchBruteForceForTwoHundredEntities() {
+        checkRandomScene(200, 12);
+    }
+
+    @Test
+    public void pairsMatchBruteForceForTwoThousandEntities() {
+        checkRandomScene(2000, 13);
+    }
+
+    @Test
+    public void pairsMatchBruteForceForAnyCellSize() {
+        Random random = new Random(14);
+        List<Entity> entities = randomScene(random, 300, 600);
+        // 화면 전체에 걸친 박스 (모든 칸에 들어감)
+        entities.add(new BoxEntity(-50, -50, 900, 700, CollisionCategory.OTHER));
+
+        CollisionBounds bounds = new CollisionBounds();
+        bounds.rebuild(entities, entities.size());
+        List<String> expected = hits(new BruteForceBroadPhase(), bounds);
+        for (int cellSize : new int[] {1, 16, 50, 64, 256, 4096}) {
+            assertEquals(expected, hits(new SpatialHashBroadPhase(cellSize), bounds), "cell size " + cellSize);
+        }
+    }
+
+    /** 같은 격자 인스턴스로 여러 틱 (배열 재사용) 동안 전수 검사와 비교 */
+    private static void checkRandomScene(int count, long seed) {
+        Random random = new Random(seed);
+        int side = (int) Math.sqrt(count * 1200.0);
+        List<Entity> entities = randomScene(random, count, side);
+
+        CollisionBounds bounds = new CollisionBounds();
+        BroadPhase brute = new BruteForceBroadPhase();
+        BroadPhase hash = new SpatialHashBroadPhase();
+        int totalPairs = 0;
+        for (int tick = 0; tick < 20; tick++) {
+            for (Entity e : entities) {
+                BoxEntity box = (BoxEntity) e;
+                box.moveTo(box.getX() + random.nextInt(21) - 10, box.getY() + random.nextInt(21) - 10);
+            }
+            bounds.rebuild(entities, entities.size());
+            List<String> expected = hits(brute, bounds);
+            assertEquals(expected, hits(hash, bounds), count + " entities, tick " + tick);
+            totalPairs += expected.size();
+        }
+        assertTrue(totalPairs > 0, "the scene should produce some collisions");
+    }
+
+    /** broad phase 후보 중 정밀 검사에서도 겹치는 쌍 (보고된 순서대로) */
+    private static List<String> hits(BroadPhase broadPhase, CollisionBounds bounds) {
+        List<String> pairs = new ArrayList<>();
+        broadPhase.findPairs(bounds, (i, j) -> {
+            if (bounds.overlaps(i, j)) pairs.add(i + "," + j);
+        });
+        return pairs;
+    }
+
+    /** side x side 영역(원점 주변, 음수 포함)에 흩어진 박스 */
+    private static List<Entity> randomScene(Random random, int count, int side) {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(new BoxEntity(random.nextInt(side) - side / 4, random.nextInt(side) - side / 4,
+                4 + random.nextInt(60), 4 + random.nextInt(60),
+                CATEGORIES[random.nextInt(CATEGORIES.length)]));
+        }
+        return entities;
+    }
+}
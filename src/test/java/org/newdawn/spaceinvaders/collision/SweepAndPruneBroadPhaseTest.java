@@ -0,0 +1,80 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * ↔️ SweepAndPruneBroadPhase — 정밀 검사까지 거친 충돌 쌍이 전수 검사와 같은지 (순서 포함) 확인
+ * - 틱 사이에 끝점 목록을 유지하므로 여러 틱 동안 움직이고, 중간에 빼고/끼워 넣으며 비교
+ */
+public class SweepAndPruneBroadPhaseTest {
+    private static final int[] CATEGORIES = {
+        CollisionCategory.NONE, CollisionCategory.PLAYER, CollisionCategory.MONSTER,
+        CollisionCategory.PLAYER_SHOT, CollisionCategory.ENEMY_SHOT, CollisionCategory.SHIELD,
+        CollisionCategory.OBSTACLE, CollisionCategory.OTHER
+    };
+
+    @Test
+    public void pairsMatchBruteForceWhileEntitiesMoveAndChange() {
+        Random random = new Random(13);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 150; i++) entities.add(randomBox(random));
+
+        CollisionBounds bounds = new CollisionBounds();
+        BroadPhase brute = new BruteForceBroadPhase();
+        BroadPhase sap = new SweepAndPruneBroadPhase();
+        int totalPairs = 0;
+        for (int tick = 0; tick < 200; tick++) {
+            for (Entity e : entities) {
+                BoxEntity box = (BoxEntity) e;
+                box.moveTo(box.getX() + random.nextInt(9) - 4, box.getY() + random.nextInt(9) - 4);
+            }
+            if (tick % 7 == 0) entities.remove(random.nextInt(entities.size()));
+            if (tick % 5 == 0) entities.add(random.nextInt(entities.size() + 1), randomBox(random));
+
+            bounds.rebuild(entities, entities.size());
+            List<String> expected = hits(brute, bounds);
+            assertEquals(expected, hits(sap, bounds), "tick " + tick);
+            totalPairs += expected.size();
+        }
+        assertTrue(totalPairs > 0, "the scene should produce some collisions");
+    }
+
+    @Test
+    public void pairsMatchBruteForceForStackedBoxes() {
+        // 같은 x 에 겹쳐 쌓인 박스와 딱 맞닿은 박스 (끝점 값이 같은 경우)
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            entities.add(new BoxEntity(100, i * 10, 20, 20, i % 2 == 0 ? CollisionCategory.MONSTER : CollisionCategory.PLAYER_SHOT));
+            entities.add(new BoxEntity(120, i * 10, 20, 20, CollisionCategory.PLAYER_SHOT));
+        }
+        CollisionBounds bounds = new CollisionBounds();
+        BroadPhase sap = new SweepAndPruneBroadPhase();
+        for (int tick = 0; tick < 3; tick++) {
+            bounds.rebuild(entities, entities.size());
+            assertEquals(hits(new BruteForceBroadPhase(), bounds), hits(sap, bounds), "tick " + tick);
+        }
+    }
+
+    /** broad phase 후보 중 정밀 검사에서도 겹치는 쌍 (보고된 순서대로) */
+    private static List<String> hits(BroadPhase broadPhase, CollisionBounds bounds) {
+        List<String> pairs = new ArrayList<>();
+        broadPhase.findPairs(bounds, (i, j) -> {
+            if (bounds.overlaps(i, j)) pairs.add(i + "," + j);
+        });
+        return pairs;
+    }
+
+    private static BoxEntity randomBox(Random random) {
+        return new BoxEntity(random.nextInt(400), random.nextInt(300),
+            4 + random.nextInt(40), 4 + random.nextInt(40),
+            CATEGORIES[random.nextInt(CATEGORIES.length)]);
+    }
+}
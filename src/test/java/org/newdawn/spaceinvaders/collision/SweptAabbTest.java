@@ -0,0 +1,124 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 🎯 SweptAabb — 처음 겹치는 시각 계산과 NO_HIT 경계 (한 축 정지, 맞닿기만 함, 처음부터 겹침)
+ */
+public class SweptAabbTest {
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void verticalShotHitsBoxAtEntryTime() {
+        // 10x10 박스가 y=100 에서 위로 100 이동, 대상 아래쪽 변은 y=70 → 30px 뒤 (0.3)
+        double t = SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -100, 0, 50, 10, 20, 0, 0);
+        assertClose(0.3, t);
+    }
+
+    @Test
+    public void horizontalMoveHitsBoxAtEntryTime() {
+        double t = SweptAabb.timeOfImpact(0, 0, 10, 10, 40, 0, 30, 5, 10, 10, 0, 0);
+        assertClose(0.5, t);
+        // 왼쪽으로 움직여도 같은 거리면 같은 시각
+        t = SweptAabb.timeOfImpact(70, 0, 10, 10, -40, 0, 40, 5, 10, 10, 0, 0);
+        assertClose(0.5, t);
+    }
+
+    @Test
+    public void stationaryAxisMustAlreadyOverlap() {
+        // 세로로만 움직이는데 가로로 떨어져 있음 → 경로가 지나가도 안 맞음
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -100, 10, 50, 10, 20, 0, 0));
+        // 가로로 한 칸만 겹침 → 맞음
+        assertClose(0.3, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -100, 9, 50, 10, 20, 0, 0));
+    }
+
+    @Test
+    public void touchingOnlyIsNotAHit() {
+        // 가로로는 파고들지만 세로로는 변끼리 맞닿기만 함 (움직이지 않는 축)
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 0, 10, 10, 20, 0, 30, 10, 10, 10, 0, 0));
+        // 모서리만 스치고 지나감 → entry 가 exit 와 같음
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 0, 10, 10, 20, 20, 20, 0, 10, 10, 0, 0));
+    }
+
+    @Test
+    public void alreadyOverlappingAtStartIsNoHit() {
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 0, 10, 10, 0, -50, 5, 5, 10, 10, 0, 0));
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 0, 10, 10, 0, 0, 5, 5, 10, 10, 0, 0));
+    }
+
+    @Test
+    public void outOfReachOrMovingAwayIsNoHit() {
+        // 이번 틱 끝까지 닿지 못함 (entry > 1)
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -20, 0, 40, 10, 20, 0, 0));
+        // 반대 방향으로 움직임 (entry < 0)
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, 20, 0, 40, 10, 20, 0, 0));
+        // 두 축 다 움직이지 않고 떨어져 있음
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 0, 10, 10, 0, 0, 50, 50, 10, 10, 0, 0));
+    }
+
+    @Test
+    public void emptyBoxesNeverHit() {
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 0, 10, 0, -100, 0, 40, 10, 20, 0, 0));
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -100, 0, 40, 10, -1, 0, 0));
+    }
+
+    @Test
+    public void onlyRelativeMotionMatters() {
+        // 대상이 마주 오면 더 일찍 만남: 상대 이동 100px, 간격 30px
+        assertClose(0.3, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -50, 0, 50, 10, 20, 0, 50));
+        // 같은 속도로 나란히 움직이면 만나지 않음
+        assertEquals(SweptAabb.NO_HIT, SweptAabb.timeOfImpact(0, 100, 10, 10, 0, -50, 0, 40, 10, 20, 0, -50));
+    }
+
+    @Test
+    public void entryTimeMatchesSampledMotion() {
+        // 무작위 경로: 돌려준 시각 직후에는 겹치고, 그 전 시각들에는 겹치지 않아야 함
+        Random random = new Random(14);
+        int hits = 0;
+        for (int round = 0; round < 2000; round++) {
+            double ax = random.nextInt(200), ay = random.nextInt(200);
+            double aw = 1 + random.nextInt(30), ah = 1 + random.nextInt(30);
+            double amx = random.nextInt(301) - 150, amy = random.nextInt(301) - 150;
+            double bx = random.nextInt(200), by = random.nextInt(200);
+            double bw = 1 + random.nextInt(30), bh = 1 + random.nextInt(30);
+            double bmx = random.nextInt(41) - 20, bmy = random.nextInt(41) - 20;
+
+            double t = SweptAabb.timeOfImpact(ax, ay, aw, ah, amx, amy, bx, by, bw, bh, bmx, bmy);
+            if (overlapsAt(0, ax, ay, aw, ah, amx, amy, bx, by, bw, bh, bmx, bmy)) {
+                assertEquals(SweptAabb.NO_HIT, t, "overlapping at the start, round " + round);
+                continue;
+            }
+            if (t == SweptAabb.NO_HIT) continue;
+            hits++;
+            // 맞닿은 채 시작해서 파고들면 0
+            assertTrue(t >= 0 && t <= 1, "time in [0, 1], round " + round);
+            for (int k = 0; k < 20; k++) {
+                double before = t * k / 20;
+                assertTrue(!overlapsAt(before, ax, ay, aw, ah, amx, amy, bx, by, bw, bh, bmx, bmy),
+                    "overlapping before " + t + " at " + before + ", round " + round);
+            }
+            double after = Math.min(1, t + 1e-6);
+            if (after > t) {
+                assertTrue(overlapsAt(after, ax, ay, aw, ah, amx, amy, bx, by, bw, bh, bmx, bmy),
+                    "not overlapping just after " + t + ", round " + round);
+            }
+        }
+        assertTrue(hits > 50, "the random paths should produce some hits");
+    }
+
+    private static boolean overlapsAt(double t, double ax, double ay, double aw, double ah, double amx, double amy,
+                                      double bx, double by, double bw, double bh, double bmx, double bmy) {
+        double x0 = ax + amx * t, y0 = ay + amy * t;
+        double x1 = bx + bmx * t, y1 = by + bmy * t;
+        return x0 < x1 + bw && x1 < x0 + aw && y0 < y1 + bh && y1 < y0 + ah;
+    }
+
+    private static void assertClose(double expected, double actual) {
+        assertTrue(Math.abs(expected - actual) < EPS, "expected " + expected + " but was " + actual);
+    }
+}
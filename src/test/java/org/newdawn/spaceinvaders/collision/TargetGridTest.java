@@ -0,0 +1,97 @@
+package org.newdawn.spaceinvaders.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 🎯 TargetGrid — 질의 박스와 겹치는 대상이 후보에서 빠지지 않는지, 후보가 넣은 순서대로인지 확인
+ * - 이전 위치와 현재 위치 어느 쪽으로 겹쳐도 후보여야 함 (이동 경로 검사용)
+ * - 화면 밖으로 나간 대상/질의도 섞음
+ */
+public class TargetGridTest {
+
+    @Test
+    public void candidatesCoverEveryOverlappingTargetInAddOrder() {
+        Random random = new Random(18);
+        TargetGrid grid = new TargetGrid();
+        for (int round = 0; round < 50; round++) {
+            List<Mover> targets = new ArrayList<>();
+            grid.clear();
+            for (int i = 0, n = random.nextInt(120); i < n; i++) {
+                Mover e = new Mover(random.nextInt(1000) - 100, random.nextInt(800) - 100,
+                                    random.nextInt(81) - 40, random.nextInt(81) - 40);
+                targets.add(e);
+                grid.add(e);
+            }
+            assertEquals(targets.size(), grid.size());
+
+            for (int q = 0; q < 100; q++) {
+                int left = random.nextInt(1000) - 100;
+                int top = random.nextInt(800) - 100;
+                int right = left + 1 + random.nextInt(150);
+                int bottom = top + 1 + random.nextInt(150);
+                int n = grid.query(left, top, right, bottom);
+
+                List<Entity> found = new ArrayList<>();
+                for (int k = 0; k < n; k++) found.add(grid.candidate(k));
+                int last = -1;
+                for (Entity e : found) {
+                    int index = targets.indexOf(e);
+                    assertTrue(index > last, "candidates out of add order");
+                    last = index;
+                }
+                for (Mover e : targets) {
+                    if (e.touches(left, top, right, bottom)) {
+                        assertTrue(found.contains(e), "round " + round + " missed target at "
+                            + e.getX() + "," + e.getY() + " for " + left + "," + top + "-" + right + "," + bottom);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void clearDropsTargetsAndNullIsIgnored() {
+        TargetGrid grid = new TargetGrid();
+        grid.clear();
+        grid.add(new Mover(100, 100, 0, 0));
+        grid.add(null);
+        assertEquals(1, grid.size());
+        assertEquals(1, grid.query(90, 90, 120, 120));
+
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.query(0, 0, 800, 600));
+    }
+
+    /** 이번 틱에 (moveX, moveY) 만큼 움직인 대상 */
+    private static final class Mover extends Entity {
+        Mover(int x, int y, int moveX, int moveY) {
+            super("sprites/shot.png", x, y);
+            this.prevX = x - moveX;
+            this.prevY = y - moveY;
+        }
+
+        /** 이전 위치나 현재 위치의 충돌 박스가 질의 박스와 겹치는지 */
+        boolean touches(int left, int top, int right, int bottom) {
+            int w = getCollisionWidth(), h = getCollisionHeight();
+            return overlap(getX(), getY(), w, h, left, top, right, bottom)
+                || overlap(getPreviousX(), getPreviousY(), w, h, left, top, right, bottom);
+        }
+
+        private static boolean overlap(int x, int y, int w, int h, int left, int top, int right, int bottom) {
+            return x < right && left < x + w && y < bottom && top < y + h;
+        }
+
+        @Override
+        public void collidedWith(Entity other) {
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.newdawn.spaceinvaders.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.collision.CollisionCategory;
+import org.newdawn.spaceinvaders.collision.CollisionMask;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * ⚔️ CollisionManager — 한 틱에 멀리 움직인 투사체가 경로상 가장 먼저 닿은 대상 하나만 맞는지 (first hit wins)
+ * - 같은 시각이면 목록 앞쪽 대상, 제거 예정 대상은 건너뜀, 자기 판정이 거절하면 다음 대상
+ * - 총알(50x50, 여백 5)이 y=500 에서 위로 450 이동: y=300 대상은 160px, y=100 대상은 360px 뒤에 닿음
+ */
+public class CollisionManagerTest {
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void fastShotHitsNearestTargetOnly() {
+        Probe far = new Probe("far", 100, 100, CollisionCategory.MONSTER);
+        Probe near = new Probe("near", 100, 300, CollisionCategory.MONSTER);
+        Probe shot = shot();
+        run(far, shot, near);
+
+        assertEquals(Arrays.asList("shot<-near", "near<-shot"), log);
+        // 처음 닿은 위치로 되돌아감 (near 아래쪽 변 바로 아래)
+        assertEquals(340, shot.getY());
+    }
+
+    @Test
+    public void equalImpactTimeGoesToEarlierEntity() {
+        Probe left = new Probe("left", 100, 300, CollisionCategory.MONSTER);
+        Probe right = new Probe("right", 110, 300, CollisionCategory.MONSTER);
+        run(right, shot(), left);
+        assertEquals(Arrays.asList("shot<-right", "right<-shot"), log);
+
+        log.clear();
+        left = new Probe("left", 100, 300, CollisionCategory.MONSTER);
+        right = new Probe("right", 110, 300, CollisionCategory.MONSTER);
+        run(left, shot(), right);
+        assertEquals(Arrays.asList("shot<-left", "left<-shot"), log);
+    }
+
+    @Test
+    public void removedTargetIsSkipped() {
+        Probe far = new Probe("far", 100, 100, CollisionCategory.MONSTER);
+        Probe near = new Probe("near", 100, 300, CollisionCategory.MONSTER);
+        near.markRemoved();
+        Probe shot = shot();
+        run(far, shot, near);
+
+        assertEquals(Arrays.asList("shot<-far", "far<-shot"), log);
+        assertEquals(140, shot.getY());
+    }
+
+    @Test
+    public void rejectedCustomTargetFallsThroughToNext() {
+        Probe far = new Probe("far", 100, 100, CollisionCategory.MONSTER);
+        Probe shield = new Probe("shield", 100, 300, CollisionCategory.MONSTER);
+        shield.rejectAll = true;
+        Probe shot = shot();
+        run(far, shot, shield);
+
+        assertEquals(Arrays.asList("shot<-far", "far<-shot"), log);
+        assertEquals(140, shot.getY());
+    }
+
+    @Test
+    public void targetOfOtherCategoryIsIgnored() {
+        Probe far = new Probe("far", 100, 100, CollisionCategory.MONSTER);
+        Probe friend = new Probe("friend", 100, 300, CollisionCategory.PLAYER);
+        run(far, shot(), friend);
+        assertEquals(Arrays.asList("shot<-far", "far<-shot"), log);
+    }
+
+    /** 위로 450px 이동한 빠른 총알 (이동 전 위치는 savePreviousPosition 으로 기록됨) */
+    private Probe shot() {
+        Probe shot = new Probe("shot", 100, 500, CollisionCategory.PLAYER_SHOT);
+        shot.swept = true;
+        return shot;
+    }
+
+    private void run(Probe... probes) {
+        List<Entity> entities = new ArrayList<>(Arrays.asList(probes));
+        for (Entity e : entities) e.savePreviousPosition();
+        for (Probe p : probes) {
+            if (p.swept) {
+                p.setVerticalMovement(-300);
+                p.move(1500);
+            }
+        }
+        new CollisionManager(null, entities).checkCollisions();
+    }
+
+    /** 충돌을 기록만 하는 엔티티 (알파 마스크 없이 여백을 뺀 박스로 검사) */
+    private final class Probe extends Entity {
+        private final String name;
+        private final int category;
+        private boolean swept;
+        private boolean rejectAll;
+
+        Probe(String name, int x, int y, int category) {
+            super("sprites/shot.png", x, y);
+            this.name = name;
+            this.category = category;
+        }
+
+        @Override
+        public int getCollisionCategory() {
+            return category;
+        }
+
+        @Override
+        public CollisionMask getCollisionMask() {
+            return null;
+        }
+
+        @Override
+        public boolean isSwept() {
+            return swept;
+        }
+
+        @Override
+        public boolean hasCustomCollision() {
+            return rejectAll;
+        }
+
+        @Override
+        public boolean collidesWith(Entity other) {
+            return !rejectAll && super.collidesWith(other);
+        }
+
+        @Override
+        public void collidedWith(Entity other) {
+            log.add(name + "<-" + ((Probe) other).name);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.newdawn.spaceinvaders.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.EntityHandle;
+
+/**
+ * 🧹 EntityManager — 제거 표시 후 틱마다 한 번 정리할 때 순서/세대(EntityHandle)가 맞는지,
+ * 정리 전에 다시 추가된 엔티티가 중복되거나 빠지지 않는지 확인
+ */
+public class EntityManagerTest {
+    private final List<Entity> entities = new ArrayList<>();
+    private final List<Entity> removeList = new ArrayList<>();
+    private final EntityManager manager = new EntityManager(null, entities, removeList);
+
+    @Test
+    public void cleanupKeepsSurvivorsInOrder() {
+        Dummy a = add("a"), b = add("b"), c = add("c"), d = add("d");
+        manager.removeEntity(b);
+        manager.removeEntity(d);
+        manager.removeEntity(b);
+        assertEquals(2, removeList.size());
+        // 정리 전에는 목록에 그대로 있음 (이번 틱의 다른 처리가 인덱스를 그대로 씀)
+        assertEquals(Arrays.asList(a, b, c, d), entities);
+
+        manager.cleanupEntities();
+        assertEquals(Arrays.asList(a, c), entities);
+        assertEquals(0, removeList.size());
+        assertEquals(1, b.left);
+        assertEquals(1, d.left);
+    }
+
+    @Test
+    public void handleGoesStaleWhenRemovalIsScheduled() {
+        Dummy a = add("a");
+        EntityHandle<Dummy> handle = EntityHandle.of(a);
+        assertSame(a, handle.get());
+
+        manager.removeEntity(a);
+        assertNull(handle.get());
+        manager.cleanupEntities();
+        assertNull(handle.get());
+        assertTrue(handle.refersTo(a));
+    }
+
+    @Test
+    public void oldHandleStaysStaleAfterEntityComesBack() {
+        Dummy a = add("a");
+        EntityHandle<Dummy> old = EntityHandle.of(a);
+        manager.removeEntity(a);
+        manager.cleanupEntities();
+
+        // 풀에서 꺼낸 것처럼 같은 객체가 새 생애로 다시 들어옴
+        manager.addEntity(a);
+        EntityHandle<Dummy> fresh = EntityHandle.of(a);
+        assertNull(old.get());
+        assertSame(a, fresh.get());
+        assertFalse(old.isAlive());
+    }
+
+    @Test
+    public void clearEndsEveryLifetimeOnce() {
+        Dummy a = add("a"), b = add("b");
+        EntityHandle<Dummy> handle = EntityHandle.of(a);
+        manager.removeEntity(b);
+
+        manager.clear();
+        assertEquals(0, entities.size());
+        assertEquals(0, removeList.size());
+        assertEquals(1, a.left);
+        assertEquals(1, b.left);
+        assertNull(handle.get());
+    }
+
+    @Test
+    public void reAddBeforeCleanupKeepsOneLiveCopy() {
+        Dummy a = add("a");
+        manager.removeEntity(a);
+        manager.addEntity(a);
+        assertEquals(1, entities.size());
+        assertFalse(a.isRemoved());
+
+        manager.cleanupEntities();
+        assertEquals(Arrays.asList(a), entities);
+        assertEquals(0, a.left);
+        assertTrue(a.isInWorld());
+    }
+
+    @Test
+    public void reAddThenRemoveAgainLeavesOnce() {
+        Dummy a = add("a");
+        manager.removeEntity(a);
+        manager.addEntity(a);
+        manager.removeEntity(a);
+        // 제거 예약 목록에는 두 번 들어가지만 정리 때 한 번만 내보냄
+        assertEquals(2, removeList.size());
+
+        manager.cleanupEntities();
+        assertEquals(0, entities.size());
+        assertEquals(1, a.left);
+        assertFalse(a.isInWorld());
+    }
+
+    @Test
+    public void addingLiveEntityAgainIsIgnored() {
+        Dummy a = add("a");
+        EntityHandle<Dummy> handle = EntityHandle.of(a);
+        manager.addEntity(a);
+        assertEquals(1, entities.size());
+        assertSame(a, handle.get());
+    }
+
+    private Dummy add(String name) {
+        Dummy e = new Dummy(name);
+        manager.addEntity(e);
+        return e;
+    }
+
+    /** 빠진 횟수만 세는 엔티티 */
+    private static final class Dummy extends Entity {
+        private final String name;
+        private int left;
+
+        Dummy(String name) {
+            super("sprites/shot.png", 0, 0);
+            this.name = name;
+        }
+
+        @Override
+        public void leaveWorld() {
+            super.leaveWorld();
+            left++;
+        }
+
+        @Override
+        public void collidedWith(Entity other) {
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
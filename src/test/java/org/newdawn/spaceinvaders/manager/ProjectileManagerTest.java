@@ -0,0 +1,184 @@
+package org.newdawn.spaceinvaders.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.ObstacleEntity;
+import org.newdawn.spaceinvaders.render.RenderTarget;
+
+/**
+ * 🔫 ProjectileManager — 병렬 배열에서 맞바꾸기 제거 후에도 칸마다 같은 총알의 값이 남는지,
+ * 잔상 링이 총알을 따라가는지, 대상 목록 순서/가장 이른 충돌 규칙대로 맞는지 확인
+ */
+public class ProjectileManagerTest {
+    private static final String SHOT = "sprites/shot.png";
+    private static final String ENEMY_SHOT = "sprites/shot-removebg-preview.png";
+
+    private final List<Entity> entities = new ArrayList<>();
+    private final EntityManager entityManager = new EntityManager(null, entities, new ArrayList<>());
+    private final ProjectileManager projectiles = entityManager.getProjectiles();
+    private final List<String> hits = new ArrayList<>();
+
+    @Test
+    public void swapRemoveKeepsEachShotIntact() {
+        Owner a = new Owner(), b = new Owner(), c = new Owner(), d = new Owner(), e = new Owner();
+        projectiles.spawnPlayerShot(SHOT, 10, 300, -100, a, 1);
+        projectiles.spawnPlayerShot(SHOT, 20, -95, -1000, b, 1);          // 위로 나감
+        projectiles.spawnEnemyShot(ENEMY_SHOT, 30, 100, 0, 100, null, c);
+        projectiles.spawnEnemyShot(ENEMY_SHOT, 40, 645, 0, 1000, null, d); // 아래로 나감
+        projectiles.spawnPlayerShot(SHOT, 50, 200, -100, e, 1);
+
+        projectiles.update(10);
+
+        // b 자리에 마지막 e 가 들어오고, 마지막이던 d 는 그냥 빠짐
+        assertEquals(3, projectiles.size());
+        assertShot(0, a, ProjectileManager.PLAYER_SHOT, 10, 299);
+        assertShot(1, e, ProjectileManager.PLAYER_SHOT, 50, 199);
+        assertShot(2, c, ProjectileManager.ENEMY_SHOT, 30, 101);
+        assertEquals(2, projectiles.countOf(ProjectileManager.PLAYER_SHOT));
+        assertEquals(1, projectiles.countOf(ProjectileManager.ENEMY_SHOT));
+    }
+
+    @Test
+    public void trailFollowsShotAcrossSwapRemove() {
+        Owner owner = new Owner();
+        projectiles.spawnEnemyShot(ENEMY_SHOT, 400, 615, 0, 1000, null, owner); // 네 번째 이동에서 나감
+        projectiles.spawnEnemyShot(ENEMY_SHOT, 100, 100, 0, 1000, null, owner);
+
+        projectiles.update(10);
+        projectiles.update(10);
+        // 잔상 칸이 다 차기 전에는 총알만 그림
+        assertEquals(Arrays.asList("400,635", "100,120"), emitted());
+
+        projectiles.update(10);
+        projectiles.update(10);
+        // 남은 총알이 0 번 칸으로 옮겨져도 자기 잔상 (최근 것부터) + 현재 위치
+        assertEquals(1, projectiles.size());
+        assertEquals(Arrays.asList("100,130", "100,120", "100,110", "100,140"), emitted());
+
+        projectiles.update(10);
+        assertEquals(Arrays.asList("100,140", "100,130", "100,120", "100,150"), emitted());
+    }
+
+    @Test
+    public void slowShotHitsFirstListedOverlappingTarget() {
+        entityManager.addEntity(new Target("first", 110, 310));
+        entityManager.addEntity(new Target("second", 110, 310));
+        projectiles.spawnPlayerShot(SHOT, 100, 300, -100, new Owner(), 1);
+        projectiles.update(10);
+
+        projectiles.checkCollisions();
+        assertEquals(Arrays.asList("first"), hits);
+        assertEquals(0, projectiles.size());
+    }
+
+    @Test
+    public void fastShotHitsEarliestTargetOnItsPath() {
+        entityManager.addEntity(new Target("far", 100, 100));
+        entityManager.addEntity(new Target("near", 100, 300));
+        // 한 틱에 450px 이동 (500 → 50): 두 장애물을 모두 지나감
+        projectiles.spawnPlayerShot(SHOT, 100, 500, -45000, new Owner(), 1);
+        projectiles.update(10);
+
+        projectiles.checkCollisions();
+        assertEquals(Arrays.asList("near"), hits);
+    }
+
+    @Test
+    public void fastShotTieGoesToFirstListedTarget() {
+        entityManager.addEntity(new Target("right", 110, 300));
+        entityManager.addEntity(new Target("left", 100, 300));
+        projectiles.spawnPlayerShot(SHOT, 100, 500, -45000, new Owner(), 1);
+        projectiles.update(10);
+
+        projectiles.checkCollisions();
+        assertEquals(Arrays.asList("right"), hits);
+    }
+
+    @Test
+    public void removedTargetIsSkipped() {
+        entityManager.addEntity(new Target("far", 100, 100));
+        Target near = new Target("near", 100, 300);
+        entityManager.addEntity(near);
+        entityManager.removeEntity(near);
+        projectiles.spawnPlayerShot(SHOT, 100, 500, -45000, new Owner(), 1);
+        projectiles.update(10);
+
+        projectiles.checkCollisions();
+        assertEquals(Arrays.asList("far"), hits);
+    }
+
+    private void assertShot(int i, Entity owner, byte kind, double x, double y) {
+        assertEquals(owner.getId(), projectiles.getOwnerId(i), "owner of " + i);
+        assertEquals(kind, projectiles.getKind(i), "kind of " + i);
+        assertEquals(x, projectiles.getX(i), "x of " + i);
+        assertEquals(y, projectiles.getY(i), "y of " + i);
+    }
+
+    /** 이번 프레임에 그린 위치들 ("x,y", 그린 순서대로) */
+    private List<String> emitted() {
+        List<String> out = new ArrayList<>();
+        projectiles.emit(new RenderTarget() {
+            @Override
+            public void addSprite(Sprite sprite, int x, int y) {
+                out.add(x + "," + y);
+            }
+
+            @Override
+            public void addSprite(Sprite sprite, int x, int y, int w, int h, float alpha) {
+                out.add(x + "," + y);
+            }
+
+            @Override
+            public void addRect(Color color, int x, int y, int w, int h) {
+            }
+
+            @Override
+            public void addOval(Color color, int x, int y, int w, int h) {
+            }
+
+            @Override
+            public void addCutout(int x, int y, int w, int h) {
+            }
+
+            @Override
+            public void addText(String text, Font font, Color color, int x, int y) {
+            }
+        }, 1.0);
+        return out;
+    }
+
+    /** 맞으면 이름만 기록하고 부서지지 않는 장애물 (몬스터와 같은 대상 목록 규칙, 게임 없이 만들 수 있음) */
+    private final class Target extends ObstacleEntity {
+        private final String name;
+
+        Target(String name, int x, int y) {
+            super(null, x, y, "a");
+            this.name = name;
+        }
+
+        @Override
+        public void hitByShot() {
+            hits.add(name);
+        }
+    }
+
+    /** 총알을 쏜 쪽 (id 만 씀) */
+    private static final class Owner extends Entity {
+        Owner() {
+            super(SHOT, 0, 0);
+        }
+
+        @Override
+        public void collidedWith(Entity other) {
+        }
+    }
+}
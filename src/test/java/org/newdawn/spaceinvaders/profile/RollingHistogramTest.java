@@ -0,0 +1,101 @@
+package org.newdawn.spaceinvaders.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 📊 RollingHistogram — 칸 번호 ↔ 칸 상한 변환과 백분위 계산, 1초 슬롯이 밀려나는지 확인
+ */
+public class RollingHistogramTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void smallValuesHaveTheirOwnBucket() {
+        for (int v = 0; v < 16; v++) {
+            assertEquals(v, RollingHistogram.bucketOf(v));
+            assertEquals(v, RollingHistogram.highestOf(v));
+        }
+    }
+
+    @Test
+    public void highestOfIsLastValueOfItsBucket() {
+        for (int b = 0; b < RollingHistogram.BUCKETS - 1; b++) {
+            long highest = RollingHistogram.highestOf(b);
+            assertEquals(b, RollingHistogram.bucketOf(highest), "bucket " + b);
+            assertEquals(b + 1, RollingHistogram.bucketOf(highest + 1), "bucket after " + b);
+        }
+    }
+
+    @Test
+    public void bucketUpperBoundIsWithinOneSixteenth() {
+        Random random = new Random(24);
+        for (int k = 0; k < 100_000; k++) {
+            long value = random.nextLong() >>> (24 + random.nextInt(40));
+            long highest = RollingHistogram.highestOf(RollingHistogram.bucketOf(value));
+            assertTrue(highest >= value, "value " + value);
+            assertTrue(highest - value <= value / 16, "value " + value + " reported as " + highest);
+        }
+    }
+
+    @Test
+    public void hugeValuesGoToLastBucket() {
+        assertEquals(RollingHistogram.BUCKETS - 1, RollingHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(RollingHistogram.BUCKETS - 1, RollingHistogram.bucketOf(1L << 50));
+    }
+
+    @Test
+    public void percentilesOfUniformValues() {
+        RollingHistogram histogram = new RollingHistogram();
+        for (int v = 1; v <= 1000; v++) histogram.record(v, 0);
+
+        long[] counts = new long[RollingHistogram.BUCKETS];
+        long max = histogram.total(counts);
+        long n = RollingHistogram.count(counts);
+        assertEquals(1000, max);
+        assertEquals(1000, n);
+
+        assertEquals(1, RollingHistogram.percentile(counts, n, 0, max));
+        assertEquals(upperOf(500), RollingHistogram.percentile(counts, n, 50, max));
+        assertEquals(upperOf(990), RollingHistogram.percentile(counts, n, 99, max));
+        // 마지막 칸 상한(1023)이 아니라 실제 최댓값
+        assertEquals(1000, RollingHistogram.percentile(counts, n, 100, max));
+    }
+
+    @Test
+    public void percentileOfEmptyHistogramIsZero() {
+        long[] counts = new long[RollingHistogram.BUCKETS];
+        long max = new RollingHistogram().total(counts);
+        assertEquals(0, RollingHistogram.percentile(counts, RollingHistogram.count(counts), 99, max));
+    }
+
+    @Test
+    public void recentDropsOldSlots() {
+        RollingHistogram histogram = new RollingHistogram();
+        long start = 100 * SECOND;
+        histogram.record(5_000, start);
+        histogram.record(7_000, start + 2 * SECOND);
+
+        long[] counts = new long[RollingHistogram.BUCKETS];
+        assertEquals(7_000, histogram.recent(counts, start + 2 * SECOND));
+        assertEquals(2, RollingHistogram.count(counts));
+
+        // 첫 값은 5초 창 밖으로 밀려남
+        assertEquals(7_000, histogram.recent(counts, start + 5 * SECOND));
+        assertEquals(1, RollingHistogram.count(counts));
+
+        assertEquals(0, histogram.recent(counts, start + 10 * SECOND));
+        assertEquals(0, RollingHistogram.count(counts));
+
+        // 전체 누적은 그대로
+        assertEquals(7_000, histogram.total(counts));
+        assertEquals(2, RollingHistogram.count(counts));
+    }
+
+    private static long upperOf(long value) {
+        return RollingHistogram.highestOf(RollingHistogram.bucketOf(value));
+    }
+}